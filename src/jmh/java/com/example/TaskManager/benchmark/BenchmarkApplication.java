@@ -0,0 +1,43 @@
+package com.example.TaskManager.benchmark;
+
+import com.example.TaskManager.TaskManagerApplication;
+import lombok.experimental.UtilityClass;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@UtilityClass
+public class BenchmarkApplication {
+
+    private static final List<String> DEFAULT_PROPERTIES = List.of(
+            "server.port=0",
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+            "spring.jpa.properties.hibernate.order_inserts=true",
+            "logging.level.root=WARN",
+            "tasks.overdue.poll-interval-ms=3600000",
+            "analytics.sync.poll-interval-ms=3600000",
+            "notifications.outbox.poll-interval-ms=3600000",
+            "projects.counters.cron=-",
+            "tasks.stats.cron=-",
+            "activity.retention.cron=-",
+            "summary.cron=-",
+            "deadlines.upcoming.cron=-"
+    );
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        List<String> all = new ArrayList<>(DEFAULT_PROPERTIES);
+        all.add("spring.datasource.url=jdbc:h2:mem:benchmark-%s;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE".formatted(UUID.randomUUID()));
+        all.addAll(List.of(properties));
+
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                .profiles("test", "offline")
+                .properties(all.toArray(String[]::new))
+                .run();
+    }
+}
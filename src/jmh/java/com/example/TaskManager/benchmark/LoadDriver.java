@@ -0,0 +1,284 @@
+package com.example.TaskManager.benchmark;
+
+import com.example.TaskManager.seed.model.SeedPlan;
+import com.example.TaskManager.seed.model.SeedReport;
+import com.example.TaskManager.seed.service.DataSeeder;
+import com.example.TaskManager.seed.service.ZipfDistribution;
+import com.example.TaskManager.security.UserData;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.user.model.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+public class LoadDriver {
+
+    private enum Operation {
+        DASHBOARD, CREATE, COMPLETE
+    }
+
+    private final Map<String, String> options;
+    private final MockMvc mockMvc;
+    private final List<UUID> userIds;
+    private final List<Authentication> authentications;
+    private final List<Queue<UUID>> openTasks;
+    private final ZipfDistribution popularity;
+    private final int[] mix;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private LoadDriver(Map<String, String> options, ConfigurableApplicationContext context, SeedReport report) {
+        this.options = options;
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).apply(springSecurity()).build();
+        this.userIds = report.getUserIds();
+        this.authentications = userIds.stream().map(LoadDriver::authenticate).toList();
+        this.popularity = new ZipfDistribution(userIds.size(), Double.parseDouble(options.get("skew")));
+        this.mix = new int[]{intOption("dashboard"), intOption("create"), intOption("complete")};
+
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        this.openTasks = new ArrayList<>();
+        for (UUID userId : userIds) {
+            openTasks.add(new ConcurrentLinkedQueue<>(taskRepository.findAllByUserIdAndStatusAndDeletedFalse(userId, TaskStatus.TODO)
+                    .stream()
+                    .filter(task -> task.getProject() == null)
+                    .map(Task::getId)
+                    .toList()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start()) {
+            SeedReport report = context.getBean(DataSeeder.class).seed(SeedPlan.builder()
+                    .users(Integer.parseInt(options.get("users")))
+                    .tasksPerUser(Integer.parseInt(options.get("tasks-per-user")))
+                    .projectsPerUser(Integer.parseInt(options.get("projects-per-user")))
+                    .membersPerProject(Integer.parseInt(options.get("members-per-project")))
+                    .tagsPerProject(Integer.parseInt(options.get("tags-per-project")))
+                    .activitiesPerUser(Integer.parseInt(options.get("activities-per-user")))
+                    .skew(Double.parseDouble(options.get("skew")))
+                    .randomSeed(Long.parseLong(options.get("random-seed")))
+                    .password("load-password")
+                    .build());
+
+            System.out.printf("Seeded %d rows in %d ms%n", report.rows(), report.getElapsedMillis());
+
+            LoadDriver driver = new LoadDriver(options, context, report);
+            driver.run(Integer.parseInt(options.get("warmup")));
+            Map<Operation, Recorder> results = driver.run(Integer.parseInt(options.get("duration")));
+
+            driver.report(report, results);
+        }
+    }
+
+    private Map<Operation, Recorder> run(int seconds) throws Exception {
+        int threads = intOption("threads");
+        Map<Operation, Recorder> results = new LinkedHashMap<>();
+        Arrays.stream(Operation.values()).forEach(operation -> results.put(operation, new Recorder()));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            Random random = new Random(Long.parseLong(options.get("random-seed")) + i);
+            workers.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    execute(random, results);
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+
+        return results;
+    }
+
+    private void execute(Random random, Map<Operation, Recorder> results) {
+        int user = popularity.sample(random);
+        Operation operation = pick(random);
+        RequestBuilder request = switch (operation) {
+            case DASHBOARD -> get("/dashboard")
+                    .with(authentication(authentications.get(user)));
+            case CREATE -> post("/tasks/new-task")
+                    .param("title", "L-" + Long.toString(sequence.incrementAndGet(), 36))
+                    .param("description", "Load driver task")
+                    .param("priority", TaskPriority.values()[random.nextInt(TaskPriority.values().length)].name())
+                    .param("dueDate", LocalDateTime.now().plusDays(1 + random.nextInt(14)).toString())
+                    .with(authentication(authentications.get(user)))
+                    .with(csrf());
+            case COMPLETE -> {
+                UUID taskId = openTasks.get(user).poll();
+                if (taskId == null) {
+                    operation = Operation.DASHBOARD;
+                    yield get("/dashboard").with(authentication(authentications.get(user)));
+                }
+                yield patch("/tasks/{id}/task", taskId)
+                        .with(authentication(authentications.get(user)))
+                        .with(csrf());
+            }
+        };
+
+        long start = System.nanoTime();
+        boolean failed;
+        try {
+            int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+            failed = status >= 400;
+        } catch (Exception e) {
+            failed = true;
+        }
+
+        results.get(operation).record(System.nanoTime() - start, failed);
+    }
+
+    private Operation pick(Random random) {
+        int roll = random.nextInt(Arrays.stream(mix).sum());
+
+        for (int i = 0; i < mix.length; i++) {
+            if (roll < mix[i]) {
+                return Operation.values()[i];
+            }
+            roll -= mix[i];
+        }
+
+        return Operation.DASHBOARD;
+    }
+
+    private void report(SeedReport seed, Map<Operation, Recorder> results) throws Exception {
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("options", options);
+        output.put("seededRows", seed.rows());
+        output.put("seedMillis", seed.getElapsedMillis());
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        results.forEach((operation, recorder) -> {
+            Map<String, Object> summary = recorder.summary(Integer.parseInt(options.get("duration")));
+            operations.put(operation.name().toLowerCase(), summary);
+            System.out.printf("%-10s %s%n", operation.name().toLowerCase(), summary);
+        });
+        output.put("operations", operations);
+
+        File file = new File(options.get("result"));
+        file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, output);
+        System.out.printf("Results written to %s%n", file.getPath());
+    }
+
+    private int intOption(String name) {
+        return Integer.parseInt(options.get(name));
+    }
+
+    private static Authentication authenticate(UUID userId) {
+        UserData userData = new UserData(userId, null, null, true, UserRole.USER, null);
+
+        return new UsernamePasswordAuthenticationToken(userData, null, List.of(new SimpleGrantedAuthority("ROLE_" + UserRole.USER.name())));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>(Map.ofEntries(
+                Map.entry("users", "200"),
+                Map.entry("tasks-per-user", "100"),
+                Map.entry("projects-per-user", "5"),
+                Map.entry("members-per-project", "3"),
+                Map.entry("tags-per-project", "3"),
+                Map.entry("activities-per-user", "200"),
+                Map.entry("skew", "1.1"),
+                Map.entry("random-seed", "42"),
+                Map.entry("threads", "8"),
+                Map.entry("warmup", "10"),
+                Map.entry("duration", "30"),
+                Map.entry("dashboard", "70"),
+                Map.entry("create", "20"),
+                Map.entry("complete", "10"),
+                Map.entry("result", "target/load-result.json")
+        ));
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got [%s]".formatted(arg));
+            }
+
+            String key = arg.substring(2, arg.indexOf('='));
+            if (!options.containsKey(key)) {
+                throw new IllegalArgumentException("Unknown option [%s], known options are %s".formatted(key, options.keySet()));
+            }
+            options.put(key, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return options;
+    }
+
+    private static class Recorder {
+
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        private void record(long nanos, boolean failed) {
+            latencies.add(nanos);
+            if (failed) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private Map<String, Object> summary(int seconds) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            Map<String, Object> summary = new LinkedHashMap<>();
+
+            summary.put("count", sorted.length);
+            summary.put("errors", errors.get());
+            summary.put("throughputPerSecond", sorted.length / (double) seconds);
+            summary.put("p50Millis", percentile(sorted, 0.50));
+            summary.put("p99Millis", percentile(sorted, 0.99));
+            summary.put("maxMillis", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+
+            return summary;
+        }
+
+        private double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.TaskManager.benchmark;
+
+import com.example.TaskManager.activity.model.ActivityCategory;
+import com.example.TaskManager.activity.service.ActivityService;
+import com.example.TaskManager.project.model.ProjectStatus;
+import com.example.TaskManager.project.service.ProjectService;
+import com.example.TaskManager.security.UserData;
+import com.example.TaskManager.seed.model.SeedPlan;
+import com.example.TaskManager.seed.service.DataSeeder;
+import com.example.TaskManager.summary.service.SummaryService;
+import com.example.TaskManager.task.service.TaskService;
+import com.example.TaskManager.user.service.UserService;
+import com.example.TaskManager.web.DashboardController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadPathBenchmark {
+
+    @Param("50")
+    private int users;
+
+    @Param("200")
+    private int tasksPerUser;
+
+    @Param("10")
+    private int projectsPerUser;
+
+    @Param("2000")
+    private int activitiesPerUser;
+
+    @Param("3")
+    private int membersPerProject;
+
+    @Param("5")
+    private int tagsPerProject;
+
+    @Param("1.1")
+    private double skew;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private TaskService taskService;
+    private ProjectService projectService;
+    private ActivityService activityService;
+    private SummaryService summaryService;
+    private DashboardController dashboardController;
+    private List<UUID> userIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        userService = context.getBean(UserService.class);
+        taskService = context.getBean(TaskService.class);
+        projectService = context.getBean(ProjectService.class);
+        activityService = context.getBean(ActivityService.class);
+        summaryService = context.getBean(SummaryService.class);
+        dashboardController = context.getBean(DashboardController.class);
+        userIds = context.getBean(DataSeeder.class).seed(SeedPlan.builder()
+                .users(users)
+                .tasksPerUser(tasksPerUser)
+                .projectsPerUser(projectsPerUser)
+                .membersPerProject(membersPerProject)
+                .tagsPerProject(tagsPerProject)
+                .activitiesPerUser(activitiesPerUser)
+                .skew(skew)
+                .randomSeed(42)
+                .password("benchmark")
+                .build()).getUserIds();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object tasksPage() {
+        return taskService.buildTasksPageView(userService.getView(nextUser()));
+    }
+
+    @Benchmark
+    public Object dashboardPage() {
+        return dashboardController.getDashboardPage(UserData.builder().id(nextUser()).build());
+    }
+
+    @Benchmark
+    public Object projectsIncludedIn() {
+        return projectService.getProjectsIncludedIn(nextUser(), ProjectStatus.ACTIVE, 0);
+    }
+
+    @Benchmark
+    public Object activityByType() {
+        return activityService.getActivityByTypeAndUserId(nextUser(), ActivityCategory.TASK);
+    }
+
+    @Benchmark
+    public Object dailySummary() {
+        return summaryService.dailySummary(nextUser());
+    }
+
+    @Benchmark
+    public Object dailySummaryUncached() {
+        LocalDateTime to = LocalDateTime.now();
+
+        return summaryService.summarize(List.of(nextUser()), to.minusHours(24), to);
+    }
+
+    private UUID nextUser() {
+        cursor = (cursor + 1) % userIds.size();
+
+        return userIds.get(cursor);
+    }
+}
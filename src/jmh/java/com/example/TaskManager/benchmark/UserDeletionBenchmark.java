@@ -0,0 +1,75 @@
+package com.example.TaskManager.benchmark;
+
+import com.example.TaskManager.seed.model.SeedPlan;
+import com.example.TaskManager.seed.service.DataSeeder;
+import com.example.TaskManager.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDeletionBenchmark {
+
+    @Param("100000")
+    private int activities;
+
+    @Param("500")
+    private int tasks;
+
+    @Param("20")
+    private int projects;
+
+    private ConfigurableApplicationContext context;
+    private DataSeeder dataSeeder;
+    private UserService userService;
+    private UUID userId;
+    private long iteration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("activity.delete.inline-limit=" + Long.MAX_VALUE);
+        dataSeeder = context.getBean(DataSeeder.class);
+        userService = context.getBean(UserService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void seedUser() {
+        userId = dataSeeder.seed(SeedPlan.builder()
+                .users(1)
+                .tasksPerUser(tasks)
+                .projectsPerUser(projects)
+                .activitiesPerUser(activities)
+                .randomSeed(42 + iteration++)
+                .password("benchmark")
+                .build()).getUserIds().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object deleteUser() {
+        return userService.deleteUser(userId);
+    }
+}
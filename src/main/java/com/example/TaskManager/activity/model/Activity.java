@@ -13,6 +13,11 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_activity_user_type_created", columnList = "user_id, type, created_on DESC, deleted"),
+        @Index(name = "idx_activity_user_created", columnList = "user_id, created_on DESC, id DESC"),
+        @Index(name = "idx_activity_created", columnList = "created_on")
+})
 public class Activity {
 
     @Id
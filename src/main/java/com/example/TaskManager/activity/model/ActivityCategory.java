@@ -0,0 +1,5 @@
+package com.example.TaskManager.activity.model;
+
+public enum ActivityCategory {
+    TASK, PROJECT
+}
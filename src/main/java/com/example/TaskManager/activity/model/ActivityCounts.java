@@ -0,0 +1,8 @@
+package com.example.TaskManager.activity.model;
+
+public record ActivityCounts(long tasks, long projects) {
+
+    public long total() {
+        return tasks + projects;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.TaskManager.activity.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ActivityCursor(LocalDateTime createdOn, UUID id) {
+
+    public static ActivityCursor of(Activity activity) {
+        return new ActivityCursor(activity.getCreatedOn(), activity.getId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.TaskManager.activity.model;
+
+import java.util.List;
+
+public record ActivityFeedPage(List<Activity> items, ActivityCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
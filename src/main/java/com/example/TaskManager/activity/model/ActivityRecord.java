@@ -0,0 +1,7 @@
+package com.example.TaskManager.activity.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ActivityRecord(UUID userId, ActivityType type, String message, LocalDateTime createdOn) {
+}
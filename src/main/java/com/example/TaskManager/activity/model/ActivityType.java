@@ -2,19 +2,32 @@ package com.example.TaskManager.activity.model;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Getter
 public enum ActivityType {
 
-    TASK_COMPLETED,
-    TASK_UPDATED,
-    TASK_CREATED,
-    TASK_DELETED,
-    PROJECT_COMPLETED,
-    PROJECT_UPDATED,
-    PROJECT_CREATED,
-    PROJECT_DELETED,
-    PROJECT_TASK_COMPLETED,
-    PROJECT_TASK_UPDATED,
-    PROJECT_TASK_CREATED,
-    PROJECT_TASK_DELETED
+    TASK_COMPLETED(ActivityCategory.TASK),
+    TASK_UPDATED(ActivityCategory.TASK),
+    TASK_CREATED(ActivityCategory.TASK),
+    TASK_DELETED(ActivityCategory.TASK),
+    PROJECT_COMPLETED(ActivityCategory.PROJECT),
+    PROJECT_UPDATED(ActivityCategory.PROJECT),
+    PROJECT_CREATED(ActivityCategory.PROJECT),
+    PROJECT_DELETED(ActivityCategory.PROJECT),
+    PROJECT_TASK_COMPLETED(ActivityCategory.PROJECT),
+    PROJECT_TASK_UPDATED(ActivityCategory.PROJECT),
+    PROJECT_TASK_CREATED(ActivityCategory.PROJECT),
+    PROJECT_TASK_DELETED(ActivityCategory.PROJECT);
+
+    private final ActivityCategory category;
+
+    ActivityType(ActivityCategory category) {
+        this.category = category;
+    }
+
+    public static List<ActivityType> of(ActivityCategory category) {
+        return Arrays.stream(values()).filter(type -> type.category == category).toList();
+    }
 }
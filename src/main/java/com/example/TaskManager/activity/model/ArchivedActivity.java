@@ -0,0 +1,38 @@
+package com.example.TaskManager.activity.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "activity_archive", indexes = {
+        @Index(name = "idx_activity_archive_bucket_id", columnList = "bucket, id"),
+        @Index(name = "idx_activity_archive_user_created", columnList = "user_id, created_on DESC")
+})
+public class ArchivedActivity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private int bucket;
+
+    @Enumerated(EnumType.STRING)
+    private ActivityType type;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(nullable = false)
+    private LocalDateTime createdOn;
+}
@@ -0,0 +1,28 @@
+package com.example.TaskManager.activity.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "user_activity_stats", indexes = {
+        @Index(name = "idx_user_activity_stats_user", columnList = "user_id")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserActivityStats {
+
+    @EmbeddedId
+    private UserActivityStatsKey id;
+
+    @Column(nullable = false)
+    private long activityCount;
+}
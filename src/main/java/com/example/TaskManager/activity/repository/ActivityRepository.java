@@ -2,25 +2,62 @@ package com.example.TaskManager.activity.repository;
 
 import com.example.TaskManager.activity.model.Activity;
 import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.summary.model.UserActivityCount;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ActivityRepository extends JpaRepository<Activity, UUID> {
 
-    @Query("SELECT a FROM Activity a WHERE a.user.id = :id AND " +
-            "LOWER(CAST(a.type AS string)) LIKE LOWER(CONCAT('%', :typeText, '%')) ORDER BY a.createdOn DESC")
-    List<Activity> findByUserAndTypeText(@Param("id") UUID id, @Param("typeText") String typeText);
+    List<Activity> findAllByUserIdAndTypeInOrderByCreatedOnDesc(UUID userId, Collection<ActivityType> types, Pageable pageable);
 
     List<Activity> findAllByUserIdOrderByCreatedOnDesc(UUID userId);
 
-    long countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(UUID userId, ActivityType activityType, LocalDateTime yesterday, LocalDateTime now);
+    List<Activity> findAllByUserIdOrderByCreatedOnDesc(UUID userId, Pageable pageable);
 
-    void deleteAllByUserId(UUID id);
+    @Query("SELECT a FROM Activity a WHERE a.user.id = :userId ORDER BY a.createdOn DESC, a.id DESC")
+    List<Activity> findFeedFirstPage(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT a FROM Activity a WHERE a.user.id = :userId " +
+            "AND (a.createdOn < :createdOn OR (a.createdOn = :createdOn AND a.id < :id)) " +
+            "ORDER BY a.createdOn DESC, a.id DESC")
+    List<Activity> findFeedPageBefore(@Param("userId") UUID userId, @Param("createdOn") LocalDateTime createdOn,
+                                      @Param("id") UUID id, Pageable pageable);
+
+    long countByUserId(UUID userId);
+
+    @Query("SELECT new com.example.TaskManager.summary.model.UserActivityCount(a.user.id, a.type, COUNT(a)) FROM Activity a " +
+            "WHERE a.user.id = :userId GROUP BY a.user.id, a.type")
+    List<UserActivityCount> countByUserIdGroupByType(@Param("userId") UUID userId);
+
+    @Query("SELECT new com.example.TaskManager.summary.model.UserActivityCount(a.user.id, a.type, COUNT(a)) FROM Activity a " +
+            "WHERE a.id IN :ids GROUP BY a.user.id, a.type")
+    List<UserActivityCount> countByIdInGroupByUserAndType(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.example.TaskManager.summary.model.UserActivityCount(a.user.id, a.type, COUNT(a)) FROM Activity a " +
+            "WHERE a.user.id IN :userIds AND a.deleted = false AND a.type IN :types AND a.createdOn BETWEEN :from AND :to " +
+            "GROUP BY a.user.id, a.type")
+    List<UserActivityCount> countByUsersAndTypes(@Param("userIds") Collection<UUID> userIds, @Param("types") Collection<ActivityType> types,
+                                                 @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT a.id FROM Activity a WHERE a.createdOn < :before ORDER BY a.createdOn")
+    List<UUID> findIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Query("SELECT a.id FROM Activity a WHERE a.user.id = :userId")
+    List<UUID> findIdsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Activity a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,42 @@
+package com.example.TaskManager.activity.repository;
+
+import com.example.TaskManager.activity.model.ArchivedActivity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedActivityRepository extends JpaRepository<ArchivedActivity, UUID> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("INSERT INTO ArchivedActivity (id, userId, bucket, type, message, createdOn) " +
+            "SELECT a.id, a.user.id, extract(year from a.createdOn) * 100 + extract(month from a.createdOn), a.type, a.message, a.createdOn " +
+            "FROM Activity a WHERE a.id IN :ids")
+    int copyFromActivity(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT a.bucket FROM ArchivedActivity a WHERE a.bucket < :bucket ORDER BY a.bucket")
+    List<Integer> findBucketsBefore(@Param("bucket") int bucket);
+
+    @Query("SELECT a.id FROM ArchivedActivity a WHERE a.bucket = :bucket ORDER BY a.id")
+    List<UUID> findIdsInBucket(@Param("bucket") int bucket, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedActivity a WHERE a.bucket = :bucket AND a.id BETWEEN :first AND :last")
+    int deleteBucketRange(@Param("bucket") int bucket, @Param("first") UUID first, @Param("last") UUID last);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedActivity a WHERE a.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    List<ArchivedActivity> findAllByUserIdOrderByCreatedOnDesc(UUID userId);
+}
@@ -0,0 +1,38 @@
+package com.example.TaskManager.activity.repository;
+
+import com.example.TaskManager.activity.model.ActivityCategory;
+import com.example.TaskManager.activity.model.UserActivityStats;
+import com.example.TaskManager.activity.model.UserActivityStatsKey;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserActivityStatsRepository extends JpaRepository<UserActivityStats, UserActivityStatsKey> {
+
+    List<UserActivityStats> findAllByIdUserId(UUID userId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserActivityStats s SET s.activityCount = s.activityCount + :delta " +
+            "WHERE s.id.userId = :userId AND s.id.category = :category")
+    int increment(@Param("userId") UUID userId, @Param("category") ActivityCategory category, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO user_activity_stats (user_id, category, activity_count) VALUES (:userId, :category, :count) " +
+            "ON DUPLICATE KEY UPDATE activity_count = :count", nativeQuery = true)
+    int upsert(@Param("userId") UUID userId, @Param("category") String category, @Param("count") long count);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserActivityStats s WHERE s.id.userId IN :userIds")
+    int deleteInBulkByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+}
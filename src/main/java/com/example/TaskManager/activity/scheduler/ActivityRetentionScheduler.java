@@ -0,0 +1,38 @@
+package com.example.TaskManager.activity.scheduler;
+
+import com.example.TaskManager.activity.service.ActivityRetentionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+public class ActivityRetentionScheduler {
+
+    private final ActivityRetentionService activityRetentionService;
+    private final long hotDays;
+    private final long archiveMonths;
+
+    public ActivityRetentionScheduler(ActivityRetentionService activityRetentionService,
+                                      @Value("${activity.retention.hot-days:90}") long hotDays,
+                                      @Value("${activity.retention.archive-months:24}") long archiveMonths) {
+        this.activityRetentionService = activityRetentionService;
+        this.hotDays = hotDays;
+        this.archiveMonths = archiveMonths;
+    }
+
+    @Scheduled(cron = "${activity.retention.cron:0 30 3 * * *}")
+    public void applyRetention() {
+        LocalDateTime now = LocalDateTime.now();
+
+        long start = System.currentTimeMillis();
+        int archived = activityRetentionService.archiveCreatedBefore(now.minusDays(hotDays));
+        int purged = archiveMonths > 0 ? activityRetentionService.purgeArchiveBefore(now.minusMonths(archiveMonths)) : 0;
+
+        log.info("Archived [%d] activities and purged [%d] archived activities in [%d] ms"
+                .formatted(archived, purged, System.currentTimeMillis() - start));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.TaskManager.activity.service;
+
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.repository.ArchivedActivityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class ActivityRetentionService {
+
+    private final ActivityRepository activityRepository;
+    private final ArchivedActivityRepository archivedActivityRepository;
+    private final ActivityStatsService activityStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public ActivityRetentionService(ActivityRepository activityRepository, ArchivedActivityRepository archivedActivityRepository,
+                                    ActivityStatsService activityStatsService, PlatformTransactionManager transactionManager,
+                                    @Value("${activity.retention.chunk-size:1000}") int chunkSize,
+                                    @Value("${activity.retention.max-chunks:500}") int maxChunks) {
+        this.activityRepository = activityRepository;
+        this.archivedActivityRepository = archivedActivityRepository;
+        this.activityStatsService = activityStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+    }
+
+    public int archiveCreatedBefore(LocalDateTime cutoff) {
+        int total = 0;
+
+        for (int i = 0; i < maxChunks; i++) {
+            Integer moved = transactionTemplate.execute(status -> moveChunk(cutoff));
+            total += moved;
+
+            if (moved < chunkSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+
+    public int purgeArchiveBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int chunks = 0;
+
+        for (Integer bucket : archivedActivityRepository.findBucketsBefore(bucketOf(cutoff))) {
+            int deleted;
+
+            do {
+                if (chunks++ >= maxChunks) {
+                    return total;
+                }
+
+                deleted = transactionTemplate.execute(status -> deleteChunk(bucket));
+                total += deleted;
+            } while (deleted >= chunkSize);
+        }
+
+        return total;
+    }
+
+    public static int bucketOf(LocalDateTime createdOn) {
+        return createdOn.getYear() * 100 + createdOn.getMonthValue();
+    }
+
+    private int deleteChunk(int bucket) {
+        List<UUID> ids = archivedActivityRepository.findIdsInBucket(bucket, PageRequest.of(0, chunkSize));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return archivedActivityRepository.deleteBucketRange(bucket, ids.get(0), ids.get(ids.size() - 1));
+    }
+
+    private int moveChunk(LocalDateTime cutoff) {
+        List<UUID> ids = activityRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, chunkSize));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedActivityRepository.copyFromActivity(ids);
+        activityStatsService.remove(activityRepository.countByIdInGroupByUserAndType(ids));
+        return activityRepository.deleteAllByIdIn(ids);
+    }
+}
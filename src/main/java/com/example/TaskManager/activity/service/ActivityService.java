@@ -1,29 +1,68 @@
 package com.example.TaskManager.activity.service;
 
 import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityCategory;
+import com.example.TaskManager.activity.model.ActivityCounts;
+import com.example.TaskManager.activity.model.ActivityCursor;
+import com.example.TaskManager.activity.model.ActivityFeedPage;
+import com.example.TaskManager.activity.model.ActivityRecord;
 import com.example.TaskManager.activity.model.ActivityType;
 import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.repository.ArchivedActivityRepository;
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.service.JobRegistry;
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.summary.service.SummaryCache;
 import com.example.TaskManager.task.model.Task;
 import com.example.TaskManager.user.model.User;
 import com.example.TaskManager.utils.ActivityUtils;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.LongConsumer;
 
 @Service
 public class ActivityService {
 
     private final ActivityRepository activityRepository;
+    private final ArchivedActivityRepository archivedActivityRepository;
+    private final ActivityWriter activityWriter;
+    private final ActivityStatsService activityStatsService;
+    private final SummaryCache summaryCache;
+    private final JobRegistry jobRegistry;
+    private final MeterRegistry meterRegistry;
+    private final int feedPageSize;
+    private final int deleteChunkSize;
+    private final long deleteInlineLimit;
 
-    public ActivityService(ActivityRepository activityRepository) {
+    public ActivityService(ActivityRepository activityRepository, ArchivedActivityRepository archivedActivityRepository,
+                           ActivityWriter activityWriter, ActivityStatsService activityStatsService, SummaryCache summaryCache, JobRegistry jobRegistry,
+                           MeterRegistry meterRegistry,
+                           @Value("${activity.feed.page-size:20}") int feedPageSize,
+                           @Value("${activity.delete.chunk-size:1000}") int deleteChunkSize,
+                           @Value("${activity.delete.inline-limit:5000}") long deleteInlineLimit) {
         this.activityRepository = activityRepository;
+        this.archivedActivityRepository = archivedActivityRepository;
+        this.activityWriter = activityWriter;
+        this.activityStatsService = activityStatsService;
+        this.summaryCache = summaryCache;
+        this.jobRegistry = jobRegistry;
+        this.meterRegistry = meterRegistry;
+        this.feedPageSize = feedPageSize;
+        this.deleteChunkSize = deleteChunkSize;
+        this.deleteInlineLimit = deleteInlineLimit;
     }
 
     public void createActivity(ActivityType activityType, User user, Object object) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         String message = switch (activityType) {
             case TASK_CREATED -> "Added new task \"%s\"";
             case TASK_UPDATED -> "Updated task \"%s\"";
@@ -38,47 +77,105 @@ public class ActivityService {
             case PROJECT_TASK_CREATED -> "Created task \"%s\" in project \"%s\"";
             case PROJECT_TASK_DELETED -> "Deleted task \"%s\" in project \"%s\"";
         };
-        Activity activity = Activity.builder()
-                .message("")
-                .user(user)
-                .createdOn(LocalDateTime.now())
-                .type(activityType)
-                .updatedOn(LocalDateTime.now())
-                .build();
+        String text = "";
 
         if (object instanceof Task task) {
             if (task.getProject() != null) {
-                activity.setMessage(message.formatted(task.getTitle(), task.getProject().getTitle()));
+                text = message.formatted(task.getTitle(), task.getProject().getTitle());
             }  else {
-                activity.setMessage(message.formatted(task.getTitle()));
+                text = message.formatted(task.getTitle());
             }
         } else if (object instanceof Project project) {
-            activity.setMessage(message.formatted(project.getTitle()));
+            text = message.formatted(project.getTitle());
         }
 
-        ActivityUtils.setActivityCreatedDateFormatted(activity);
-        activityRepository.save(activity);
+        LocalDateTime createdOn = LocalDateTime.now();
+        activityWriter.enqueue(new ActivityRecord(user.getId(), activityType, text, createdOn));
+        summaryCache.recordActivity(user.getId(), activityType, createdOn);
+        sample.stop(meterRegistry.timer("activity.create.latency", "type", activityType.name(), "category", activityType.getCategory().name()));
     }
 
     public List<Activity> getByUserId(UUID id) {
         return activityRepository.findAllByUserIdOrderByCreatedOnDesc(id);
     }
 
-    public List<Activity> getActivityByTypeAndUserId(UUID id, String typeText) {
+    public List<Activity> getActivityByTypeAndUserId(UUID id, ActivityCategory category) {
+        List<Activity> list = category == null
+                ? getByUserId(id)
+                : activityRepository.findAllByUserIdAndTypeInOrderByCreatedOnDesc(id, ActivityType.of(category), Pageable.unpaged());
 
-        if (typeText == null) {
-            List<Activity> list = getByUserId(id);
-            list.forEach(ActivityUtils::setActivityCreatedDateFormatted);
-            return list;
-        }
+        list.forEach(ActivityUtils::setActivityCreatedDateFormatted);
+        return list;
+    }
+
+    public List<Activity> getRecentActivity(UUID id, int limit) {
+        List<Activity> list = activityRepository.findAllByUserIdOrderByCreatedOnDesc(id, PageRequest.of(0, limit));
 
-        List<Activity> list = activityRepository.findByUserAndTypeText(id, typeText);
         list.forEach(ActivityUtils::setActivityCreatedDateFormatted);
         return list;
     }
 
-    @Transactional
-    public void deleteActivity(UUID id) {
-        activityRepository.deleteAllByUserId(id);
+    public List<Activity> getRecentActivity(UUID id, ActivityCategory category, int limit) {
+        List<Activity> list = activityRepository.findAllByUserIdAndTypeInOrderByCreatedOnDesc(id, ActivityType.of(category), PageRequest.of(0, limit));
+
+        list.forEach(ActivityUtils::setActivityCreatedDateFormatted);
+        return list;
+    }
+
+    public ActivityFeedPage getFeed(UUID userId, ActivityCursor cursor) {
+        Pageable limit = PageRequest.of(0, feedPageSize + 1);
+
+        List<Activity> rows = cursor == null
+                ? activityRepository.findFeedFirstPage(userId, limit)
+                : activityRepository.findFeedPageBefore(userId, cursor.createdOn(), cursor.id(), limit);
+
+        List<Activity> items = rows.size() > feedPageSize ? rows.subList(0, feedPageSize) : rows;
+        ActivityCursor next = rows.size() > feedPageSize ? ActivityCursor.of(items.get(items.size() - 1)) : null;
+
+        items.forEach(ActivityUtils::setActivityCreatedDateFormatted);
+        return new ActivityFeedPage(items, next);
+    }
+
+    public long countByUserId(UUID id) {
+        return activityRepository.countByUserId(id);
+    }
+
+    public ActivityCounts getCounts(UUID id) {
+        return activityStatsService.getCounts(id);
+    }
+
+    public Optional<JobProgress> deleteActivity(UUID id) {
+        activityWriter.flush();
+        long total = activityRepository.countByUserId(id);
+
+        if (total <= deleteInlineLimit) {
+            purgeActivity(id, deleted -> {});
+            return Optional.empty();
+        }
+
+        return Optional.of(jobRegistry.submit("activity-delete", total, progress -> purgeActivity(id, progress::advance)));
+    }
+
+    public long purgeActivity(UUID id, LongConsumer onChunk) {
+        activityWriter.flush();
+        long total = 0;
+        List<UUID> ids;
+
+        do {
+            ids = activityRepository.findIdsByUserId(id, PageRequest.of(0, deleteChunkSize));
+
+            if (!ids.isEmpty()) {
+                int deleted = activityRepository.deleteAllByIdIn(ids);
+                total += deleted;
+                onChunk.accept(deleted);
+            }
+        } while (ids.size() == deleteChunkSize);
+
+        activityStatsService.removeUser(id);
+        return total + archivedActivityRepository.deleteAllByUserId(id);
+    }
+
+    public JobProgress getDeleteProgress(UUID jobId) {
+        return jobId == null ? null : jobRegistry.get(jobId).orElse(null);
     }
 }
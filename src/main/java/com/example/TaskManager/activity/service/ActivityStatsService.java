@@ -0,0 +1,70 @@
+package com.example.TaskManager.activity.service;
+
+import com.example.TaskManager.activity.model.ActivityCategory;
+import com.example.TaskManager.activity.model.ActivityCounts;
+import com.example.TaskManager.activity.model.ActivityRecord;
+import com.example.TaskManager.activity.model.UserActivityStats;
+import com.example.TaskManager.activity.model.UserActivityStatsKey;
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.repository.UserActivityStatsRepository;
+import com.example.TaskManager.summary.model.UserActivityCount;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class ActivityStatsService {
+
+    private final UserActivityStatsRepository userActivityStatsRepository;
+    private final ActivityRepository activityRepository;
+
+    public ActivityStatsService(UserActivityStatsRepository userActivityStatsRepository, ActivityRepository activityRepository) {
+        this.userActivityStatsRepository = userActivityStatsRepository;
+        this.activityRepository = activityRepository;
+    }
+
+    public ActivityCounts getCounts(UUID userId) {
+        List<UserActivityStats> stats = userActivityStatsRepository.findAllByIdUserId(userId);
+        Map<ActivityCategory, Long> counts = stats.isEmpty()
+                ? rebuild(userId)
+                : stats.stream().collect(Collectors.toMap(row -> row.getId().getCategory(), UserActivityStats::getActivityCount));
+
+        return new ActivityCounts(counts.getOrDefault(ActivityCategory.TASK, 0L), counts.getOrDefault(ActivityCategory.PROJECT, 0L));
+    }
+
+    public void record(Collection<ActivityRecord> records) {
+        records.stream()
+                .collect(Collectors.groupingBy(record -> new UserActivityStatsKey(record.userId(), record.type().getCategory()), Collectors.counting()))
+                .forEach((key, count) -> userActivityStatsRepository.increment(key.getUserId(), key.getCategory(), count));
+    }
+
+    public void remove(Collection<UserActivityCount> counts) {
+        counts.stream()
+                .collect(Collectors.groupingBy(row -> new UserActivityStatsKey(row.getUserId(), row.getType().getCategory()),
+                        Collectors.summingLong(UserActivityCount::getCount)))
+                .forEach((key, count) -> userActivityStatsRepository.increment(key.getUserId(), key.getCategory(), -count));
+    }
+
+    public void removeUser(UUID userId) {
+        userActivityStatsRepository.deleteInBulkByUserIdIn(List.of(userId));
+    }
+
+    private Map<ActivityCategory, Long> rebuild(UUID userId) {
+        Map<ActivityCategory, Long> counts = new EnumMap<>(ActivityCategory.class);
+
+        for (UserActivityCount row : activityRepository.countByUserIdGroupByType(userId)) {
+            counts.merge(row.getType().getCategory(), row.getCount(), Long::sum);
+        }
+
+        for (ActivityCategory category : ActivityCategory.values()) {
+            userActivityStatsRepository.upsert(userId, category.name(), counts.getOrDefault(category, 0L));
+        }
+
+        return counts;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.TaskManager.activity.service;
+
+import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityRecord;
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.utils.ActivityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class ActivityWriter {
+
+    private final ActivityRepository activityRepository;
+    private final UserRepository userRepository;
+    private final ActivityStatsService activityStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final BlockingQueue<ActivityRecord> buffer;
+    private final int batchSize;
+    private final boolean flushOnShutdown;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    public ActivityWriter(ActivityRepository activityRepository, UserRepository userRepository, ActivityStatsService activityStatsService,
+                          PlatformTransactionManager transactionManager,
+                          @Qualifier("activityWriterExecutor") Executor executor, MeterRegistry meterRegistry,
+                          @Value("${activity.writer.buffer-capacity:10000}") int bufferCapacity,
+                          @Value("${activity.writer.batch-size:50}") int batchSize,
+                          @Value("${activity.writer.flush-on-shutdown:true}") boolean flushOnShutdown) {
+        this.activityRepository = activityRepository;
+        this.userRepository = userRepository;
+        this.activityStatsService = activityStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushOnShutdown = flushOnShutdown;
+
+        this.flushTimer = Timer.builder("activity.writer.flush.latency").register(meterRegistry);
+        this.writtenCounter = Counter.builder("activity.writer.records").tag("result", "written").register(meterRegistry);
+        this.failedCounter = Counter.builder("activity.writer.records").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("activity.writer.buffer.depth", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public void enqueue(ActivityRecord record) {
+        afterCommit(() -> offer(record));
+    }
+
+    @Scheduled(fixedDelayString = "${activity.writer.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+
+        try {
+            List<ActivityRecord> batch = new ArrayList<>(batchSize);
+
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int depth() {
+        return buffer.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushOnShutdown) {
+            flush();
+            log.info("Flushed activity buffer on shutdown");
+        } else if (!buffer.isEmpty()) {
+            log.warn("Discarding [%d] buffered activities on shutdown".formatted(buffer.size()));
+        }
+    }
+
+    private void offer(ActivityRecord record) {
+        while (!buffer.offer(record)) {
+            flush();
+        }
+
+        if (buffer.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    flushScheduled.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void write(List<ActivityRecord> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                activityRepository.saveAll(batch.stream().map(this::toEntity).toList());
+                activityStatsService.record(batch);
+            }));
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                log.warn("Failed to write batch of [%d] activities due to %s, retrying one by one".formatted(batch.size(), e.getMessage()));
+                batch.forEach(record -> write(List.of(record)));
+                return;
+            }
+
+            failedCounter.increment();
+            log.error("Dropped activity [%s] for user [%s] due to %s".formatted(batch.get(0).type(), batch.get(0).userId(), e.getMessage()));
+        }
+    }
+
+    private Activity toEntity(ActivityRecord record) {
+        Activity activity = Activity.builder()
+                .user(userRepository.getReferenceById(record.userId()))
+                .type(record.type())
+                .message(record.message())
+                .createdOn(record.createdOn())
+                .updatedOn(record.createdOn())
+                .build();
+
+        ActivityUtils.setActivityCreatedDateFormatted(activity);
+        return activity;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -11,7 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.UUID;
 
-@FeignClient(name = "analytics-svc", url = "http://localhost:8081/api/v1")
+@FeignClient(name = "analytics-svc", url = "${clients.analytics-svc.url:http://localhost:8081/api/v1}")
 public interface AnalyticsClient {
 
     @PostMapping("/tasks/{userId}")
@@ -0,0 +1,50 @@
+package com.example.TaskManager.analytics.client;
+
+import com.example.TaskManager.analytics.client.dto.ProjectAnalyticsRequest;
+import com.example.TaskManager.analytics.client.dto.ProjectAnalyticsResponse;
+import com.example.TaskManager.analytics.client.dto.TaskAnalyticsRequest;
+import com.example.TaskManager.analytics.client.dto.TaskAnalyticsResponse;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Primary
+@Component
+@Profile("offline")
+public class OfflineAnalyticsClient implements AnalyticsClient {
+
+    private final AtomicLong calls = new AtomicLong();
+
+    @Override
+    public ResponseEntity<Void> upsertTasks(List<TaskAnalyticsRequest> requestBody, UUID userId) {
+        calls.incrementAndGet();
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public TaskAnalyticsResponse getTaskAnalytics(UUID userId) {
+        calls.incrementAndGet();
+        return TaskAnalyticsResponse.builder().build();
+    }
+
+    @Override
+    public ResponseEntity<Void> upsertProjects(List<ProjectAnalyticsRequest> requestBody, UUID userId) {
+        calls.incrementAndGet();
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public ProjectAnalyticsResponse getProjectAnalytics(UUID userId) {
+        calls.incrementAndGet();
+        return ProjectAnalyticsResponse.builder().build();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+}
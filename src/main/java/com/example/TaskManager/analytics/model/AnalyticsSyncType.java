@@ -0,0 +1,8 @@
+package com.example.TaskManager.analytics.model;
+
+public enum AnalyticsSyncType {
+
+    TASKS,
+    PROJECTS
+
+}
@@ -0,0 +1,203 @@
+package com.example.TaskManager.analytics.service;
+
+import com.example.TaskManager.analytics.client.AnalyticsClient;
+import com.example.TaskManager.analytics.client.dto.ProjectAnalyticsRequest;
+import com.example.TaskManager.analytics.client.dto.TaskAnalyticsRequest;
+import com.example.TaskManager.analytics.model.AnalyticsSyncType;
+import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class AnalyticsSyncService {
+
+    private final AnalyticsClient analyticsClient;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final Executor executor;
+    private final Duration coalesceWindow;
+    private final Duration watermarkOverlap;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final Map<SyncKey, Pending> pending = new ConcurrentHashMap<>();
+    private final Cache<SyncKey, LocalDateTime> watermarks;
+    private final Set<SyncKey> inFlight = ConcurrentHashMap.newKeySet();
+
+    public AnalyticsSyncService(AnalyticsClient analyticsClient, TaskRepository taskRepository, ProjectRepository projectRepository,
+                                @Qualifier("analyticsSyncExecutor") Executor executor,
+                                @Value("${analytics.sync.coalesce-window-ms:2000}") long coalesceWindowMs,
+                                @Value("${analytics.sync.watermark-overlap-ms:60000}") long watermarkOverlapMs,
+                                @Value("${analytics.sync.base-backoff-ms:5000}") long baseBackoffMs,
+                                @Value("${analytics.sync.max-backoff-ms:300000}") long maxBackoffMs,
+                                @Value("${analytics.sync.watermark-max-size:100000}") long watermarkMaxSize,
+                                @Value("${analytics.sync.watermark-idle-hours:24}") long watermarkIdleHours) {
+        this.analyticsClient = analyticsClient;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.executor = executor;
+        this.coalesceWindow = Duration.ofMillis(coalesceWindowMs);
+        this.watermarkOverlap = Duration.ofMillis(watermarkOverlapMs);
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.watermarks = Caffeine.newBuilder()
+                .maximumSize(watermarkMaxSize)
+                .expireAfterAccess(Duration.ofHours(watermarkIdleHours))
+                .build();
+    }
+
+    public void markDirty(AnalyticsSyncType type, UUID userId) {
+        SyncKey key = new SyncKey(type, userId);
+
+        afterCommit(() -> pending.putIfAbsent(key, new Pending(LocalDateTime.now().plus(coalesceWindow), 0)));
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.sync.poll-interval-ms:1000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Map.Entry<SyncKey, Pending> entry : pending.entrySet()) {
+            SyncKey key = entry.getKey();
+            Pending next = entry.getValue();
+
+            if (next.dueAt().isAfter(now) || !inFlight.add(key)) {
+                continue;
+            }
+
+            pending.remove(key, next);
+
+            try {
+                executor.execute(() -> sync(key, next.attempts()));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(key);
+                pending.merge(key, next, (current, rejected) -> current);
+                log.warn("Analytics sync queue is full, [%d] users left pending".formatted(pending.size()));
+                return;
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void sync(SyncKey key, int attempts) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = watermarks.getIfPresent(key);
+
+        try {
+            int sent = key.type() == AnalyticsSyncType.TASKS
+                    ? sendTasks(key.userId(), since)
+                    : sendProjects(key.userId(), since);
+
+            watermarks.put(key, startedAt);
+            log.info("Synced [%d] changed %s for user [%s]".formatted(sent, key.type().name().toLowerCase(), key.userId()));
+        } catch (RuntimeException e) {
+            Duration backoff = backoff(attempts + 1);
+            pending.merge(key, new Pending(LocalDateTime.now().plus(backoff), attempts + 1), (current, retry) -> retry);
+            log.error("[S2S Call]: Failed due to %s, retrying in [%d] ms".formatted(e.getMessage(), backoff.toMillis()));
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    private int sendTasks(UUID userId, LocalDateTime since) {
+        List<Task> tasks = since == null
+                ? taskRepository.findAllByUserIdAndProjectNull(userId)
+                : taskRepository.findAllByUserIdAndProjectNullAndUpdatedOnAfter(userId, since.minus(watermarkOverlap));
+
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        analyticsClient.upsertTasks(tasks.stream().map(this::toRequest).toList(), userId);
+
+        return tasks.size();
+    }
+
+    private int sendProjects(UUID userId, LocalDateTime since) {
+        List<Project> projects = since == null
+                ? projectRepository.findAllByUserId(userId)
+                : projectRepository.findAllByUserIdAndUpdatedOnAfter(userId, since.minus(watermarkOverlap));
+
+        if (projects.isEmpty()) {
+            return 0;
+        }
+
+        analyticsClient.upsertProjects(projects.stream().map(this::toRequest).toList(), userId);
+
+        return projects.size();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private TaskAnalyticsRequest toRequest(Task task) {
+        return TaskAnalyticsRequest.builder()
+                .userId(task.getUser().getId())
+                .taskId(task.getId())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .createdOn(task.getCreatedOn())
+                .dueDate(task.getDueDate())
+                .completedOn(task.getCompletedOn())
+                .deleted(task.isDeleted())
+                .build();
+    }
+
+    private ProjectAnalyticsRequest toRequest(Project project) {
+        return ProjectAnalyticsRequest.builder()
+                .userId(project.getUser().getId())
+                .projectId(project.getId())
+                .createdOn(project.getCreatedOn())
+                .status(project.getStatus())
+                .dueDate(project.getDueDate())
+                .completionPercentage(project.getCompletionPercent())
+                .deleted(project.isDeleted())
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record SyncKey(AnalyticsSyncType type, UUID userId) {
+    }
+
+    private record Pending(LocalDateTime dueAt, int attempts) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.TaskManager.avatar.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "avatars")
+public class Avatar {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] small;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] medium;
+
+    @Column(nullable = false)
+    private LocalDateTime createdOn;
+}
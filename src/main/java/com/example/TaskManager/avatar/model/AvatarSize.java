@@ -0,0 +1,28 @@
+package com.example.TaskManager.avatar.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+public enum AvatarSize {
+    SMALL(64),
+    MEDIUM(256);
+
+    private final int pixels;
+
+    AvatarSize(int pixels) {
+        this.pixels = pixels;
+    }
+
+    public static Optional<AvatarSize> of(String name) {
+        if (name == null) {
+            return Optional.of(SMALL);
+        }
+
+        return Arrays.stream(values())
+                .filter(size -> size.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
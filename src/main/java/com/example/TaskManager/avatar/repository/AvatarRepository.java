@@ -0,0 +1,27 @@
+package com.example.TaskManager.avatar.repository;
+
+import com.example.TaskManager.avatar.model.Avatar;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AvatarRepository extends JpaRepository<Avatar, String> {
+
+    @Query("SELECT a.small FROM Avatar a WHERE a.hash = :hash")
+    Optional<byte[]> findSmallByHash(@Param("hash") String hash);
+
+    @Query("SELECT a.medium FROM Avatar a WHERE a.hash = :hash")
+    Optional<byte[]> findMediumByHash(@Param("hash") String hash);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Avatar a WHERE a.createdOn < :before AND NOT EXISTS (SELECT u.id FROM User u WHERE u.avatarHash = a.hash)")
+    int deleteOrphansCreatedBefore(@Param("before") LocalDateTime before);
+}
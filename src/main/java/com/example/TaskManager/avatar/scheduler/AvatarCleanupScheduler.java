@@ -0,0 +1,29 @@
+package com.example.TaskManager.avatar.scheduler;
+
+import com.example.TaskManager.avatar.service.AvatarService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+public class AvatarCleanupScheduler {
+
+    private final AvatarService avatarService;
+    private final long graceHours;
+
+    public AvatarCleanupScheduler(AvatarService avatarService, @Value("${avatars.cleanup.grace-hours:24}") long graceHours) {
+        this.avatarService = avatarService;
+        this.graceHours = graceHours;
+    }
+
+    @Scheduled(cron = "${avatars.cleanup.cron:0 0 4 * * *}")
+    public void deleteOrphans() {
+        int deleted = avatarService.deleteOrphansCreatedBefore(LocalDateTime.now().minusHours(graceHours));
+
+        log.info("Deleted [%d] avatars no longer referenced by any user".formatted(deleted));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.TaskManager.avatar.service;
+
+import com.example.TaskManager.avatar.model.Avatar;
+import com.example.TaskManager.avatar.model.AvatarSize;
+import com.example.TaskManager.avatar.repository.AvatarRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class AvatarService {
+
+    private static final int MAX_DIMENSION = 4096;
+
+    private final AvatarRepository avatarRepository;
+
+    public AvatarService(AvatarRepository avatarRepository) {
+        this.avatarRepository = avatarRepository;
+    }
+
+    public Optional<String> store(byte[] bytes) {
+        BufferedImage image = read(bytes);
+
+        if (image == null) {
+            log.warn("Rejected avatar upload of [%d] bytes, not a readable image".formatted(bytes.length));
+            return Optional.empty();
+        }
+
+        String hash = sha256(bytes);
+
+        if (!avatarRepository.existsById(hash)) {
+            try {
+                avatarRepository.save(Avatar.builder()
+                        .hash(hash)
+                        .small(thumbnail(image, AvatarSize.SMALL))
+                        .medium(thumbnail(image, AvatarSize.MEDIUM))
+                        .createdOn(LocalDateTime.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                log.info("Avatar [%s] was stored concurrently, reusing it".formatted(hash));
+            }
+        }
+
+        return Optional.of(hash);
+    }
+
+    public int deleteOrphansCreatedBefore(LocalDateTime cutoff) {
+        return avatarRepository.deleteOrphansCreatedBefore(cutoff);
+    }
+
+    public Optional<byte[]> load(String hash, AvatarSize size) {
+        return size == AvatarSize.SMALL
+                ? avatarRepository.findSmallByHash(hash)
+                : avatarRepository.findMediumByHash(hash);
+    }
+
+    public static String url(String hash, AvatarSize size) {
+        return hash == null ? null : "/avatars/%s?size=%s".formatted(hash, size.name().toLowerCase());
+    }
+
+    private BufferedImage read(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                if (width > MAX_DIMENSION || height > MAX_DIMENSION) {
+                    log.warn("Rejected avatar upload of [%dx%d] pixels, limit is [%dx%d]".formatted(width, height, MAX_DIMENSION, MAX_DIMENSION));
+                    return null;
+                }
+
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private byte[] thumbnail(BufferedImage image, AvatarSize size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+        int target = Math.min(side, size.getPixels());
+
+        BufferedImage thumbnail = new BufferedImage(target, target, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, target, target, x, y, x + side, y + side, null);
+        graphics.dispose();
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(thumbnail, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
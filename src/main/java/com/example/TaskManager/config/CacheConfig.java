@@ -1,7 +1,13 @@
 package com.example.TaskManager.config;
 
+import com.example.TaskManager.summary.service.SummaryCache;
+import com.example.TaskManager.user.service.UserViewCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,16 +19,38 @@ import java.util.concurrent.TimeUnit;
 public class CacheConfig {
 
     @Bean
-    public CaffeineCacheManager caffeineCacheManager() {
+    public CaffeineCacheManager caffeineCacheManager(@Value("${summary.cache.maximum-size:10000}") long summaryCacheSize,
+                                                     @Value("${users.view-cache.maximum-size:10000}") long userViewCacheSize,
+                                                     @Value("${users.view-cache.ttl-seconds:30}") long userViewTtlSeconds) {
         CaffeineCacheManager manager = new CaffeineCacheManager();
 
-        manager.registerCustomCache("dailySummary",
+        manager.registerCustomCache(SummaryCache.CACHE_NAME,
                 Caffeine.newBuilder()
-                        .expireAfterWrite(24, TimeUnit.HOURS)
-                        .maximumSize(200)
+                        .expireAfterWrite(25, TimeUnit.HOURS)
+                        .maximumSize(summaryCacheSize)
+                        .recordStats()
+                        .build()
+        );
+
+        manager.registerCustomCache(UserViewCache.CACHE_NAME,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(userViewTtlSeconds, TimeUnit.SECONDS)
+                        .maximumSize(userViewCacheSize)
+                        .recordStats()
                         .build()
         );
 
         return manager;
     }
+
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CaffeineCacheManager caffeineCacheManager) {
+        return registry -> caffeineCacheManager.getCacheNames().forEach(name -> {
+            CaffeineCache cache = (CaffeineCache) caffeineCacheManager.getCache(name);
+
+            Gauge.builder("cache.hit.ratio", cache, c -> c.getNativeCache().stats().hitRate())
+                    .tag("cache", name)
+                    .register(registry);
+        });
+    }
 }
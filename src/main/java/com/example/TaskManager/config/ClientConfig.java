@@ -0,0 +1,45 @@
+package com.example.TaskManager.config;
+
+import feign.RequestInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class ClientConfig {
+
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer disableClientRetries() {
+        return builder -> builder.disableAutomaticRetries();
+    }
+
+    @Bean
+    public RequestInterceptor gzipRequestBodies(@Value("${clients.compression.endpoints:upsertTasks,upsertProjects}") Set<String> endpoints,
+                                                @Value("${clients.compression.min-request-size:2048}") int minRequestSize) {
+        return template -> {
+            if (template.methodMetadata() != null
+                    && endpoints.contains(template.methodMetadata().method().getName())
+                    && template.body() != null
+                    && template.body().length >= minRequestSize) {
+                template.header("Content-Encoding", "gzip");
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder clientConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (manager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "s2s").bindTo(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.TaskManager.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class ClientMetricsCapability implements Capability {
+
+    private final MeterRegistry meterRegistry;
+
+    public ClientMetricsCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    private Response execute(Client client, Request request, Request.Options options) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "NONE";
+        String outcome = "IO_ERROR";
+
+        try {
+            Response response = client.execute(request, options);
+            status = String.valueOf(response.status());
+            outcome = response.status() < 400 ? "SUCCESS" : response.status() < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+            return response;
+        } finally {
+            sample.stop(meterRegistry.timer("s2s.client.latency",
+                    "client", request.requestTemplate().feignTarget().name(),
+                    "method", request.httpMethod().name(),
+                    "endpoint", request.requestTemplate().methodMetadata().template().path(),
+                    "status", status,
+                    "outcome", outcome));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.TaskManager.config;
+
+import java.io.IOException;
+
+public class ClientRejectedException extends IOException {
+
+    public ClientRejectedException(String message) {
+        super(message);
+    }
+
+    public static boolean isRejection(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ClientRejectedException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
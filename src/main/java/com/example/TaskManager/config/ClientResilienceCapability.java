@@ -0,0 +1,132 @@
+package com.example.TaskManager.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ClientResilienceCapability implements Capability {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Request.Options>> endpointOptions = new ConcurrentHashMap<>();
+
+    public ClientResilienceCapability(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    public boolean isCallPermitted(String client) {
+        Guard guard = guards.get(client);
+
+        return guard == null || guard.circuitBreaker().isCallPermitted();
+    }
+
+    private Response execute(Client client, Request request, Request.Options options) throws IOException {
+        String name = request.requestTemplate().feignTarget().name();
+        String endpoint = request.requestTemplate().methodMetadata().method().getName();
+        Guard guard = guards.computeIfAbsent(name, this::guard);
+
+        if (!acquire(guard.bulkhead(), guard.bulkheadWaitMs())) {
+            throw rejected(name, endpoint, "bulkhead-full");
+        }
+
+        boolean success = false;
+        try {
+            if (!guard.circuitBreaker().tryAcquire()) {
+                throw rejected(name, endpoint, "circuit-open");
+            }
+
+            try {
+                Response response = client.execute(request, endpointOptions(name, endpoint, options));
+                success = response.status() < 500;
+                return response;
+            } finally {
+                if (success) {
+                    guard.circuitBreaker().onSuccess();
+                } else {
+                    guard.circuitBreaker().onFailure();
+                }
+            }
+        } finally {
+            guard.bulkhead().release();
+        }
+    }
+
+    private boolean acquire(Semaphore bulkhead, long waitMs) throws InterruptedIOException {
+        try {
+            return bulkhead.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a client permit");
+        }
+    }
+
+    private ClientRejectedException rejected(String client, String endpoint, String reason) {
+        meterRegistry.counter("s2s.client.rejected", "client", client, "endpoint", endpoint, "reason", reason).increment();
+
+        return new ClientRejectedException("[%s] rejected call to [%s]: %s".formatted(client, endpoint, reason));
+    }
+
+    private Guard guard(String client) {
+        Guard guard = new Guard(
+                new CircuitBreaker(property(client, "failure-threshold", 5),
+                        TimeUnit.MILLISECONDS.toNanos(property(client, "open-ms", 30000)),
+                        System::nanoTime),
+                new Semaphore(property(client, "max-concurrent-calls", 32)),
+                property(client, "bulkhead-wait-ms", 100));
+
+        Gauge.builder("s2s.client.circuit.open", guard.circuitBreaker(), breaker -> breaker.isOpen() ? 1 : 0)
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("s2s.client.bulkhead.available", guard.bulkhead(), Semaphore::availablePermits)
+                .tag("client", client)
+                .register(meterRegistry);
+
+        return guard;
+    }
+
+    private Request.Options endpointOptions(String client, String endpoint, Request.Options options) {
+        return endpointOptions.computeIfAbsent(client + "#" + endpoint, key -> {
+            String prefix = "clients.%s.endpoints.%s.".formatted(client, endpoint);
+            Long connectTimeout = environment.getProperty(prefix + "connect-timeout-ms", Long.class);
+            Long readTimeout = environment.getProperty(prefix + "read-timeout-ms", Long.class);
+
+            if (connectTimeout == null && readTimeout == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new Request.Options(
+                    connectTimeout != null ? connectTimeout : options.connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+                    readTimeout != null ? readTimeout : options.readTimeoutMillis(), TimeUnit.MILLISECONDS,
+                    options.isFollowRedirects()));
+        }).orElse(options);
+    }
+
+    private int property(String client, String name, int defaultValue) {
+        return environment.getProperty("clients.%s.%s".formatted(client, name), Integer.class,
+                environment.getProperty("clients.default." + name, Integer.class, defaultValue));
+    }
+
+    private record Guard(CircuitBreaker circuitBreaker, Semaphore bulkhead, long bulkheadWaitMs) {
+    }
+}
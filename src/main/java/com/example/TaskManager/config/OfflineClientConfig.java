@@ -0,0 +1,24 @@
+package com.example.TaskManager.config;
+
+import com.example.TaskManager.analytics.client.AnalyticsClient;
+import com.example.TaskManager.notification.client.NotificationClient;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+@Configuration
+@Profile("offline")
+public class OfflineClientConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor offlineClientPostProcessor() {
+        return beanFactory -> List.of(NotificationClient.class, AnalyticsClient.class).forEach(client -> {
+            if (beanFactory.containsBeanDefinition(client.getName())) {
+                beanFactory.getBeanDefinition(client.getName()).setPrimary(false);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.TaskManager.config;
+
+import com.example.TaskManager.querytrace.hibernate.QueryTraceIntegrator;
+import com.example.TaskManager.querytrace.hibernate.QueryTraceSessionListener;
+import com.example.TaskManager.querytrace.hibernate.QueryTraceStatementInspector;
+import com.example.TaskManager.querytrace.service.QueryTraceRecorder;
+import com.example.TaskManager.querytrace.web.QueryTraceInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class QueryTraceConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<QueryTraceRecorder> queryTraceRecorder;
+
+    public QueryTraceConfig(ObjectProvider<QueryTraceRecorder> queryTraceRecorder) {
+        this.queryTraceRecorder = queryTraceRecorder;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryTraceHibernateProperties(@Value("${query-trace.enabled:true}") boolean enabled) {
+        return properties -> {
+            if (!enabled) {
+                return;
+            }
+
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryTraceStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTraceSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(new QueryTraceIntegrator()));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        queryTraceRecorder.ifAvailable(recorder -> registry.addInterceptor(new QueryTraceInterceptor(recorder)));
+    }
+}
@@ -35,6 +35,7 @@ public class WebConfiguration {
         httpSecurity.authorizeHttpRequests(matcher -> matcher
                                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                                 .requestMatchers("/", "/register").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
 
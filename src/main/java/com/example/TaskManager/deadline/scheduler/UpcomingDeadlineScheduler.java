@@ -0,0 +1,80 @@
+package com.example.TaskManager.deadline.scheduler;
+
+import com.example.TaskManager.project.service.ProjectService;
+import com.example.TaskManager.task.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Service
+public class UpcomingDeadlineScheduler {
+
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final long windowStartHours;
+    private final long windowEndHours;
+    private final int pageSize;
+    private final int maxPages;
+    private final Timer runTimer;
+    private final Counter taskRows;
+    private final Counter projectRows;
+
+    public UpcomingDeadlineScheduler(TaskService taskService, ProjectService projectService, MeterRegistry meterRegistry,
+                                     @Value("${deadlines.upcoming.window-start-hours:23}") long windowStartHours,
+                                     @Value("${deadlines.upcoming.window-end-hours:24}") long windowEndHours,
+                                     @Value("${deadlines.upcoming.page-size:200}") int pageSize,
+                                     @Value("${deadlines.upcoming.max-pages:50}") int maxPages) {
+        this.taskService = taskService;
+        this.projectService = projectService;
+        this.windowStartHours = windowStartHours;
+        this.windowEndHours = windowEndHours;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.runTimer = Timer.builder("scheduler.run.latency").tag("scheduler", "upcoming-deadlines").register(meterRegistry);
+        this.taskRows = Counter.builder("scheduler.rows").tag("scheduler", "tasks-upcoming-deadlines").tag("rows", "changed").register(meterRegistry);
+        this.projectRows = Counter.builder("scheduler.rows").tag("scheduler", "projects-upcoming-deadlines").tag("rows", "changed").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${deadlines.upcoming.cron:0 */5 * * * *}")
+    public void publishUpcomingDeadlines() {
+        runTimer.record(this::publish);
+    }
+
+    private void publish() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.plusHours(windowStartHours);
+        LocalDateTime to = now.plusHours(windowEndHours);
+
+        int tasks = drain(() -> taskService.publishUpcomingDeadlines(from, to, pageSize));
+        int projects = drain(() -> projectService.publishUpcomingDeadlines(from, to, pageSize));
+        taskRows.increment(tasks);
+        projectRows.increment(projects);
+
+        if (tasks > 0 || projects > 0) {
+            log.info("Published upcoming deadlines for [%d] tasks and [%d] projects".formatted(tasks, projects));
+        }
+    }
+
+    private int drain(IntSupplier page) {
+        int total = 0;
+
+        for (int i = 0; i < maxPages; i++) {
+            int claimed = page.getAsInt();
+            total += claimed;
+
+            if (claimed < pageSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.TaskManager.job.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class JobProgress {
+
+    private final UUID id;
+
+    private final String type;
+
+    private final long total;
+
+    private final LocalDateTime startedOn;
+
+    private volatile JobStatus status;
+
+    private volatile LocalDateTime finishedOn;
+
+    private final AtomicLong processed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    public JobProgress(UUID id, String type, long total, LocalDateTime startedOn) {
+        this.id = id;
+        this.type = type;
+        this.total = total;
+        this.startedOn = startedOn;
+        this.status = JobStatus.RUNNING;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public int getPercent() {
+        return total == 0 ? 100 : (int) Math.min(100, processed.get() * 100 / total);
+    }
+
+    public void advance(long count) {
+        processed.addAndGet(count);
+    }
+
+    public void fail(long count) {
+        failed.addAndGet(count);
+    }
+
+    public void finish(JobStatus status) {
+        this.status = status;
+        this.finishedOn = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status != JobStatus.RUNNING;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.TaskManager.job.model;
+
+public enum JobStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,71 @@
+package com.example.TaskManager.job.service;
+
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.model.JobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class JobRegistry {
+
+    private final Executor executor;
+    private final Duration retention;
+    private final Map<UUID, JobProgress> jobs = new ConcurrentHashMap<>();
+
+    public JobRegistry(@Qualifier("jobExecutor") Executor executor,
+                       @Value("${jobs.retention-minutes:60}") long retentionMinutes) {
+        this.executor = executor;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    public JobProgress submit(String type, long total, Consumer<JobProgress> work) {
+        evictFinished();
+
+        JobProgress progress = new JobProgress(UUID.randomUUID(), type, total, LocalDateTime.now());
+        jobs.put(progress.getId(), progress);
+
+        try {
+            executor.execute(() -> run(progress, work));
+        } catch (RejectedExecutionException e) {
+            progress.finish(JobStatus.FAILED);
+            log.warn("Job pool is full, rejected [%s] job [%s]".formatted(type, progress.getId()));
+        }
+
+        return progress;
+    }
+
+    public Optional<JobProgress> get(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(JobProgress progress, Consumer<JobProgress> work) {
+        try {
+            work.accept(progress);
+            progress.finish(JobStatus.COMPLETED);
+            log.info("Job [%s] %s finished, processed [%d], failed [%d]"
+                    .formatted(progress.getId(), progress.getType(), progress.getProcessed(), progress.getFailed()));
+        } catch (RuntimeException e) {
+            progress.finish(JobStatus.FAILED);
+            log.error("Job [%s] %s failed due to %s".formatted(progress.getId(), progress.getType(), e.getMessage()));
+        }
+    }
+
+    private void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedOn().isBefore(cutoff));
+    }
+}
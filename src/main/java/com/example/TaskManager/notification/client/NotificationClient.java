@@ -1,5 +1,6 @@
 package com.example.TaskManager.notification.client;
 
+import com.example.TaskManager.notification.client.dto.BatchNotificationRequest;
 import com.example.TaskManager.notification.client.dto.NotificationRequest;
 import com.example.TaskManager.notification.client.dto.NotificationResponse;
 import com.example.TaskManager.notification.client.dto.PreferenceResponse;
@@ -11,9 +12,11 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.UUID;
 
-@FeignClient(name = "notification-svc", url = "http://localhost:8082/api/v1")
+@FeignClient(name = NotificationClient.NAME, url = "${clients.notification-svc.url:http://localhost:8082/api/v1}")
 public interface NotificationClient {
 
+    String NAME = "notification-svc";
+
     @PostMapping("/preferences")
     ResponseEntity<Void> upsertPreference(@RequestBody UpsertPreferenceRequest requestBody  );
 
@@ -26,6 +29,9 @@ public interface NotificationClient {
     @PostMapping("/notifications")
     ResponseEntity<Void> sendNotification(@RequestBody NotificationRequest requestBody);
 
+    @PostMapping("/notifications/batch")
+    ResponseEntity<Void> sendBatchNotification(@RequestBody BatchNotificationRequest requestBody);
+
     @DeleteMapping("/notifications/history")
     void deleteNotifications(@RequestParam("userId") UUID userId);
 }
@@ -0,0 +1,62 @@
+package com.example.TaskManager.notification.client;
+
+import com.example.TaskManager.notification.client.dto.BatchNotificationRequest;
+import com.example.TaskManager.notification.client.dto.NotificationRequest;
+import com.example.TaskManager.notification.client.dto.NotificationResponse;
+import com.example.TaskManager.notification.client.dto.PreferenceResponse;
+import com.example.TaskManager.notification.client.dto.UpsertPreferenceRequest;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Primary
+@Component
+@Profile("offline")
+public class OfflineNotificationClient implements NotificationClient {
+
+    private final AtomicLong calls = new AtomicLong();
+
+    @Override
+    public ResponseEntity<Void> upsertPreference(UpsertPreferenceRequest requestBody) {
+        calls.incrementAndGet();
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public ResponseEntity<PreferenceResponse> getPreferenceByUserId(UUID userId) {
+        calls.incrementAndGet();
+        return ResponseEntity.ok(PreferenceResponse.builder().build());
+    }
+
+    @Override
+    public ResponseEntity<List<NotificationResponse>> getHistory(UUID userId) {
+        calls.incrementAndGet();
+        return ResponseEntity.ok(List.of());
+    }
+
+    @Override
+    public ResponseEntity<Void> sendNotification(NotificationRequest requestBody) {
+        calls.incrementAndGet();
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public ResponseEntity<Void> sendBatchNotification(BatchNotificationRequest requestBody) {
+        calls.incrementAndGet();
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public void deleteNotifications(UUID userId) {
+        calls.incrementAndGet();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.TaskManager.notification.client.dto;
+
+import com.example.TaskManager.notification.NotificationType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class BatchNotificationRequest {
+
+    private List<UUID> userIds;
+
+    private String subject;
+
+    private String body;
+
+    private NotificationType type;
+
+}
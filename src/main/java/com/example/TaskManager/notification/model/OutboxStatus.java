@@ -0,0 +1,5 @@
+package com.example.TaskManager.notification.model;
+
+public enum OutboxStatus {
+    PENDING, SENDING, SENT, FAILED
+}
@@ -0,0 +1,64 @@
+package com.example.TaskManager.notification.repository;
+
+import com.example.TaskManager.notification.model.NotificationOutbox;
+import com.example.TaskManager.notification.model.OutboxStatus;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, UUID> {
+
+    @Query("SELECT n.id FROM NotificationOutbox n WHERE n.status = com.example.TaskManager.notification.model.OutboxStatus.PENDING " +
+            "AND n.nextAttemptAt <= :now ORDER BY n.nextAttemptAt")
+    List<UUID> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationOutbox n SET n.status = com.example.TaskManager.notification.model.OutboxStatus.SENDING, " +
+            "n.claimId = :claimId, n.nextAttemptAt = :leaseUntil " +
+            "WHERE n.id IN :ids AND n.status = com.example.TaskManager.notification.model.OutboxStatus.PENDING")
+    int claim(@Param("ids") Collection<UUID> ids, @Param("claimId") UUID claimId, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<NotificationOutbox> findAllByClaimId(UUID claimId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationOutbox n SET n.status = com.example.TaskManager.notification.model.OutboxStatus.PENDING, " +
+            "n.claimId = null, n.nextAttemptAt = :nextAttemptAt " +
+            "WHERE n.id IN :ids AND n.status = com.example.TaskManager.notification.model.OutboxStatus.SENDING")
+    int release(@Param("ids") Collection<UUID> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationOutbox n SET n.status = com.example.TaskManager.notification.model.OutboxStatus.PENDING, n.claimId = null " +
+            "WHERE n.status = com.example.TaskManager.notification.model.OutboxStatus.SENDING AND n.nextAttemptAt < :now")
+    int releaseExpiredClaims(@Param("now") LocalDateTime now);
+
+    boolean existsByDedupKey(String dedupKey);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO notification_outbox (id, user_id, subject, body, type, dedup_key, status, attempts, next_attempt_at, created_on) " +
+            "VALUES (:id, :userId, :subject, :body, :type, :dedupKey, 'PENDING', 0, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE dedup_key = dedup_key", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("userId") UUID userId, @Param("subject") String subject, @Param("body") String body,
+                       @Param("type") String type, @Param("dedupKey") String dedupKey, @Param("now") LocalDateTime now);
+
+    long countByStatus(OutboxStatus status);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationOutbox n SET n.status = com.example.TaskManager.notification.model.OutboxStatus.SENT, " +
+            "n.sentOn = :sentOn, n.attempts = n.attempts + 1 WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentOn") LocalDateTime sentOn);
+}
@@ -0,0 +1,234 @@
+package com.example.TaskManager.notification.service;
+
+import com.example.TaskManager.config.ClientRejectedException;
+import com.example.TaskManager.config.ClientResilienceCapability;
+import com.example.TaskManager.notification.NotificationType;
+import com.example.TaskManager.notification.client.NotificationClient;
+import com.example.TaskManager.notification.client.dto.NotificationRequest;
+import com.example.TaskManager.notification.model.NotificationOutbox;
+import com.example.TaskManager.notification.model.OutboxStatus;
+import com.example.TaskManager.notification.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final NotificationClient client;
+    private final ClientResilienceCapability resilience;
+    private final NotificationOutboxRepository outboxRepository;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimLease;
+    private final Map<NotificationType, TokenBucket> rateLimits = new EnumMap<>(NotificationType.class);
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    private final Timer dispatchTimer;
+    private final Timer deliveryDelay;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public NotificationDispatcher(NotificationClient client, ClientResilienceCapability resilience,
+                                  NotificationOutboxRepository outboxRepository,
+                                  @Qualifier("notificationDispatchExecutor") Executor executor, MeterRegistry meterRegistry,
+                                  @Value("${notifications.outbox.batch-size:100}") int batchSize,
+                                  @Value("${notifications.outbox.max-attempts:8}") int maxAttempts,
+                                  @Value("${notifications.outbox.base-backoff-ms:5000}") long baseBackoffMs,
+                                  @Value("${notifications.outbox.max-backoff-ms:600000}") long maxBackoffMs,
+                                  @Value("${notifications.outbox.rate-per-second:50}") double ratePerSecond,
+                                  @Value("${notifications.outbox.claim-lease-ms:300000}") long claimLeaseMs) {
+        this.client = client;
+        this.resilience = resilience;
+        this.outboxRepository = outboxRepository;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+
+        for (NotificationType type : NotificationType.values()) {
+            rateLimits.put(type, new TokenBucket(ratePerSecond, Math.max(1, ratePerSecond)));
+        }
+
+        this.dispatchTimer = Timer.builder("notifications.dispatch.latency").register(meterRegistry);
+        this.deliveryDelay = Timer.builder("notifications.outbox.delay").register(meterRegistry);
+        this.sentCounter = Counter.builder("notifications.dispatch").tag("result", "sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("notifications.dispatch").tag("result", "retried").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notifications.dispatch").tag("result", "rejected").register(meterRegistry);
+        this.failedCounter = Counter.builder("notifications.dispatch").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("notifications.outbox.pending", outboxRepository, repository -> repository.countByStatus(OutboxStatus.PENDING))
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            if (!resilience.isCallPermitted(NotificationClient.NAME)) {
+                dispatching.set(false);
+                return;
+            }
+
+            List<NotificationOutbox> batch = claim();
+
+            if (batch.isEmpty()) {
+                dispatching.set(false);
+                return;
+            }
+
+            Queue<UUID> sent = new ConcurrentLinkedQueue<>();
+            Queue<NotificationOutbox> failed = new ConcurrentLinkedQueue<>();
+            Queue<UUID> rejected = new ConcurrentLinkedQueue<>();
+            List<UUID> deferred = new ArrayList<>();
+            List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+            boolean saturated = false;
+
+            for (NotificationOutbox notification : batch) {
+                if (saturated || !rateLimits.get(notification.getType()).tryAcquire()) {
+                    deferred.add(notification.getId());
+                    continue;
+                }
+
+                try {
+                    deliveries.add(CompletableFuture.runAsync(() -> deliver(notification, sent, failed, rejected), executor));
+                } catch (RejectedExecutionException e) {
+                    log.warn("Notification dispatch pool is full, deferring the rest of the batch");
+                    deferred.add(notification.getId());
+                    saturated = true;
+                }
+            }
+
+            if (!deferred.isEmpty()) {
+                outboxRepository.release(deferred, LocalDateTime.now());
+            }
+
+            CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, e) -> complete(sent, failed, rejected));
+        } catch (RuntimeException e) {
+            dispatching.set(false);
+            throw e;
+        }
+    }
+
+    private List<NotificationOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.releaseExpiredClaims(now);
+
+        List<UUID> ids = outboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        UUID claimId = UUID.randomUUID();
+        outboxRepository.claim(ids, claimId, now.plus(claimLease));
+
+        return outboxRepository.findAllByClaimId(claimId);
+    }
+
+    private void complete(Queue<UUID> sent, Queue<NotificationOutbox> failed, Queue<UUID> rejected) {
+        try {
+            if (!sent.isEmpty()) {
+                outboxRepository.markSent(List.copyOf(sent), LocalDateTime.now());
+            }
+
+            if (!rejected.isEmpty()) {
+                outboxRepository.release(List.copyOf(rejected), LocalDateTime.now());
+            }
+
+            failed.forEach(this::scheduleRetry);
+            outboxRepository.saveAll(failed);
+
+            log.info("Dispatched [%d] notifications, [%d] failed, [%d] rejected".formatted(sent.size(), failed.size(), rejected.size()));
+        } catch (RuntimeException e) {
+            log.error("Failed to record notification dispatch results: %s".formatted(e.getMessage()));
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    private void deliver(NotificationOutbox notification, Queue<UUID> sent, Queue<NotificationOutbox> failed, Queue<UUID> rejected) {
+        NotificationRequest request = NotificationRequest.builder()
+                .userId(notification.getUserId())
+                .subject(notification.getSubject())
+                .body(notification.getBody())
+                .type(notification.getType())
+                .build();
+
+        try {
+            dispatchTimer.record(() -> client.sendNotification(request));
+            deliveryDelay.record(Duration.between(notification.getCreatedOn(), LocalDateTime.now()));
+            sentCounter.increment();
+            sent.add(notification.getId());
+        } catch (RuntimeException e) {
+            if (ClientRejectedException.isRejection(e)) {
+                rejectedCounter.increment();
+                rejected.add(notification.getId());
+                return;
+            }
+
+            notification.setLastError(truncate(e.getMessage()));
+            failed.add(notification);
+            log.error("[S2S Call]: Failed due to %s".formatted(e.getMessage()));
+        }
+    }
+
+    private void scheduleRetry(NotificationOutbox notification) {
+        int attempts = notification.getAttempts() + 1;
+        notification.setAttempts(attempts);
+        notification.setClaimId(null);
+
+        if (attempts >= maxAttempts) {
+            notification.setStatus(OutboxStatus.FAILED);
+            failedCounter.increment();
+            return;
+        }
+
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+        notification.setStatus(OutboxStatus.PENDING);
+        notification.setNextAttemptAt(LocalDateTime.now().plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff));
+        retriedCounter.increment();
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,20 +1,29 @@
 package com.example.TaskManager.notification.service;
 
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.service.JobRegistry;
 import com.example.TaskManager.notification.NotificationType;
 import com.example.TaskManager.notification.client.NotificationClient;
-import com.example.TaskManager.notification.client.dto.NotificationRequest;
+import com.example.TaskManager.notification.client.dto.BatchNotificationRequest;
 import com.example.TaskManager.notification.client.dto.NotificationResponse;
 import com.example.TaskManager.notification.client.dto.PreferenceResponse;
 import com.example.TaskManager.notification.client.dto.UpsertPreferenceRequest;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.notification.model.NotificationOutbox;
+import com.example.TaskManager.notification.model.OutboxStatus;
+import com.example.TaskManager.notification.repository.NotificationOutboxRepository;
+import com.example.TaskManager.user.model.UserView;
+import com.example.TaskManager.user.repository.UserRepository;
 import com.example.TaskManager.web.dto.EditPreferenceRequest;
 import com.example.TaskManager.web.dto.GlobalNotificationRequest;
 import feign.FeignException;
+import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,10 +31,20 @@ import java.util.UUID;
 @Service
 public class NotificationService {
 
+    private static final String BROADCAST_JOB = "broadcast";
+    private static final int BROADCAST_CHUNK_SIZE = 500;
+
     private final NotificationClient client;
+    private final NotificationOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+    private final JobRegistry jobRegistry;
 
-    public NotificationService(NotificationClient notificationClient ) {
+    public NotificationService(NotificationClient notificationClient, NotificationOutboxRepository outboxRepository,
+                               UserRepository userRepository, JobRegistry jobRegistry) {
         this.client = notificationClient;
+        this.outboxRepository = outboxRepository;
+        this.userRepository = userRepository;
+        this.jobRegistry = jobRegistry;
     }
 
     public void upsertPreferences(UUID userId, boolean emailNotificationEnabled, boolean deadLineNotificationEnabled, boolean summaryNotificationEnabled, boolean reminderNotificationEnabled, String email) {
@@ -58,22 +77,25 @@ public class NotificationService {
     }
 
     public void sendNotification(UUID userId, String subject, String body, NotificationType type) {
-        NotificationRequest request = NotificationRequest.builder()
-                .userId(userId)
-                .subject(subject)
-                .body(body)
-                .type(type)
-                .build();
+        sendNotification(userId, subject, body, type, null);
+    }
 
-        try {
-            client.sendNotification(request);
-            log.info("Successfully sent notification request");
-        } catch (FeignException e) {
-            log.error("[S2S Call]: Failed due to %s".formatted(e.getMessage()));
+    @Transactional
+    public void sendNotification(UUID userId, String subject, String body, NotificationType type, String dedupKey) {
+        if (dedupKey == null) {
+            outboxRepository.save(toOutbox(userId, subject, body, type, LocalDateTime.now()));
+            return;
+        }
+
+        if (outboxRepository.existsByDedupKey(dedupKey)) {
+            log.info("Skipped duplicate notification [%s]".formatted(dedupKey));
+            return;
         }
+
+        outboxRepository.insertIfAbsent(UUID.randomUUID(), userId, subject, body, type.name(), dedupKey, LocalDateTime.now());
     }
 
-    public void updatePreferences(User user, @Valid EditPreferenceRequest editPreferenceRequest) {
+    public void updatePreferences(UserView user, @Valid EditPreferenceRequest editPreferenceRequest) {
         upsertPreferences(user.getId(), editPreferenceRequest.isEmailNotificationEnabled(), editPreferenceRequest.isDeadLineNotificationEnabled(),
                 editPreferenceRequest.isSummaryNotificationEnabled(), editPreferenceRequest.isReminderNotificationEnabled(), user.getEmail());
     }
@@ -88,10 +110,62 @@ public class NotificationService {
         }
     }
 
-    public void sendGlobalNotification(@Valid GlobalNotificationRequest globalNotificationRequest, List<User> users) {
-        for (User user : users) {
-            sendNotification(user.getId(), globalNotificationRequest.getSubject(),
-                    globalNotificationRequest.getBody(), globalNotificationRequest.getNotificationType());
+    public JobProgress sendGlobalNotification(@Valid GlobalNotificationRequest globalNotificationRequest) {
+        return jobRegistry.submit(BROADCAST_JOB, userRepository.count(), progress -> broadcast(globalNotificationRequest, progress));
+    }
+
+    public JobProgress getBroadcastProgress(UUID jobId) {
+        return jobId == null ? null : jobRegistry.get(jobId).orElse(null);
+    }
+
+    private void broadcast(GlobalNotificationRequest request, JobProgress progress) {
+        UUID after = new UUID(0, 0);
+        List<UUID> userIds;
+
+        do {
+            userIds = userRepository.findIdsAfter(after, PageRequest.of(0, BROADCAST_CHUNK_SIZE));
+
+            if (userIds.isEmpty()) {
+                return;
+            }
+
+            sendChunk(request, userIds, progress);
+            after = userIds.get(userIds.size() - 1);
+        } while (userIds.size() == BROADCAST_CHUNK_SIZE);
+    }
+
+    private void sendChunk(GlobalNotificationRequest request, List<UUID> userIds, JobProgress progress) {
+        BatchNotificationRequest batch = BatchNotificationRequest.builder()
+                .userIds(userIds)
+                .subject(request.getSubject())
+                .body(request.getBody())
+                .type(request.getNotificationType())
+                .build();
+
+        try {
+            client.sendBatchNotification(batch);
+        } catch (FeignException e) {
+            log.error("[S2S Call]: Failed due to %s, queueing [%d] recipients for retry".formatted(e.getMessage(), userIds.size()));
+
+            LocalDateTime now = LocalDateTime.now();
+            outboxRepository.saveAll(userIds.stream()
+                    .map(userId -> toOutbox(userId, request.getSubject(), request.getBody(), request.getNotificationType(), now))
+                    .toList());
+            progress.fail(userIds.size());
         }
+
+        progress.advance(userIds.size());
+    }
+
+    private NotificationOutbox toOutbox(UUID userId, String subject, String body, NotificationType type, LocalDateTime now) {
+        return NotificationOutbox.builder()
+                .userId(userId)
+                .subject(subject)
+                .body(body)
+                .type(type)
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdOn(now)
+                .build();
     }
 }
@@ -20,12 +20,13 @@ public class ProjectDeadlineEventListener {
     @EventListener
     public void handleProjectOverdue(ProjectOverdueEvent event) {
         notificationService.sendNotification(event.getOwnerId(), NotificationMessages.PROJECT_OVERDUE
-                .formatted(event.getTitle()), "", NotificationType.DEADLINE);
+                .formatted(event.getTitle()), "", NotificationType.DEADLINE, "project-overdue:%s".formatted(event.getProjectId()));
     }
 
     @EventListener
     public void handleProjectUpcomingDeadline(ProjectUpcomingDeadlineEvent event) {
         notificationService.sendNotification(event.getOwnerId(), NotificationMessages.PROJECT_UPCOMING_DEADLINE
-                .formatted(event.getTitle()), "", NotificationType.REMINDER);
+                .formatted(event.getTitle()), "", NotificationType.REMINDER,
+                "project-upcoming:%s:%s".formatted(event.getProjectId(), event.getDeadline()));
     }
 }
@@ -21,6 +21,11 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_project_due_date", columnList = "due_date"),
+        @Index(name = "idx_project_user_deleted", columnList = "user_id, deleted"),
+        @Index(name = "idx_project_upcoming_claim_id", columnList = "upcoming_claim_id")
+})
 public class Project {
 
     @Id
@@ -50,9 +55,15 @@ public class Project {
 
     private LocalDateTime completedOn;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int completionPercent;
 
+    @Column(updatable = false)
+    private int taskCount;
+
+    @Column(updatable = false)
+    private int completedTaskCount;
+
     @Column(nullable = false)
     private boolean deleted;
 
@@ -63,7 +74,7 @@ public class Project {
     @ManyToOne
     private User user;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "project")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "project")
     private List<Task> tasks;
 
     @Nullable
@@ -72,10 +83,16 @@ public class Project {
 
     @ManyToMany
     @JoinTable(name = "projects_users", joinColumns = @JoinColumn(name = "project_id"),
-    inverseJoinColumns = @JoinColumn(name = "user_id"))
+    inverseJoinColumns = @JoinColumn(name = "user_id"),
+    indexes = {
+            @Index(name = "idx_projects_users_user_project", columnList = "user_id, project_id"),
+            @Index(name = "idx_projects_users_project_user", columnList = "project_id, user_id")
+    })
     private List<User> members;
 
     private boolean notifiedUpcoming;
 
     private boolean notifiedOverdue;
+
+    private UUID upcomingClaimId;
 }
@@ -0,0 +1,33 @@
+package com.example.TaskManager.project.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public record ProjectAccess(UUID ownerId, Set<UUID> memberIds) {
+
+    public static final ProjectAccess NONE = new ProjectAccess(null, Set.of());
+
+    public static ProjectAccess of(List<ProjectMembership> rows) {
+        if (rows.isEmpty()) {
+            return NONE;
+        }
+
+        Set<UUID> memberIds = rows.stream()
+                .map(ProjectMembership::getMemberId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new ProjectAccess(rows.get(0).getOwnerId(), memberIds);
+    }
+
+    public boolean isOwner(UUID userId) {
+        return ownerId != null && ownerId.equals(userId);
+    }
+
+    public boolean isMember(UUID userId) {
+        return isOwner(userId) || memberIds.contains(userId);
+    }
+}
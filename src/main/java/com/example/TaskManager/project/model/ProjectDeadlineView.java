@@ -0,0 +1,23 @@
+package com.example.TaskManager.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeadlineView {
+
+    private UUID projectId;
+
+    private UUID ownerId;
+
+    private String title;
+
+    private LocalDateTime dueDate;
+
+}
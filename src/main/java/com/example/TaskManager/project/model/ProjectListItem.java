@@ -0,0 +1,16 @@
+package com.example.TaskManager.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectListItem {
+
+    private Project project;
+
+    private long taskCount;
+
+}
@@ -0,0 +1,18 @@
+package com.example.TaskManager.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMembership {
+
+    private UUID ownerId;
+
+    private UUID memberId;
+
+}
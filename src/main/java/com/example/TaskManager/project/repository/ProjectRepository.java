@@ -1,11 +1,22 @@
 package com.example.TaskManager.project.repository;
 
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectDeadlineView;
+import com.example.TaskManager.project.model.ProjectListItem;
+import com.example.TaskManager.project.model.ProjectMembership;
 import com.example.TaskManager.project.model.ProjectStatus;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,15 +30,94 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     List<Project> findAllByUserId(UUID id);
 
+    List<Project> findAllByUserIdAndUpdatedOnAfter(UUID id, LocalDateTime since);
+
     List<Project> findAllByUserIdAndDeletedFalse(UUID id);
 
     List<Project> findAllByUserIdAndDeletedFalseAndStatus(UUID userId, ProjectStatus status);
 
-    List<Project> findByDueDateBeforeAndStatusNotAndDeletedFalse(LocalDateTime now, ProjectStatus projectStatus);
+    long countByUserIdAndDeletedFalseAndStatus(UUID userId, ProjectStatus status);
 
-    List<Project> findByStatusNotAndDeletedFalse(ProjectStatus status);
+    long countByMembersId(UUID userId);
+
+    List<Project> findByDueDateBeforeAndStatusNotAndDeletedFalse(LocalDateTime now, ProjectStatus projectStatus);
 
     Optional<Project> findByIdAndDeletedFalse(UUID id);
 
-    List<Project> findAllByDeletedFalse();
+    @Query("SELECT new com.example.TaskManager.project.model.ProjectMembership(p.user.id, m.id) " +
+            "FROM Project p LEFT JOIN p.members m WHERE p.id = :id AND p.deleted = false")
+    List<ProjectMembership> findMembershipsById(@Param("id") UUID id);
+
+    @EntityGraph(attributePaths = "tasks")
+    Optional<Project> findWithTasksByIdAndDeletedFalse(UUID id);
+
+    @Query(value = "SELECT new com.example.TaskManager.project.model.ProjectListItem(p, COUNT(t)) " +
+            "FROM Project p LEFT JOIN p.tasks t ON t.deleted = false " +
+            "WHERE p.deleted = false AND (:status IS NULL OR p.status = :status) " +
+            "AND (p.user.id = :userId OR EXISTS (SELECT 1 FROM p.members m WHERE m.id = :userId)) " +
+            "GROUP BY p ORDER BY p.createdOn DESC",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.deleted = false AND (:status IS NULL OR p.status = :status) " +
+                    "AND (p.user.id = :userId OR EXISTS (SELECT 1 FROM p.members m WHERE m.id = :userId))")
+    Page<ProjectListItem> findIncludedInWithTaskCounts(@Param("userId") UUID userId, @Param("status") ProjectStatus status, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET " +
+            "p.completionPercent = CASE WHEN p.taskCount + :tasks > 0 " +
+            "THEN CAST(ROUND(100.0 * (p.completedTaskCount + :completed) / (p.taskCount + :tasks), 0) AS Integer) ELSE 0 END, " +
+            "p.taskCount = p.taskCount + :tasks, p.completedTaskCount = p.completedTaskCount + :completed, p.updatedOn = :now " +
+            "WHERE p.id = :id")
+    int adjustTaskCounters(@Param("id") UUID id, @Param("tasks") int tasks, @Param("completed") int completed, @Param("now") LocalDateTime now);
+
+    @Query("SELECT p.id FROM Project p WHERE p.deleted = false AND (" +
+            "p.taskCount <> (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.deleted = false) OR " +
+            "p.completedTaskCount <> (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.deleted = false " +
+            "AND t.status = com.example.TaskManager.task.model.TaskStatus.COMPLETED)) ORDER BY p.id")
+    List<UUID> findIdsWithTaskCounterDrift(Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET " +
+            "p.taskCount = (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.deleted = false), " +
+            "p.completedTaskCount = (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.deleted = false " +
+            "AND t.status = com.example.TaskManager.task.model.TaskStatus.COMPLETED), p.updatedOn = :now " +
+            "WHERE p.id IN :ids")
+    int recountTaskCounters(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET p.completionPercent = CASE WHEN p.taskCount > 0 " +
+            "THEN CAST(ROUND(100.0 * p.completedTaskCount / p.taskCount, 0) AS Integer) ELSE 0 END, p.updatedOn = :now WHERE p.id IN :ids")
+    int refreshCompletionPercent(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT p.user.id FROM Project p WHERE p.id IN :ids")
+    List<UUID> findOwnerIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id FROM Project p WHERE p.dueDate BETWEEN :from AND :to AND p.notifiedUpcoming = false " +
+            "AND p.deleted = false AND p.status <> com.example.TaskManager.project.model.ProjectStatus.COMPLETED ORDER BY p.dueDate, p.id")
+    List<UUID> findUpcomingDeadlineIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET p.notifiedUpcoming = true, p.upcomingClaimId = :claimId WHERE p.id IN :ids AND p.notifiedUpcoming = false")
+    int claimUpcomingDeadlines(@Param("ids") Collection<UUID> ids, @Param("claimId") UUID claimId);
+
+    @Query("SELECT new com.example.TaskManager.project.model.ProjectDeadlineView(p.id, p.user.id, p.title, p.dueDate) " +
+            "FROM Project p WHERE p.upcomingClaimId = :claimId")
+    List<ProjectDeadlineView> findByUpcomingClaimId(@Param("claimId") UUID claimId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Project p WHERE p.id = :projectId")
+    int deleteInBulkById(@Param("projectId") UUID projectId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Project p WHERE p.user.id = :userId")
+    int deleteInBulkByOwnerId(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM projects_users WHERE user_id = :userId", nativeQuery = true)
+    int deleteMembershipsByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,27 @@
+package com.example.TaskManager.project.scheduler;
+
+import com.example.TaskManager.project.service.ProjectCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class ProjectCounterReconciliationScheduler {
+
+    private final ProjectCounterService projectCounterService;
+
+    public ProjectCounterReconciliationScheduler(ProjectCounterService projectCounterService) {
+        this.projectCounterService = projectCounterService;
+    }
+
+    @Scheduled(cron = "${projects.counters.cron:0 */15 * * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int repaired = projectCounterService.reconcile();
+
+        if (repaired > 0) {
+            log.info("Repaired task counters of [%d] projects in [%d] ms".formatted(repaired, System.currentTimeMillis() - start));
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.TaskManager.project.security;
 
-import com.example.TaskManager.project.model.Project;
-import com.example.TaskManager.project.service.ProjectService;
+import com.example.TaskManager.project.service.ProjectAccessService;
+import com.example.TaskManager.security.UserData;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
@@ -10,16 +10,19 @@ import java.util.UUID;
 @Component
 public class ProjectSecurity {
 
-    private final ProjectService projectService;
+    private final ProjectAccessService projectAccessService;
 
-    public ProjectSecurity(ProjectService projectService) {
-        this.projectService = projectService;
+    public ProjectSecurity(ProjectAccessService projectAccessService) {
+        this.projectAccessService = projectAccessService;
     }
 
     public boolean isOwner(UUID id, Authentication authentication) {
-        Project project = projectService.getByIdNotDeleted(id);
-        String email = authentication.getName();
+        return authentication.getPrincipal() instanceof UserData userData
+                && projectAccessService.isOwner(id, userData.getId());
+    }
 
-        return project.getUser().getEmail().equals(email);
+    public boolean isMember(UUID id, Authentication authentication) {
+        return authentication.getPrincipal() instanceof UserData userData
+                && projectAccessService.isMember(id, userData.getId());
     }
 }
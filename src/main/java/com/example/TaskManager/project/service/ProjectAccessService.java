@@ -0,0 +1,60 @@
+package com.example.TaskManager.project.service;
+
+import com.example.TaskManager.project.model.ProjectAccess;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.UUID;
+
+@Service
+public class ProjectAccessService {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = ProjectAccessService.class.getName() + ".";
+
+    private final ProjectRepository projectRepository;
+
+    public ProjectAccessService(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    public boolean isOwner(UUID projectId, UUID userId) {
+        return getAccess(projectId).isOwner(userId);
+    }
+
+    public boolean isMember(UUID projectId, UUID userId) {
+        return getAccess(projectId).isMember(userId);
+    }
+
+    public ProjectAccess getAccess(UUID projectId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request == null) {
+            return load(projectId);
+        }
+
+        String attribute = REQUEST_ATTRIBUTE_PREFIX + projectId;
+
+        if (request.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST) instanceof ProjectAccess access) {
+            return access;
+        }
+
+        ProjectAccess access = load(projectId);
+        request.setAttribute(attribute, access, RequestAttributes.SCOPE_REQUEST);
+
+        return access;
+    }
+
+    public void evict(UUID projectId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + projectId, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private ProjectAccess load(UUID projectId) {
+        return ProjectAccess.of(projectRepository.findMembershipsById(projectId));
+    }
+}
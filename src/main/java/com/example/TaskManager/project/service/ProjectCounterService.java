@@ -0,0 +1,88 @@
+package com.example.TaskManager.project.service;
+
+import com.example.TaskManager.analytics.service.ProjectAnalyticsService;
+import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class ProjectCounterService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectAnalyticsService projectAnalyticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public ProjectCounterService(ProjectRepository projectRepository, ProjectAnalyticsService projectAnalyticsService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${projects.counters.chunk-size:500}") int chunkSize,
+                                 @Value("${projects.counters.max-chunks:100}") int maxChunks) {
+        this.projectRepository = projectRepository;
+        this.projectAnalyticsService = projectAnalyticsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+    }
+
+    public void taskAdded(Project project) {
+        adjust(project, 1, 0);
+    }
+
+    public void taskCompleted(Project project) {
+        adjust(project, 0, 1);
+    }
+
+    public void taskRemoved(Project project, boolean completed) {
+        adjust(project, -1, completed ? -1 : 0);
+    }
+
+    public int reconcile() {
+        int total = 0;
+
+        for (int i = 0; i < maxChunks; i++) {
+            Integer repaired = transactionTemplate.execute(status -> reconcileChunk());
+            total += repaired;
+
+            if (repaired < chunkSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+
+    private void adjust(Project project, int tasks, int completed) {
+        if (project == null) {
+            return;
+        }
+
+        projectRepository.adjustTaskCounters(project.getId(), tasks, completed, LocalDateTime.now());
+        projectAnalyticsService.upsertProjects(project.getUser().getId());
+    }
+
+    private int reconcileChunk() {
+        List<UUID> ids = projectRepository.findIdsWithTaskCounterDrift(PageRequest.of(0, chunkSize));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        projectRepository.recountTaskCounters(ids, now);
+        projectRepository.refreshCompletionPercent(ids, now);
+        projectRepository.findOwnerIdsByIdIn(ids).forEach(projectAnalyticsService::upsertProjects);
+
+        return ids.size();
+    }
+}
@@ -8,17 +8,19 @@ import com.example.TaskManager.exception.user.MemberNotFoundException;
 import com.example.TaskManager.project.event.ProjectOverdueEvent;
 import com.example.TaskManager.project.event.ProjectUpcomingDeadlineEvent;
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectDeadlineView;
+import com.example.TaskManager.project.model.ProjectListItem;
 import com.example.TaskManager.project.model.ProjectStatus;
 import com.example.TaskManager.project.repository.ProjectRepository;
 import com.example.TaskManager.tag.model.Tag;
 import com.example.TaskManager.tag.repository.TagRepository;
 import com.example.TaskManager.tag.service.TagService;
-import com.example.TaskManager.task.model.TaskStatus;
 import com.example.TaskManager.task.repository.TaskRepository;
-import com.example.TaskManager.task.service.TaskService;
+import com.example.TaskManager.task.service.TaskDeadlineQueue;
+import com.example.TaskManager.task.service.UserTaskStatsService;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.repository.UserRepository;
-import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.CreateProjectRequest;
 import com.example.TaskManager.web.dto.EditProjectRequest;
 import com.example.TaskManager.web.dto.InviteMemberRequest;
@@ -26,10 +28,11 @@ import com.example.TaskManager.web.dto.RemoveMemberRequest;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -39,25 +42,29 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final TagService tagService;
     private final ActivityService activityService;
-    private final TaskService taskService;
     private final ProjectAnalyticsService projectAnalyticsService;
     private final TaskRepository taskRepository;
     private final TagRepository tagRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final UserService userService;
     private final UserRepository userRepository;
+    private final ProjectAccessService projectAccessService;
+    private final UserTaskStatsService userTaskStatsService;
+    private final TaskDeadlineQueue taskDeadlineQueue;
 
-    public ProjectService(ProjectRepository projectRepository, TagService tagService, ActivityService activityService, TaskService taskService, ProjectAnalyticsService projectAnalyticsService, TaskRepository taskRepository, TagRepository tagRepository, ApplicationEventPublisher eventPublisher, UserService userService, UserRepository userRepository) {
+    private static final int PROJECTS_PAGE_SIZE = 12;
+
+    public ProjectService(ProjectRepository projectRepository, TagService tagService, ActivityService activityService, ProjectAnalyticsService projectAnalyticsService, TaskRepository taskRepository, TagRepository tagRepository, ApplicationEventPublisher eventPublisher, UserRepository userRepository, ProjectAccessService projectAccessService, UserTaskStatsService userTaskStatsService, TaskDeadlineQueue taskDeadlineQueue) {
         this.projectRepository = projectRepository;
         this.tagService = tagService;
         this.activityService = activityService;
-        this.taskService = taskService;
         this.projectAnalyticsService = projectAnalyticsService;
         this.taskRepository = taskRepository;
         this.tagRepository = tagRepository;
         this.eventPublisher = eventPublisher;
-        this.userService = userService;
         this.userRepository = userRepository;
+        this.projectAccessService = projectAccessService;
+        this.userTaskStatsService = userTaskStatsService;
+        this.taskDeadlineQueue = taskDeadlineQueue;
     }
 
     @Transactional
@@ -93,9 +100,9 @@ public class ProjectService {
         projectAnalyticsService.upsertProjects(user.getId());
     }
 
-    public List<Project> getRecentProjects(User user) {
+    public List<Project> getRecentProjects(UUID userId) {
 
-        List<Project> projects = projectRepository.findAllByUserIdAndDeletedOrderByDueDateAsc(user.getId(), false)
+        List<Project> projects = projectRepository.findAllByUserIdAndDeletedOrderByDueDateAsc(userId, false)
                 .stream().filter(p -> !p.getStatus().equals(ProjectStatus.OVERDUE) && !p.getStatus().equals(ProjectStatus.COMPLETED)).toList();
 
         List<Project> recentProjects = new ArrayList<>();
@@ -111,21 +118,6 @@ public class ProjectService {
         return recentProjects;
     }
 
-    public void calculateCompletionPercent(Project project) {
-        int tasks = taskService.getTasksByProjectIdNotDeleted(project.getId()).size();
-        int completedTasksCount = Math.toIntExact(project.getTasks().stream().filter(task -> task.getStatus().equals(TaskStatus.COMPLETED)).count());
-
-        if (tasks == 0) {
-            project.setCompletionPercent(0);
-            return;
-        }
-
-        double percent = ((double)completedTasksCount / tasks) * 100;
-
-        project.setCompletionPercent(Math.toIntExact(Math.round(percent)));
-        update(project);
-    }
-
     public void update(Project project) {
         project.setUpdatedOn(LocalDateTime.now());
         this.projectRepository.save(project);
@@ -136,23 +128,38 @@ public class ProjectService {
         return this.projectRepository.findByIdAndDeletedFalse(id).orElseThrow(() -> new RuntimeException("Project [%s] does not exist".formatted(id)));
     }
 
+    public Project getByIdWithTasks(UUID id) {
+        return this.projectRepository.findWithTasksByIdAndDeletedFalse(id).orElseThrow(() -> new RuntimeException("Project [%s] does not exist".formatted(id)));
+    }
+
+    @Transactional
     public void delete(UUID projectId) {
         Project project = getByIdNotDeleted(projectId);
         if (project.isDeleted()) {
             throw new RuntimeException("Project [%s] is already deleted.".formatted(projectId));
         }
 
-        taskRepository.deleteAll(project.getTasks());
-        assert project.getTags() != null;
-        tagRepository.deleteAll(project.getTags());
+        userTaskStatsService.removeProjectTasks(projectId);
+        taskDeadlineQueue.untrackAll(taskRepository.findIdsByProjectIdAndStatusNotIn(projectId, TaskDeadlineQueue.SETTLED_STATUSES));
+        taskRepository.deleteInBulkByProjectId(projectId);
+        tagRepository.deleteInBulkByProjectId(projectId);
         activityService.createActivity(ActivityType.PROJECT_DELETED, project.getUser(), project);
-        projectRepository.delete(project);
+        projectRepository.deleteInBulkById(projectId);
+        projectAccessService.evict(projectId);
     }
 
     public List<Project> getAllByUserIdAndDeletedFalse(UUID id) {
         return projectRepository.findAllByUserIdAndDeletedFalse(id);
     }
 
+    public long countByUserIdAndStatus(UUID id, ProjectStatus projectStatus) {
+        return projectRepository.countByUserIdAndDeletedFalseAndStatus(id, projectStatus);
+    }
+
+    public long countMemberships(UUID userId) {
+        return projectRepository.countByMembersId(userId);
+    }
+
     public List<Project> getAllByUserIdAndDeletedFalseAndStatus(UUID id, ProjectStatus projectStatus) {
         return projectRepository.findAllByUserIdAndDeletedFalseAndStatus(id, projectStatus);
     }
@@ -171,10 +178,10 @@ public class ProjectService {
 
         if (editProjectRequest.getDueDate() == null) {
             update(project);
-            activityService.createActivity(ActivityType.PROJECT_UPDATED, userService.getById(project.getUser().getId()), project);
+            activityService.createActivity(ActivityType.PROJECT_UPDATED, project.getUser(), project);
         } else {
             project.setDueDate(editProjectRequest.getDueDate());
-            activityService.createActivity(ActivityType.PROJECT_UPDATED, userService.getById(project.getUser().getId()), project);
+            activityService.createActivity(ActivityType.PROJECT_UPDATED, project.getUser(), project);
             update(project);
         }
     }
@@ -214,34 +221,27 @@ public class ProjectService {
         }
     }
 
-    @Scheduled(cron = "0 0 * * * *")
-    public void upcomingDeadlineChecker() {
-        List<Project> projects = projectRepository.findByStatusNotAndDeletedFalse(ProjectStatus.COMPLETED);
+    @Transactional
+    public int publishUpcomingDeadlines(LocalDateTime from, LocalDateTime to, int limit) {
+        List<UUID> ids = projectRepository.findUpcomingDeadlineIds(from, to, PageRequest.of(0, limit));
 
-        for (Project project : projects) {
-            processUpcomingDeadline(project);
+        if (ids.isEmpty()) {
+            return 0;
         }
-    }
 
-    private void processUpcomingDeadline(Project project) {
-        LocalDateTime now = LocalDateTime.now();
-        Duration duration;
-
-        duration = Duration.between(now, project.getDueDate());
+        UUID claimId = UUID.randomUUID();
+        int claimed = projectRepository.claimUpcomingDeadlines(ids, claimId);
 
-        if (!project.isNotifiedUpcoming()) {
-            if (duration.toHours() >= 23 && duration.toHours() <= 24) {
-                eventPublisher.publishEvent(new ProjectUpcomingDeadlineEvent(
-                        project.getId(),
-                        project.getUser().getId(),
-                        project.getTitle(),
-                        project.getDueDate()
-                ));
-                project.setNotifiedUpcoming(true);
-                projectRepository.save(project);
-            }
+        for (ProjectDeadlineView view : projectRepository.findByUpcomingClaimId(claimId)) {
+            eventPublisher.publishEvent(new ProjectUpcomingDeadlineEvent(
+                    view.getProjectId(),
+                    view.getOwnerId(),
+                    view.getTitle(),
+                    view.getDueDate()
+            ));
         }
 
+        return claimed;
     }
 
     public String getMembersToString(UUID id) {
@@ -263,12 +263,12 @@ public class ProjectService {
         if (project.getStatus() != ProjectStatus.COMPLETED) {
             project.setStatus(ProjectStatus.COMPLETED);
             update(project);
-            activityService.createActivity(ActivityType.PROJECT_COMPLETED, userService.getById(project.getUser().getId()), project);
+            activityService.createActivity(ActivityType.PROJECT_COMPLETED, project.getUser(), project);
         }
 
     }
 
-    public void inviteMember(InviteMemberRequest inviteMemberRequest, UUID projectId, User user) {
+    public void inviteMember(InviteMemberRequest inviteMemberRequest, UUID projectId, UserView user) {
         Project project = getByIdNotDeleted(projectId);
         Optional<User> invited = userRepository.findByUsername(inviteMemberRequest.getUsername());
 
@@ -288,15 +288,14 @@ public class ProjectService {
 
         members.add(invited.get());
         update(project);
+        projectAccessService.evict(projectId);
     }
 
-    public List<Project> getProjectsIncludedIn(User user) {
-        List<Project> projects = projectRepository.findAllByDeletedFalse();
-
-        return projects.stream().filter(p -> p.getUser().getId().equals(user.getId()) || p.getMembers().contains(user)).toList();
+    public Page<ProjectListItem> getProjectsIncludedIn(UUID userId, ProjectStatus status, int page) {
+        return projectRepository.findIncludedInWithTaskCounts(userId, status, PageRequest.of(Math.max(page, 0), PROJECTS_PAGE_SIZE));
     }
 
-    public void removeMember(UUID id, User user, @Valid RemoveMemberRequest removeMemberRequest) {
+    public void removeMember(UUID id, UserView user, @Valid RemoveMemberRequest removeMemberRequest) {
         Project project = getByIdNotDeleted(id);
         Optional<User> removed = userRepository.findByUsername(removeMemberRequest.getUsername());
 
@@ -312,5 +311,6 @@ public class ProjectService {
 
         members.remove(removed.get());
         update(project);
+        projectAccessService.evict(id);
     }
 }
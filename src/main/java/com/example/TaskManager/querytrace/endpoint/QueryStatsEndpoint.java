@@ -0,0 +1,31 @@
+package com.example.TaskManager.querytrace.endpoint;
+
+import com.example.TaskManager.querytrace.model.HandlerQueryStatsView;
+import com.example.TaskManager.querytrace.service.QueryTraceRecorder;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "querystats")
+public class QueryStatsEndpoint {
+
+    private final QueryTraceRecorder queryTraceRecorder;
+
+    public QueryStatsEndpoint(QueryTraceRecorder queryTraceRecorder) {
+        this.queryTraceRecorder = queryTraceRecorder;
+    }
+
+    @ReadOperation
+    public List<HandlerQueryStatsView> handlers() {
+        return queryTraceRecorder.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryTraceRecorder.reset();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.TaskManager.querytrace.hibernate;
+
+import com.example.TaskManager.querytrace.model.QueryTrace;
+import com.example.TaskManager.querytrace.service.QueryTraceContext;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+public class QueryTraceIntegrator implements Integrator {
+
+    private static final PostLoadEventListener ENTITY_LOADED = event -> {
+        QueryTrace trace = QueryTraceContext.current();
+
+        if (trace != null) {
+            trace.entityLoaded();
+        }
+    };
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, ENTITY_LOADED);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.TaskManager.querytrace.hibernate;
+
+import com.example.TaskManager.querytrace.model.QueryTrace;
+import com.example.TaskManager.querytrace.service.QueryTraceContext;
+import org.hibernate.BaseSessionEventListener;
+
+public class QueryTraceSessionListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        QueryTrace trace = QueryTraceContext.current();
+
+        if (trace != null && start != 0) {
+            trace.statementExecuted(System.nanoTime() - start);
+        }
+    }
+}
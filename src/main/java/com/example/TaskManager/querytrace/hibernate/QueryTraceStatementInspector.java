@@ -0,0 +1,19 @@
+package com.example.TaskManager.querytrace.hibernate;
+
+import com.example.TaskManager.querytrace.model.QueryTrace;
+import com.example.TaskManager.querytrace.service.QueryTraceContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryTraceStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryTrace trace = QueryTraceContext.current();
+
+        if (trace != null) {
+            trace.statementPrepared(sql);
+        }
+
+        return sql;
+    }
+}
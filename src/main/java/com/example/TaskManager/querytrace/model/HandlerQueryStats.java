@@ -0,0 +1,99 @@
+package com.example.TaskManager.querytrace.model;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class HandlerQueryStats {
+
+    private final String handler;
+    private final int maxSignatures;
+    private final Map<String, RepeatedStatementStats> repeated = new HashMap<>();
+    private long requests;
+    private long detailedRequests;
+    private long slowRequests;
+    private long statements;
+    private int maxStatements;
+    private long jdbcNanos;
+    private long maxJdbcNanos;
+    private long entityLoads;
+    private int maxEntityLoads;
+    private long elapsedNanos;
+    private long maxElapsedNanos;
+
+    public HandlerQueryStats(String handler, int maxSignatures) {
+        this.handler = handler;
+        this.maxSignatures = maxSignatures;
+    }
+
+    public synchronized void record(QueryTrace trace, long elapsed, boolean slow, List<RepeatedStatement> repeatedStatements) {
+        requests++;
+        detailedRequests += trace.isDetailed() ? 1 : 0;
+        slowRequests += slow ? 1 : 0;
+        statements += trace.getStatements();
+        maxStatements = Math.max(maxStatements, trace.getStatements());
+        jdbcNanos += trace.getJdbcNanos();
+        maxJdbcNanos = Math.max(maxJdbcNanos, trace.getJdbcNanos());
+        entityLoads += trace.getEntityLoads();
+        maxEntityLoads = Math.max(maxEntityLoads, trace.getEntityLoads());
+        elapsedNanos += elapsed;
+        maxElapsedNanos = Math.max(maxElapsedNanos, elapsed);
+
+        for (RepeatedStatement statement : repeatedStatements) {
+            RepeatedStatementStats stats = repeated.get(statement.getSignature());
+
+            if (stats == null && repeated.size() >= maxSignatures) {
+                continue;
+            }
+            if (stats == null) {
+                stats = new RepeatedStatementStats();
+                repeated.put(statement.getSignature(), stats);
+            }
+
+            stats.requests++;
+            stats.maxExecutions = Math.max(stats.maxExecutions, statement.getExecutions());
+        }
+    }
+
+    public synchronized HandlerQueryStatsView view() {
+        return HandlerQueryStatsView.builder()
+                .handler(handler)
+                .requests(requests)
+                .detailedRequests(detailedRequests)
+                .slowRequests(slowRequests)
+                .avgStatements(average(statements))
+                .maxStatements(maxStatements)
+                .totalJdbcMillis(millis(jdbcNanos))
+                .avgJdbcMillis(average(millis(jdbcNanos)))
+                .maxJdbcMillis(millis(maxJdbcNanos))
+                .avgEntityLoads(average(entityLoads))
+                .maxEntityLoads(maxEntityLoads)
+                .avgElapsedMillis(average(millis(elapsedNanos)))
+                .maxElapsedMillis(millis(maxElapsedNanos))
+                .repeatedStatements(repeated.entrySet().stream()
+                        .map(entry -> HandlerQueryStatsView.RepeatedStatementView.builder()
+                                .signature(entry.getKey())
+                                .requests(entry.getValue().requests)
+                                .maxExecutions(entry.getValue().maxExecutions)
+                                .build())
+                        .sorted(Comparator.comparingLong(HandlerQueryStatsView.RepeatedStatementView::getRequests).reversed())
+                        .toList())
+                .build();
+    }
+
+    private double average(double total) {
+        return requests == 0 ? 0 : total / requests;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static class RepeatedStatementStats {
+
+        private long requests;
+        private int maxExecutions;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.TaskManager.querytrace.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class HandlerQueryStatsView {
+
+    String handler;
+
+    long requests;
+
+    long detailedRequests;
+
+    long slowRequests;
+
+    double avgStatements;
+
+    int maxStatements;
+
+    double totalJdbcMillis;
+
+    double avgJdbcMillis;
+
+    double maxJdbcMillis;
+
+    double avgEntityLoads;
+
+    int maxEntityLoads;
+
+    double avgElapsedMillis;
+
+    double maxElapsedMillis;
+
+    List<RepeatedStatementView> repeatedStatements;
+
+    @Value
+    @Builder
+    public static class RepeatedStatementView {
+
+        String signature;
+
+        long requests;
+
+        int maxExecutions;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.TaskManager.querytrace.model;
+
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@Getter
+public class QueryTrace {
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String handler;
+    private final boolean detailed;
+    private final int maxSignatures;
+    private final long startNanos;
+    private final Map<String, Integer> signatures = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private int entityLoads;
+
+    public QueryTrace(String handler, boolean detailed, int maxSignatures) {
+        this.handler = handler;
+        this.detailed = detailed;
+        this.maxSignatures = maxSignatures;
+        this.startNanos = System.nanoTime();
+    }
+
+    public void statementPrepared(String sql) {
+        statements++;
+
+        if (!detailed) {
+            return;
+        }
+
+        String signature = signature(sql);
+        if (signatures.containsKey(signature) || signatures.size() < maxSignatures) {
+            signatures.merge(signature, 1, Integer::sum);
+        }
+    }
+
+    public void statementExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public void entityLoaded() {
+        entityLoads++;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public List<RepeatedStatement> repeatedStatements(int threshold) {
+        return signatures.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .map(entry -> new RepeatedStatement(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(RepeatedStatement::getExecutions).reversed())
+                .toList();
+    }
+
+    static String signature(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+
+        return PARAMETER_LIST.matcher(collapsed).replaceAll("(?...)");
+    }
+}
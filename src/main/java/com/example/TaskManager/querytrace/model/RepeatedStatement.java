@@ -0,0 +1,11 @@
+package com.example.TaskManager.querytrace.model;
+
+import lombok.Value;
+
+@Value
+public class RepeatedStatement {
+
+    String signature;
+
+    int executions;
+}
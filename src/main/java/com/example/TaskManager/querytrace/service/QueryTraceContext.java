@@ -0,0 +1,23 @@
+package com.example.TaskManager.querytrace.service;
+
+import com.example.TaskManager.querytrace.model.QueryTrace;
+
+public final class QueryTraceContext {
+
+    private static final ThreadLocal<QueryTrace> CURRENT = new ThreadLocal<>();
+
+    private QueryTraceContext() {
+    }
+
+    public static QueryTrace current() {
+        return CURRENT.get();
+    }
+
+    static void set(QueryTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.TaskManager.querytrace.service;
+
+import com.example.TaskManager.querytrace.model.HandlerQueryStats;
+import com.example.TaskManager.querytrace.model.HandlerQueryStatsView;
+import com.example.TaskManager.querytrace.model.QueryTrace;
+import com.example.TaskManager.querytrace.model.RepeatedStatement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class QueryTraceRecorder {
+
+    private final Map<String, HandlerQueryStats> stats = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowRequestNanos;
+    private final int slowStatementCount;
+    private final int nPlusOneThreshold;
+    private final int maxSignatures;
+
+    public QueryTraceRecorder(@Value("${query-trace.enabled:true}") boolean enabled,
+                              @Value("${query-trace.sample-rate:0.1}") double sampleRate,
+                              @Value("${query-trace.slow-request-ms:500}") long slowRequestMillis,
+                              @Value("${query-trace.slow-statement-count:50}") int slowStatementCount,
+                              @Value("${query-trace.n-plus-one-threshold:10}") int nPlusOneThreshold,
+                              @Value("${query-trace.max-signatures:200}") int maxSignatures) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMillis);
+        this.slowStatementCount = slowStatementCount;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.maxSignatures = maxSignatures;
+    }
+
+    public QueryTrace start(String handler) {
+        if (!enabled || QueryTraceContext.current() != null) {
+            return null;
+        }
+
+        boolean detailed = sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        QueryTrace trace = new QueryTrace(handler, detailed, maxSignatures);
+        QueryTraceContext.set(trace);
+
+        return trace;
+    }
+
+    public void finish(QueryTrace trace) {
+        if (trace == null) {
+            return;
+        }
+
+        QueryTraceContext.clear();
+
+        long elapsed = trace.elapsedNanos();
+        boolean slow = elapsed >= slowRequestNanos || trace.getStatements() >= slowStatementCount;
+        List<RepeatedStatement> repeated = trace.repeatedStatements(nPlusOneThreshold);
+
+        stats.computeIfAbsent(trace.getHandler(), handler -> new HandlerQueryStats(handler, maxSignatures))
+                .record(trace, elapsed, slow, repeated);
+
+        if (slow) {
+            logSlowRequest(trace, elapsed);
+        }
+        repeated.forEach(statement -> logRepeatedStatement(trace, statement));
+    }
+
+    public List<HandlerQueryStatsView> snapshot() {
+        return stats.values().stream()
+                .map(HandlerQueryStats::view)
+                .sorted(Comparator.comparingDouble(HandlerQueryStatsView::getTotalJdbcMillis).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private void logSlowRequest(QueryTrace trace, long elapsed) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        long jdbcMillis = TimeUnit.NANOSECONDS.toMillis(trace.getJdbcNanos());
+
+        log.atWarn()
+                .addKeyValue("event", "slow_request")
+                .addKeyValue("handler", trace.getHandler())
+                .addKeyValue("elapsedMs", elapsedMillis)
+                .addKeyValue("statements", trace.getStatements())
+                .addKeyValue("jdbcMs", jdbcMillis)
+                .addKeyValue("entityLoads", trace.getEntityLoads())
+                .log("Slow request handler=%s elapsedMs=%d statements=%d jdbcMs=%d entityLoads=%d"
+                        .formatted(trace.getHandler(), elapsedMillis, trace.getStatements(), jdbcMillis, trace.getEntityLoads()));
+    }
+
+    private void logRepeatedStatement(QueryTrace trace, RepeatedStatement statement) {
+        log.atWarn()
+                .addKeyValue("event", "n_plus_one")
+                .addKeyValue("handler", trace.getHandler())
+                .addKeyValue("executions", statement.getExecutions())
+                .addKeyValue("signature", statement.getSignature())
+                .log("Repeated statement handler=%s executions=%d signature=[%s]"
+                        .formatted(trace.getHandler(), statement.getExecutions(), statement.getSignature()));
+    }
+}
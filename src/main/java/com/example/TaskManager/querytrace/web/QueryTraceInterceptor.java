@@ -0,0 +1,41 @@
+package com.example.TaskManager.querytrace.web;
+
+import com.example.TaskManager.querytrace.model.QueryTrace;
+import com.example.TaskManager.querytrace.service.QueryTraceRecorder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class QueryTraceInterceptor implements HandlerInterceptor {
+
+    private static final String TRACE_ATTRIBUTE = QueryTraceInterceptor.class.getName() + ".trace";
+
+    private final QueryTraceRecorder queryTraceRecorder;
+
+    public QueryTraceInterceptor(QueryTraceRecorder queryTraceRecorder) {
+        this.queryTraceRecorder = queryTraceRecorder;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String name = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+            QueryTrace trace = queryTraceRecorder.start(name);
+
+            if (trace != null) {
+                request.setAttribute(TRACE_ATTRIBUTE, trace);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(TRACE_ATTRIBUTE) instanceof QueryTrace trace) {
+            request.removeAttribute(TRACE_ATTRIBUTE);
+            queryTraceRecorder.finish(trace);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.TaskManager.seed.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SeedPlan {
+
+    int users;
+
+    int tasksPerUser;
+
+    int projectsPerUser;
+
+    int membersPerProject;
+
+    int tagsPerProject;
+
+    int activitiesPerUser;
+
+    double skew;
+
+    long randomSeed;
+
+    String password;
+}
@@ -0,0 +1,30 @@
+package com.example.TaskManager.seed.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class SeedReport {
+
+    List<UUID> userIds;
+
+    long projects;
+
+    long members;
+
+    long tags;
+
+    long tasks;
+
+    long activities;
+
+    long elapsedMillis;
+
+    public long rows() {
+        return userIds.size() + projects + members + tags + tasks + activities;
+    }
+}
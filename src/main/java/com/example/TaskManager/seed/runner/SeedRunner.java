@@ -0,0 +1,52 @@
+package com.example.TaskManager.seed.runner;
+
+import com.example.TaskManager.seed.model.SeedPlan;
+import com.example.TaskManager.seed.model.SeedReport;
+import com.example.TaskManager.seed.service.DataSeeder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("seed")
+public class SeedRunner implements ApplicationRunner {
+
+    private final DataSeeder dataSeeder;
+    private final SeedPlan plan;
+
+    public SeedRunner(DataSeeder dataSeeder,
+                      @Value("${seed.users:1000}") int users,
+                      @Value("${seed.tasks-per-user:200}") int tasksPerUser,
+                      @Value("${seed.projects-per-user:10}") int projectsPerUser,
+                      @Value("${seed.members-per-project:3}") int membersPerProject,
+                      @Value("${seed.tags-per-project:5}") int tagsPerProject,
+                      @Value("${seed.activities-per-user:500}") int activitiesPerUser,
+                      @Value("${seed.skew:1.1}") double skew,
+                      @Value("${seed.random-seed:42}") long randomSeed,
+                      @Value("${seed.password:seed-password}") String password) {
+        this.dataSeeder = dataSeeder;
+        this.plan = SeedPlan.builder()
+                .users(users)
+                .tasksPerUser(tasksPerUser)
+                .projectsPerUser(projectsPerUser)
+                .membersPerProject(membersPerProject)
+                .tagsPerProject(tagsPerProject)
+                .activitiesPerUser(activitiesPerUser)
+                .skew(skew)
+                .randomSeed(randomSeed)
+                .password(password)
+                .build();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SeedReport report = dataSeeder.seed(plan);
+
+        log.info("Seed finished: [%d] rows, %.0f rows/s".formatted(
+                report.rows(), report.rows() * 1000.0 / Math.max(1, report.getElapsedMillis())));
+    }
+}
@@ -0,0 +1,358 @@
+package com.example.TaskManager.seed.service;
+
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.project.model.ProjectStatus;
+import com.example.TaskManager.project.model.ProjectVisibility;
+import com.example.TaskManager.seed.model.SeedPlan;
+import com.example.TaskManager.seed.model.SeedReport;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.model.UserTaskStatsKey;
+import com.example.TaskManager.user.model.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class DataSeeder {
+
+    private static final String INSERT_USER = "INSERT INTO users (id, username, first_name, last_name, password, email, role, created_on, modified_on, active, " +
+            "email_notification_enabled, dead_line_notification_enabled, summary_notification_enabled, reminder_notification_enabled, profile_completed, provider) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PROJECT = "INSERT INTO project (id, title, description, created_on, updated_on, status, due_date, completion_percent, " +
+            "task_count, completed_task_count, deleted, project_visibility, user_id, notified_upcoming, notified_overdue) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, 0, false, ?, ?, false, false)";
+
+    private static final String INSERT_MEMBER = "INSERT INTO projects_users (project_id, user_id) VALUES (?, ?)";
+
+    private static final String INSERT_TAG = "INSERT INTO tag (id, title, project_id) VALUES (?, ?, ?)";
+
+    private static final String INSERT_TASK = "INSERT INTO task (id, title, description, status, priority, created_on, updated_on, due_date, completed_on, " +
+            "deleted, notified_overdue, notified_upcoming, user_id, project_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+    private static final String UPDATE_PROJECT_COUNTERS = "UPDATE project SET task_count = ?, completed_task_count = ?, completion_percent = ? WHERE id = ?";
+
+    private static final String INSERT_TASK_STATS = "INSERT INTO user_task_stats (user_id, personal, deleted, status, priority, task_count) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ACTIVITY = "INSERT INTO activity (id, message, created_on, updated_on, user_id, date_output, type, deleted) " +
+            "VALUES (?, ?, ?, ?, ?, '', ?, false)";
+
+    private static final double PERSONAL_TASK_SHARE = 0.6;
+    private static final int ACTIVITY_WINDOW_MINUTES = 60 * 24 * 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final int batchSize;
+
+    public DataSeeder(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, PasswordEncoder passwordEncoder,
+                      @Value("${seed.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.batchSize = batchSize;
+    }
+
+    public SeedReport seed(SeedPlan plan) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(plan.getRandomSeed());
+        ZipfDistribution popularity = new ZipfDistribution(plan.getUsers(), plan.getSkew());
+        boolean binaryIds = usesBinaryIds();
+        String run = Long.toString(Math.floorMod(UUID.randomUUID().getLeastSignificantBits(), 1_679_616L), 36);
+
+        List<UUID> userIds = insertUsers(plan, binaryIds, run);
+        List<List<Integer>> projectsByUser = new ArrayList<>();
+        userIds.forEach(id -> projectsByUser.add(new ArrayList<>()));
+
+        List<UUID> projectIds = new ArrayList<>();
+        List<Integer> projectOwners = new ArrayList<>();
+        int[] projectCounts = popularity.allocate((long) plan.getUsers() * plan.getProjectsPerUser(), random);
+
+        try (BatchWriter projects = new BatchWriter(INSERT_PROJECT)) {
+            for (int owner = 0; owner < userIds.size(); owner++) {
+                for (int i = 0; i < projectCounts[owner]; i++) {
+                    UUID id = UUID.randomUUID();
+                    LocalDateTime createdOn = LocalDateTime.now().minusDays(random.nextInt(90));
+
+                    projects.add(id(id, binaryIds), "Project " + (i + 1), "Seeded project", createdOn, createdOn,
+                            projectStatus(random).name(), LocalDateTime.now().plusDays(1 + random.nextInt(60)),
+                            ProjectVisibility.PRIVATE.name(), id(userIds.get(owner), binaryIds));
+                    projectIds.add(id);
+                    projectOwners.add(owner);
+                    projectsByUser.get(owner).add(projectIds.size() - 1);
+                }
+            }
+        }
+
+        long members = insertMembers(plan, popularity, random, binaryIds, userIds, projectIds, projectOwners, projectsByUser);
+        long tags = insertTags(plan, random, binaryIds, projectIds);
+        long tasks = insertTasks(plan, popularity, random, binaryIds, run, userIds, projectIds, projectsByUser);
+        long activities = insertActivities(plan, popularity, random, binaryIds, userIds);
+
+        SeedReport report = SeedReport.builder()
+                .userIds(userIds)
+                .projects(projectIds.size())
+                .members(members)
+                .tags(tags)
+                .tasks(tasks)
+                .activities(activities)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+
+        log.info("Seeded [%d] rows (%d users, %d projects, %d members, %d tags, %d tasks, %d activities) in [%d] ms".formatted(
+                report.rows(), userIds.size(), report.getProjects(), members, tags, tasks, activities, report.getElapsedMillis()));
+
+        return report;
+    }
+
+    private List<UUID> insertUsers(SeedPlan plan, boolean binaryIds, String run) {
+        String password = passwordEncoder.encode(plan.getPassword());
+        List<UUID> userIds = new ArrayList<>();
+
+        try (BatchWriter users = new BatchWriter(INSERT_USER)) {
+            for (int i = 0; i < plan.getUsers(); i++) {
+                UUID id = UUID.randomUUID();
+                String username = "seed-%s-%d".formatted(run, i);
+                LocalDateTime now = LocalDateTime.now();
+
+                users.add(id(id, binaryIds), username, "Seed", "User " + i, password, username + "@seed.local", UserRole.USER.name(),
+                        now, now, true, true, true, true, true, true, "");
+                userIds.add(id);
+            }
+        }
+
+        return userIds;
+    }
+
+    private long insertMembers(SeedPlan plan, ZipfDistribution popularity, Random random, boolean binaryIds, List<UUID> userIds,
+                               List<UUID> projectIds, List<Integer> projectOwners, List<List<Integer>> projectsByUser) {
+        if (projectIds.isEmpty() || userIds.size() < 2) {
+            return 0;
+        }
+
+        int[] memberCounts = new ZipfDistribution(projectIds.size(), plan.getSkew())
+                .allocate((long) projectIds.size() * plan.getMembersPerProject(), random);
+
+        try (BatchWriter members = new BatchWriter(INSERT_MEMBER)) {
+            for (int project = 0; project < projectIds.size(); project++) {
+                Set<Integer> picked = new HashSet<>();
+                int wanted = Math.min(memberCounts[project], userIds.size() - 1);
+
+                for (int attempt = 0; picked.size() < wanted && attempt < wanted * 4; attempt++) {
+                    int member = popularity.sample(random);
+
+                    if (member != projectOwners.get(project) && picked.add(member)) {
+                        members.add(id(projectIds.get(project), binaryIds), id(userIds.get(member), binaryIds));
+                        projectsByUser.get(member).add(project);
+                    }
+                }
+            }
+
+            members.flush();
+            return members.getWritten();
+        }
+    }
+
+    private long insertTags(SeedPlan plan, Random random, boolean binaryIds, List<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+
+        int[] tagCounts = new ZipfDistribution(projectIds.size(), plan.getSkew())
+                .allocate((long) projectIds.size() * plan.getTagsPerProject(), random);
+
+        try (BatchWriter tags = new BatchWriter(INSERT_TAG)) {
+            for (int project = 0; project < projectIds.size(); project++) {
+                for (int i = 0; i < tagCounts[project]; i++) {
+                    tags.add(id(UUID.randomUUID(), binaryIds), "tag-" + (i + 1), id(projectIds.get(project), binaryIds));
+                }
+            }
+
+            tags.flush();
+            return tags.getWritten();
+        }
+    }
+
+    private long insertTasks(SeedPlan plan, ZipfDistribution popularity, Random random, boolean binaryIds, String run,
+                             List<UUID> userIds, List<UUID> projectIds, List<List<Integer>> projectsByUser) {
+        int[] taskCounts = popularity.allocate((long) plan.getUsers() * plan.getTasksPerUser(), random);
+        int[] projectTasks = new int[projectIds.size()];
+        int[] projectCompleted = new int[projectIds.size()];
+        Map<UserTaskStatsKey, Long> stats = new HashMap<>();
+        TaskPriority[] priorities = TaskPriority.values();
+        long sequence = 0;
+        long written;
+
+        try (BatchWriter tasks = new BatchWriter(INSERT_TASK)) {
+            for (int user = 0; user < userIds.size(); user++) {
+                List<Integer> projects = projectsByUser.get(user);
+
+                for (int i = 0; i < taskCounts[user]; i++) {
+                    boolean personal = projects.isEmpty() || random.nextDouble() < PERSONAL_TASK_SHARE;
+                    boolean deleted = personal && random.nextInt(20) == 0;
+                    int project = personal ? -1 : projects.get(random.nextInt(projects.size()));
+                    TaskStatus status = taskStatus(random);
+                    TaskPriority priority = priorities[random.nextInt(priorities.length)];
+                    LocalDateTime createdOn = LocalDateTime.now().minusDays(random.nextInt(60)).minusMinutes(random.nextInt(1440));
+                    LocalDateTime dueDate = status == TaskStatus.OVERDUE
+                            ? LocalDateTime.now().minusDays(1 + random.nextInt(10))
+                            : LocalDateTime.now().plusHours(1 + random.nextInt(24 * 30));
+
+                    tasks.add(id(UUID.randomUUID(), binaryIds), "T-%s-%s".formatted(run, Long.toString(sequence++, 36)), "Seeded task",
+                            status.name(), priority.name(), createdOn, createdOn, dueDate,
+                            status == TaskStatus.COMPLETED ? createdOn.plusDays(random.nextInt(5)) : null,
+                            deleted, status == TaskStatus.OVERDUE,
+                            id(userIds.get(user), binaryIds), personal ? null : id(projectIds.get(project), binaryIds));
+
+                    UserTaskStatsKey key = UserTaskStatsKey.builder()
+                            .userId(userIds.get(user))
+                            .personal(personal)
+                            .deleted(deleted)
+                            .status(status)
+                            .priority(priority)
+                            .build();
+                    stats.merge(key, 1L, Long::sum);
+                    if (!personal) {
+                        projectTasks[project]++;
+                        projectCompleted[project] += status == TaskStatus.COMPLETED ? 1 : 0;
+                    }
+                }
+            }
+
+            tasks.flush();
+            written = tasks.getWritten();
+        }
+
+        try (BatchWriter counters = new BatchWriter(UPDATE_PROJECT_COUNTERS)) {
+            for (int project = 0; project < projectIds.size(); project++) {
+                int percent = projectTasks[project] == 0 ? 0 : (int) Math.round(100.0 * projectCompleted[project] / projectTasks[project]);
+
+                counters.add(projectTasks[project], projectCompleted[project], percent, id(projectIds.get(project), binaryIds));
+            }
+        }
+
+        try (BatchWriter rows = new BatchWriter(INSERT_TASK_STATS)) {
+            stats.forEach((key, count) -> rows.add(id(key.getUserId(), binaryIds), key.isPersonal(), key.isDeleted(),
+                    key.getStatus().name(), key.getPriority().name(), count));
+        }
+
+        return written;
+    }
+
+    private long insertActivities(SeedPlan plan, ZipfDistribution popularity, Random random, boolean binaryIds, List<UUID> userIds) {
+        int[] activityCounts = popularity.allocate((long) plan.getUsers() * plan.getActivitiesPerUser(), random);
+        ActivityType[] types = ActivityType.values();
+
+        try (BatchWriter activities = new BatchWriter(INSERT_ACTIVITY)) {
+            for (int user = 0; user < userIds.size(); user++) {
+                for (int i = 0; i < activityCounts[user]; i++) {
+                    ActivityType type = types[random.nextInt(types.length)];
+                    LocalDateTime createdOn = LocalDateTime.now().minusMinutes(random.nextInt(ACTIVITY_WINDOW_MINUTES));
+
+                    activities.add(id(UUID.randomUUID(), binaryIds), "Seeded " + type.name().toLowerCase().replace('_', ' '),
+                            createdOn, createdOn, id(userIds.get(user), binaryIds), type.name());
+                }
+            }
+
+            activities.flush();
+            return activities.getWritten();
+        }
+    }
+
+    private ProjectStatus projectStatus(Random random) {
+        int roll = random.nextInt(100);
+
+        if (roll < 70) {
+            return ProjectStatus.ACTIVE;
+        }
+        if (roll < 85) {
+            return ProjectStatus.COMPLETED;
+        }
+        return roll < 95 ? ProjectStatus.ON_HOLD : ProjectStatus.IN_PROGRESS;
+    }
+
+    private TaskStatus taskStatus(Random random) {
+        int roll = random.nextInt(100);
+
+        if (roll < 35) {
+            return TaskStatus.TODO;
+        }
+        if (roll < 60) {
+            return TaskStatus.IN_PROGRESS;
+        }
+        return roll < 90 ? TaskStatus.COMPLETED : TaskStatus.OVERDUE;
+    }
+
+    private boolean usesBinaryIds() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+        return product != null && (product.contains("MySQL") || product.contains("MariaDB"));
+    }
+
+    private Object id(UUID id, boolean binary) {
+        if (!binary) {
+            return id;
+        }
+
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private class BatchWriter implements AutoCloseable {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long written;
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+            written += rows.size();
+            rows.clear();
+        }
+
+        private long getWritten() {
+            return written;
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
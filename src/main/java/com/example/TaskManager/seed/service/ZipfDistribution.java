@@ -0,0 +1,54 @@
+package com.example.TaskManager.seed.service;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class ZipfDistribution {
+
+    private final double[] cdf;
+
+    public ZipfDistribution(int size, double skew) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Zipf distribution needs at least one rank, got [%d]".formatted(size));
+        }
+
+        this.cdf = new double[size];
+        double total = 0;
+
+        for (int rank = 0; rank < size; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cdf[rank] = total;
+        }
+
+        for (int rank = 0; rank < size; rank++) {
+            cdf[rank] /= total;
+        }
+    }
+
+    public int size() {
+        return cdf.length;
+    }
+
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+
+        return Math.min(index < 0 ? -index - 1 : index, cdf.length - 1);
+    }
+
+    public int[] allocate(long total, Random random) {
+        int[] counts = new int[cdf.length];
+        long allocated = 0;
+
+        for (int rank = 0; rank < cdf.length; rank++) {
+            double share = cdf[rank] - (rank == 0 ? 0 : cdf[rank - 1]);
+            counts[rank] = (int) Math.floor(total * share);
+            allocated += counts[rank];
+        }
+
+        for (long i = allocated; i < total; i++) {
+            counts[sample(random)]++;
+        }
+
+        return counts;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.TaskManager.summary.model;
+
+import com.example.TaskManager.activity.model.ActivityType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SummaryCounters {
+
+    private final AtomicLong createdTasks;
+    private final AtomicLong completedTasks;
+    private final AtomicLong overdueTasks;
+    private final AtomicLong createdProjects;
+    private final AtomicLong completedProjects;
+
+    public SummaryCounters(SummaryDto dto) {
+        this.createdTasks = new AtomicLong(dto.getCreatedTasks());
+        this.completedTasks = new AtomicLong(dto.getCompletedTasks());
+        this.overdueTasks = new AtomicLong(dto.getOverdueTasks());
+        this.createdProjects = new AtomicLong(dto.getCreatedProjects());
+        this.completedProjects = new AtomicLong(dto.getCompletedProjects());
+    }
+
+    public void record(ActivityType type) {
+        switch (type) {
+            case TASK_CREATED -> createdTasks.incrementAndGet();
+            case TASK_COMPLETED -> completedTasks.incrementAndGet();
+            case PROJECT_CREATED -> createdProjects.incrementAndGet();
+            case PROJECT_COMPLETED -> completedProjects.incrementAndGet();
+            default -> {
+            }
+        }
+    }
+
+    public void addOverdue(long delta) {
+        overdueTasks.updateAndGet(current -> Math.max(0, current + delta));
+    }
+
+    public long getCreatedTasks() {
+        return createdTasks.get();
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks.get();
+    }
+
+    public long getOverdueTasks() {
+        return overdueTasks.get();
+    }
+
+    public long getCreatedProjects() {
+        return createdProjects.get();
+    }
+
+    public long getCompletedProjects() {
+        return completedProjects.get();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.TaskManager.summary.model;
+
+import com.example.TaskManager.activity.model.ActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class UserActivityCount {
+
+    private UUID userId;
+    private ActivityType type;
+    private long count;
+
+}
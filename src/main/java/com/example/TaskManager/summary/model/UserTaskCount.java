@@ -0,0 +1,15 @@
+package com.example.TaskManager.summary.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class UserTaskCount {
+
+    private UUID userId;
+    private long count;
+
+}
@@ -1,32 +1,90 @@
 package com.example.TaskManager.summary.scheduler;
 
-import com.example.TaskManager.summary.model.SummaryDto;
 import com.example.TaskManager.summary.service.SummaryService;
-import com.example.TaskManager.user.model.User;
-import com.example.TaskManager.user.service.UserService;
+import com.example.TaskManager.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
 public class SummaryScheduler {
 
     private final SummaryService summaryService;
-    private final UserService userService;
+    private final UserRepository userRepository;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int shardIndex;
+    private final int shardCount;
+    private final UUID shardAfter;
+    private final UUID shardLast;
 
-    public SummaryScheduler(SummaryService summaryService, UserService userService) {
+    public SummaryScheduler(SummaryService summaryService, UserRepository userRepository,
+                            @Qualifier("summaryExecutor") Executor executor,
+                            @Value("${summary.chunk-size:500}") int chunkSize,
+                            @Value("${summary.shard-index:0}") int shardIndex,
+                            @Value("${summary.shard-count:1}") int shardCount) {
         this.summaryService = summaryService;
-        this.userService = userService;
+        this.userRepository = userRepository;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.shardAfter = shardIndex == 0 ? new UUID(0, 0) : new UUID(shardStart(shardIndex, shardCount) - 1, -1L);
+        this.shardLast = shardIndex == shardCount - 1 ? new UUID(-1L, -1L) : new UUID(shardStart(shardIndex + 1, shardCount) - 1, -1L);
     }
 
-    @Scheduled(cron = "0 0 10 * * *")
+    @Scheduled(cron = "${summary.cron:0 0 10 * * *}")
     public void sendDailySummaries() {
-        List<User> users = userService.getAllUsers();
+        LocalDateTime windowStart = summaryService.closedWindowStart(LocalDateTime.now());
 
-        for (User user : users) {
-            SummaryDto dto = summaryService.dailySummary(user.getId());
-            summaryService.sendDailySummary(user.getId(), dto);
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+        UUID after = shardAfter;
+        List<UUID> page;
+
+        do {
+            page = userRepository.findSummaryRecipientIdsBetween(after, shardLast, PageRequest.of(0, chunkSize));
+
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<UUID> chunk = page;
+            chunks.add(CompletableFuture.supplyAsync(() -> summaryService.sendDailySummaries(chunk, windowStart), executor));
+
+            after = page.get(page.size() - 1);
+        } while (page.size() == chunkSize);
+
+        int sent = chunks.stream().mapToInt(this::await).sum();
+
+        log.info("Queued daily summaries for [%d] users in shard [%d/%d]".formatted(sent, shardIndex, shardCount));
+    }
+
+    // Shards split the unsigned high 64 bits of the id into contiguous ranges, matching the database's uuid ordering.
+    private static long shardStart(int shardIndex, int shardCount) {
+        return BigInteger.ONE.shiftLeft(64)
+                .multiply(BigInteger.valueOf(shardIndex))
+                .divide(BigInteger.valueOf(shardCount))
+                .longValue();
+    }
+
+    private int await(CompletableFuture<Integer> chunk) {
+        try {
+            return chunk.join();
+        } catch (RuntimeException e) {
+            log.error("Daily summary chunk failed due to %s".formatted(e.getMessage()));
+            return 0;
         }
     }
 }
@@ -0,0 +1,82 @@
+package com.example.TaskManager.summary.service;
+
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.summary.model.SummaryCounters;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class SummaryCache {
+
+    public static final String CACHE_NAME = "dailySummary";
+
+    private final Cache<Object, Object> cache;
+    private final int windowStartHour;
+
+    public SummaryCache(CacheManager cacheManager, @Value("${summary.window-start-hour:10}") int windowStartHour) {
+        CaffeineCache caffeineCache = (CaffeineCache) Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+        this.cache = caffeineCache.getNativeCache();
+        this.windowStartHour = windowStartHour;
+    }
+
+    public LocalDateTime windowStart(LocalDateTime at) {
+        LocalDateTime start = at.toLocalDate().atTime(windowStartHour, 0);
+
+        return at.isBefore(start) ? start.minusDays(1) : start;
+    }
+
+    public SummaryCounters get(UUID userId, LocalDateTime windowStart, Function<LocalDateTime, SummaryCounters> loader) {
+        return (SummaryCounters) cache.get(new WindowKey(userId, windowStart), key -> loader.apply(windowStart));
+    }
+
+    public SummaryCounters getIfPresent(UUID userId, LocalDateTime windowStart) {
+        return (SummaryCounters) cache.getIfPresent(new WindowKey(userId, windowStart));
+    }
+
+    public void put(UUID userId, LocalDateTime windowStart, SummaryCounters counters) {
+        cache.asMap().putIfAbsent(new WindowKey(userId, windowStart), counters);
+    }
+
+    public void recordActivity(UUID userId, ActivityType type, LocalDateTime at) {
+        afterCommit(() -> {
+            if (cache.getIfPresent(new WindowKey(userId, windowStart(at))) instanceof SummaryCounters counters) {
+                counters.record(type);
+            }
+        });
+    }
+
+    public void recordOverdue(UUID userId, LocalDateTime dueDate, long delta) {
+        afterCommit(() -> {
+            if (cache.getIfPresent(new WindowKey(userId, windowStart(dueDate))) instanceof SummaryCounters counters) {
+                counters.addOverdue(delta);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record WindowKey(UUID userId, LocalDateTime windowStart) {
+    }
+}
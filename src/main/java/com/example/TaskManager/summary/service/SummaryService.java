@@ -2,62 +2,152 @@ package com.example.TaskManager.summary.service;
 
 import com.example.TaskManager.activity.model.ActivityType;
 import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.service.ActivityWriter;
 import com.example.TaskManager.notification.NotificationMessages;
 import com.example.TaskManager.notification.NotificationType;
 import com.example.TaskManager.notification.service.NotificationService;
+import com.example.TaskManager.summary.model.SummaryCounters;
 import com.example.TaskManager.summary.model.SummaryDto;
+import com.example.TaskManager.summary.model.UserActivityCount;
+import com.example.TaskManager.summary.model.UserTaskCount;
 import com.example.TaskManager.task.model.TaskStatus;
 import com.example.TaskManager.task.repository.TaskRepository;
-import com.example.TaskManager.task.service.TaskService;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class SummaryService {
 
+    private static final List<ActivityType> SUMMARY_ACTIVITY_TYPES = List.of(ActivityType.TASK_CREATED, ActivityType.TASK_COMPLETED,
+            ActivityType.PROJECT_CREATED, ActivityType.PROJECT_COMPLETED);
+
     private final ActivityRepository activityRepository;
+    private final ActivityWriter activityWriter;
     private final TaskRepository taskRepository;
-    private final TaskService taskService;
     private final NotificationService notificationService;
+    private final SummaryCache summaryCache;
 
-    public SummaryService(ActivityRepository activityRepository, TaskRepository taskRepository, TaskService taskService, NotificationService notificationService) {
+    public SummaryService(ActivityRepository activityRepository, ActivityWriter activityWriter, TaskRepository taskRepository,
+                          NotificationService notificationService, SummaryCache summaryCache) {
         this.activityRepository = activityRepository;
+        this.activityWriter = activityWriter;
         this.taskRepository = taskRepository;
-        this.taskService = taskService;
         this.notificationService = notificationService;
+        this.summaryCache = summaryCache;
     }
 
-    @Cacheable(value = "dailySummary", key = "#userId")
     public SummaryDto dailySummary(UUID userId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime yesterday = now.minusHours(24);
+        LocalDateTime windowStart = summaryCache.windowStart(LocalDateTime.now());
+
+        SummaryCounters counters = summaryCache.get(userId, windowStart, start -> {
+            activityWriter.flush();
+            return new SummaryCounters(summarize(List.of(userId), start, start.plusHours(24)).get(userId));
+        });
+
+        return toDto(counters);
+    }
+
+    public LocalDateTime closedWindowStart(LocalDateTime at) {
+        return summaryCache.windowStart(at).minusDays(1);
+    }
+
+    public Map<UUID, SummaryDto> summarize(List<UUID> userIds, LocalDateTime from, LocalDateTime to) {
+        Map<UUID, Map<ActivityType, Long>> activityCounts = new HashMap<>();
+        for (UserActivityCount row : activityRepository.countByUsersAndTypes(userIds, SUMMARY_ACTIVITY_TYPES, from, to)) {
+            activityCounts.computeIfAbsent(row.getUserId(), id -> new EnumMap<>(ActivityType.class)).put(row.getType(), row.getCount());
+        }
+
+        Map<UUID, Long> overdueCounts = new HashMap<>();
+        for (UserTaskCount row : taskRepository.countByUsersAndStatusAndDueDateBetween(userIds, TaskStatus.OVERDUE, from, to)) {
+            overdueCounts.put(row.getUserId(), row.getCount());
+        }
+
+        Map<UUID, SummaryDto> summaries = new HashMap<>();
+        for (UUID userId : userIds) {
+            Map<ActivityType, Long> counts = activityCounts.getOrDefault(userId, Map.of());
+            long createdTasks = counts.getOrDefault(ActivityType.TASK_CREATED, 0L);
+            long completedTasks = counts.getOrDefault(ActivityType.TASK_COMPLETED, 0L);
+
+            summaries.put(userId, SummaryDto.builder()
+                    .createdTasks(createdTasks)
+                    .completedTasks(completedTasks)
+                    .overdueTasks(overdueCounts.getOrDefault(userId, 0L))
+                    .completedProjects(counts.getOrDefault(ActivityType.PROJECT_COMPLETED, 0L))
+                    .createdProjects(counts.getOrDefault(ActivityType.PROJECT_CREATED, 0L))
+                    .taskCompletionRate(completionRate(createdTasks, completedTasks))
+                    .build());
+        }
+
+        return summaries;
+    }
+
+    public int sendDailySummaries(List<UUID> userIds, LocalDateTime windowStart) {
+        LocalDateTime windowEnd = windowStart.plusHours(24);
+        Map<UUID, SummaryDto> summaries = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
 
-        long createdTasks = activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(userId, ActivityType.TASK_CREATED ,yesterday, now);
-        long completedTasks = activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(userId, ActivityType.TASK_COMPLETED ,yesterday, now);
-        long overdueTasks = taskRepository.countByUserIdAndDeletedFalseAndStatusAndDueDateBetween(userId, TaskStatus.OVERDUE, yesterday, now);
-        long completedProjects = activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(userId, ActivityType.PROJECT_COMPLETED ,yesterday, now);
-        long createdProjects = activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(userId, ActivityType.PROJECT_CREATED ,yesterday, now);
+        for (UUID userId : userIds) {
+            SummaryCounters counters = summaryCache.getIfPresent(userId, windowStart);
 
-        double taskCompletionRate = taskService.getTaskCompletionRateLast24Hours(userId, yesterday, now);
+            if (counters == null) {
+                misses.add(userId);
+            } else {
+                summaries.put(userId, toDto(counters));
+            }
+        }
 
+        if (!misses.isEmpty()) {
+            activityWriter.flush();
+            summarize(misses, windowStart, windowEnd).forEach((userId, dto) -> {
+                summaryCache.put(userId, windowStart, new SummaryCounters(dto));
+                summaries.put(userId, dto);
+            });
+        }
+
+        String day = windowEnd.toLocalDate().toString();
+        summaries.forEach((userId, dto) -> sendDailySummary(userId, dto, "daily-summary:%s:%s".formatted(userId, day)));
+
+        return summaries.size();
+    }
+
+    public void sendDailySummary(UUID userId, SummaryDto dto) {
+        notificationService.sendNotification(userId, NotificationMessages.DAILY_SUMMARY_MESSAGE_SUBJECT, summaryBody(dto), NotificationType.EMAIL);
+    }
+
+    private void sendDailySummary(UUID userId, SummaryDto dto, String dedupKey) {
+        notificationService.sendNotification(userId, NotificationMessages.DAILY_SUMMARY_MESSAGE_SUBJECT, summaryBody(dto), NotificationType.EMAIL, dedupKey);
+    }
+
+    private SummaryDto toDto(SummaryCounters counters) {
         return SummaryDto.builder()
-                .createdTasks(createdTasks)
-                .completedTasks(completedTasks)
-                .overdueTasks(overdueTasks)
-                .completedProjects(completedProjects)
-                .createdProjects(createdProjects)
-                .taskCompletionRate(taskCompletionRate)
+                .createdTasks(counters.getCreatedTasks())
+                .completedTasks(counters.getCompletedTasks())
+                .overdueTasks(counters.getOverdueTasks())
+                .completedProjects(counters.getCompletedProjects())
+                .createdProjects(counters.getCreatedProjects())
+                .taskCompletionRate(completionRate(counters.getCreatedTasks(), counters.getCompletedTasks()))
                 .build();
     }
 
-    public void sendDailySummary(UUID userId, SummaryDto dto) {
-        notificationService.sendNotification(userId, NotificationMessages.DAILY_SUMMARY_MESSAGE_SUBJECT
-                , NotificationMessages.DAILY_SUMMARY_MESSAGE_BODY.formatted(dto.getCreatedTasks(), dto.getCompletedTasks(),
-                        dto.getOverdueTasks(), dto.getCreatedProjects(), dto.getCompletedProjects(), dto.getTaskCompletionRate()), NotificationType.EMAIL);
+    private String summaryBody(SummaryDto dto) {
+        return NotificationMessages.DAILY_SUMMARY_MESSAGE_BODY.formatted(dto.getCreatedTasks(), dto.getCompletedTasks(),
+                dto.getOverdueTasks(), dto.getCreatedProjects(), dto.getCompletedProjects(), dto.getTaskCompletionRate());
+    }
+
+    private double completionRate(long created, long completed) {
+        if (created == 0) {
+            return 0;
+        }
 
+        double percentage = (double) completed / created * 100;
+        return Math.round(percentage * 100.0) / 100.0;
     }
 
 }
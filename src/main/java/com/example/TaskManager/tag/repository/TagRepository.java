@@ -1,7 +1,11 @@
 package com.example.TaskManager.tag.repository;
 
 import com.example.TaskManager.tag.model.Tag;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
@@ -9,4 +13,14 @@ import java.util.UUID;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, UUID> {
     void deleteAllByProjectId(UUID id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Tag t WHERE t.project.id = :projectId")
+    int deleteInBulkByProjectId(@Param("projectId") UUID projectId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Tag t WHERE t.project.id IN (SELECT p.id FROM Project p WHERE p.user.id = :userId)")
+    int deleteInBulkByProjectOwnerId(@Param("userId") UUID userId);
 }
@@ -20,12 +20,13 @@ public class TaskOverdueEventListener {
     @EventListener
     public void handleTaskOverdue(TaskOverdueEvent event) {
         notificationService.sendNotification(event.getUserId(), NotificationMessages.TASK_OVERDUE_SUBJECT
-                .formatted(event.getTitle()),"", NotificationType.DEADLINE);
+                .formatted(event.getTitle()),"", NotificationType.DEADLINE, "task-overdue:%s".formatted(event.getTaskId()));
     }
 
     @EventListener
     public void handleUpcomingTaskDeadline(TaskUpcomingDeadlineEvent event) {
         notificationService.sendNotification(event.getUserId(), NotificationMessages.TASK_UPCOMING_DEADLINE
-                .formatted(event.getTitle()), "", NotificationType.REMINDER);
+                .formatted(event.getTitle()), "", NotificationType.REMINDER,
+                "task-upcoming:%s:%s".formatted(event.getTaskId(), event.getDeadline()));
     }
 }
@@ -14,6 +14,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_task_due_date", columnList = "due_date"),
+        @Index(name = "idx_task_user_project_status", columnList = "user_id, project_id, status"),
+        @Index(name = "idx_task_project_deleted", columnList = "project_id, deleted"),
+        @Index(name = "idx_task_upcoming_claim_id", columnList = "upcoming_claim_id")
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -64,4 +70,6 @@ public class Task {
 
     private boolean notifiedUpcoming;
 
+    private UUID upcomingClaimId;
+
 }
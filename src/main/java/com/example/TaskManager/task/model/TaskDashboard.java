@@ -0,0 +1,30 @@
+package com.example.TaskManager.task.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDashboard {
+
+    private long activeTasksCount;
+
+    private long completedTasks;
+
+    private long overdueTasks;
+
+    private long dueThisWeek;
+
+    private int completionRate;
+
+    private List<TaskDashboardRow> recentTasks;
+
+    private List<TaskDashboardRow> upcomingTasks;
+
+}
@@ -0,0 +1,25 @@
+package com.example.TaskManager.task.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDashboardRow {
+
+    private UUID id;
+
+    private String title;
+
+    private TaskPriority priority;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime createdOn;
+
+}
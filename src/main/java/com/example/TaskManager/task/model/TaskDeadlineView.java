@@ -0,0 +1,23 @@
+package com.example.TaskManager.task.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeadlineView {
+
+    private UUID taskId;
+
+    private UUID userId;
+
+    private String title;
+
+    private LocalDateTime dueDate;
+
+}
@@ -0,0 +1,34 @@
+package com.example.TaskManager.task.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "user_task_stats", indexes = {
+        @Index(name = "idx_user_task_stats_user", columnList = "user_id")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserTaskStats {
+
+    @EmbeddedId
+    private UserTaskStatsKey id;
+
+    @Column(nullable = false)
+    private long taskCount;
+
+    public UserTaskStats(UUID userId, Boolean personal, Boolean deleted, TaskStatus status, TaskPriority priority, Long taskCount) {
+        this(new UserTaskStatsKey(userId, personal, deleted, status, priority), taskCount);
+    }
+}
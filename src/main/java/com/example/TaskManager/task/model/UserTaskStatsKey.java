@@ -0,0 +1,48 @@
+package com.example.TaskManager.task.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskStatsKey implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private boolean personal;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    public static UserTaskStatsKey of(Task task) {
+        return UserTaskStatsKey.builder()
+                .userId(task.getUser().getId())
+                .personal(task.getProject() == null)
+                .deleted(task.isDeleted())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.TaskManager.task.model;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class UserTaskTotals {
+
+    private final Map<TaskStatus, Long> current = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskStatus, Long> allTime = new EnumMap<>(TaskStatus.class);
+
+    public static UserTaskTotals of(Collection<UserTaskStats> stats) {
+        UserTaskTotals totals = new UserTaskTotals();
+
+        for (UserTaskStats row : stats) {
+            UserTaskStatsKey key = row.getId();
+
+            if (!key.isPersonal()) {
+                continue;
+            }
+
+            totals.allTime.merge(key.getStatus(), row.getTaskCount(), Long::sum);
+
+            if (!key.isDeleted()) {
+                totals.current.merge(key.getStatus(), row.getTaskCount(), Long::sum);
+            }
+        }
+
+        return totals;
+    }
+
+    public long count(TaskStatus status) {
+        return current.getOrDefault(status, 0L);
+    }
+
+    public long total() {
+        return current.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public int percentage(TaskStatus status) {
+        return percentage(count(status), total());
+    }
+
+    public long allTimeCount(TaskStatus status) {
+        return allTime.getOrDefault(status, 0L);
+    }
+
+    public long allTimeTotal() {
+        return allTime.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public int allTimePercentage(TaskStatus status) {
+        return percentage(allTimeCount(status), allTimeTotal());
+    }
+
+    private static int percentage(long count, long total) {
+        if (count == 0) {
+            return 0;
+        }
+
+        return Math.toIntExact(Math.round((double) count / total * 100));
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.TaskManager.task.repository;
 
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.summary.model.UserTaskCount;
 import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskDashboardRow;
+import com.example.TaskManager.task.model.TaskDeadlineView;
 import com.example.TaskManager.task.model.TaskStatus;
+import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -21,23 +29,83 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     Optional<Task> findByIdAndDeletedFalse(UUID id);
 
-    List<Task> findByDueDateBeforeAndStatusNotAndDeletedFalse(LocalDateTime now, TaskStatus taskStatus);
-
-    List<Task> findByStatusNotAndDeletedFalse(TaskStatus taskStatus);
-
-    long countByUserIdAndDeletedFalseAndStatusAndDueDateBetween(UUID userId, TaskStatus taskStatus, LocalDateTime yesterday, LocalDateTime now);
+    @Query("SELECT new com.example.TaskManager.summary.model.UserTaskCount(t.user.id, COUNT(t)) FROM Task t " +
+            "WHERE t.user.id IN :userIds AND t.deleted = false AND t.status = :status AND t.dueDate BETWEEN :from AND :to " +
+            "GROUP BY t.user.id")
+    List<UserTaskCount> countByUsersAndStatusAndDueDateBetween(@Param("userIds") Collection<UUID> userIds, @Param("status") TaskStatus status,
+                                                              @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
     List<Task> findAllByUserIdAndProjectNullAndDeletedFalse(UUID userId);
 
     List<Task> findAllByUserIdAndProjectNull(UUID userId);
 
-    List<Task> findAllByUserIdAndStatusNotAndStatusNotAndDeletedFalseAndProjectNullOrderByDueDateAsc(UUID id, TaskStatus taskStatus, TaskStatus taskStatus1);
+    List<Task> findAllByUserIdAndProjectNullAndUpdatedOnAfter(UUID userId, LocalDateTime since);
 
-    List<Task> findAllByUserIdAndDeletedFalseOrderByCreatedOnDesc(UUID id);
+    List<Task> findAllByUserIdAndProjectNullAndDeletedFalseOrderByCreatedOnDesc(UUID id);
 
     Optional<Task> findByTitleAndProjectNullAndDeletedFalse( String title);
 
-    List<Task> findAllByUserIdAndProjectNullAndDeletedFalseAndDueDateBetweenAndStatusNotAndStatusNot(UUID userId, LocalDateTime dueDateAfter, LocalDateTime dueDateBefore, TaskStatus status, TaskStatus status1);
-
     List<Task> findAllByUserIdAndStatusAndDeletedFalse(UUID userId, TaskStatus taskStatus);
+
+    @Query("SELECT new com.example.TaskManager.task.model.TaskDeadlineView(t.id, t.user.id, t.title, t.dueDate) " +
+            "FROM Task t WHERE t.deleted = false AND t.status NOT IN :statuses")
+    List<TaskDeadlineView> findDeadlinesByStatusNotIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    @Query("SELECT new com.example.TaskManager.task.model.TaskDeadlineView(t.id, t.user.id, t.title, t.dueDate) " +
+            "FROM Task t WHERE t.id IN :ids AND t.deleted = false AND t.status <> com.example.TaskManager.task.model.TaskStatus.COMPLETED " +
+            "AND t.notifiedOverdue = false AND t.dueDate < :now")
+    List<TaskDeadlineView> findOverdueToNotify(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = com.example.TaskManager.task.model.TaskStatus.OVERDUE, t.notifiedOverdue = true, t.updatedOn = :now " +
+            "WHERE t.id IN :ids AND t.deleted = false AND t.status <> com.example.TaskManager.task.model.TaskStatus.COMPLETED AND t.dueDate < :now")
+    int markOverdue(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.id FROM Task t WHERE t.dueDate BETWEEN :from AND :to AND t.notifiedUpcoming = false " +
+            "AND t.deleted = false AND t.status <> com.example.TaskManager.task.model.TaskStatus.COMPLETED ORDER BY t.dueDate, t.id")
+    List<UUID> findUpcomingDeadlineIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.deleted = false AND t.status NOT IN :statuses")
+    List<UUID> findIdsByProjectIdAndStatusNotIn(@Param("projectId") UUID projectId, @Param("statuses") Collection<TaskStatus> statuses);
+
+    @Query("SELECT t.id FROM Task t WHERE (t.user.id = :userId OR t.project.id IN (SELECT p.id FROM Project p WHERE p.user.id = :userId)) " +
+            "AND t.deleted = false AND t.status NOT IN :statuses")
+    List<UUID> findIdsByUserOrProjectOwnerIdAndStatusNotIn(@Param("userId") UUID userId, @Param("statuses") Collection<TaskStatus> statuses);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int deleteInBulkByProjectId(@Param("projectId") UUID projectId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.user.id = :userId OR t.project.id IN (SELECT p.id FROM Project p WHERE p.user.id = :userId)")
+    int deleteInBulkByUserOrProjectOwnerId(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.notifiedUpcoming = true, t.upcomingClaimId = :claimId WHERE t.id IN :ids AND t.notifiedUpcoming = false")
+    int claimUpcomingDeadlines(@Param("ids") Collection<UUID> ids, @Param("claimId") UUID claimId);
+
+    @Query("SELECT new com.example.TaskManager.task.model.TaskDeadlineView(t.id, t.user.id, t.title, t.dueDate) " +
+            "FROM Task t WHERE t.upcomingClaimId = :claimId")
+    List<TaskDeadlineView> findByUpcomingClaimId(@Param("claimId") UUID claimId);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId AND t.project IS NULL AND t.deleted = false " +
+            "AND t.status NOT IN (com.example.TaskManager.task.model.TaskStatus.OVERDUE, com.example.TaskManager.task.model.TaskStatus.COMPLETED) " +
+            "AND t.dueDate BETWEEN :from AND :to")
+    long countPersonalOpenDueBetween(@Param("userId") UUID userId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.example.TaskManager.task.model.TaskDashboardRow(t.id, t.title, t.priority, t.dueDate, t.createdOn) " +
+            "FROM Task t WHERE t.user.id = :userId AND t.project IS NULL AND t.deleted = false " +
+            "AND t.status NOT IN (com.example.TaskManager.task.model.TaskStatus.OVERDUE, com.example.TaskManager.task.model.TaskStatus.COMPLETED) " +
+            "ORDER BY t.createdOn DESC")
+    List<TaskDashboardRow> findRecentDashboardRows(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT new com.example.TaskManager.task.model.TaskDashboardRow(t.id, t.title, t.priority, t.dueDate, t.createdOn) " +
+            "FROM Task t WHERE t.user.id = :userId AND t.project IS NULL AND t.deleted = false " +
+            "AND t.status NOT IN (com.example.TaskManager.task.model.TaskStatus.OVERDUE, com.example.TaskManager.task.model.TaskStatus.COMPLETED) " +
+            "AND t.dueDate > :now ORDER BY t.dueDate")
+    List<TaskDashboardRow> findUpcomingDashboardRows(@Param("userId") UUID userId, @Param("now") LocalDateTime now, Pageable pageable);
 }
@@ -0,0 +1,77 @@
+package com.example.TaskManager.task.repository;
+
+import com.example.TaskManager.task.model.UserTaskStats;
+import com.example.TaskManager.task.model.UserTaskStatsKey;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserTaskStatsRepository extends JpaRepository<UserTaskStats, UserTaskStatsKey> {
+
+    String TASK_STATS_ROW = "SELECT new com.example.TaskManager.task.model.UserTaskStats(t.user.id, " +
+            "CASE WHEN t.project IS NULL THEN true ELSE false END, t.deleted, t.status, t.priority, COUNT(t)) FROM Task t ";
+
+    String TASK_STATS_GROUP = " GROUP BY t.user.id, CASE WHEN t.project IS NULL THEN true ELSE false END, t.deleted, t.status, t.priority";
+
+    List<UserTaskStats> findAllByIdUserId(UUID userId);
+
+    List<UserTaskStats> findAllByIdUserIdIn(Collection<UUID> userIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserTaskStats s SET s.taskCount = s.taskCount + :delta WHERE s.id = :key")
+    int increment(@Param("key") UserTaskStatsKey key, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO user_task_stats (user_id, personal, deleted, status, priority, task_count) " +
+            "VALUES (:userId, :personal, :deleted, :status, :priority, :delta) " +
+            "ON DUPLICATE KEY UPDATE task_count = task_count + :delta", nativeQuery = true)
+    int upsert(@Param("userId") UUID userId, @Param("personal") boolean personal, @Param("deleted") boolean deleted,
+               @Param("status") String status, @Param("priority") String priority, @Param("delta") long delta);
+
+    default int upsert(UserTaskStatsKey key, long delta) {
+        return upsert(key.getUserId(), key.isPersonal(), key.isDeleted(), key.getStatus().name(), key.getPriority().name(), delta);
+    }
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserTaskStats s WHERE s.id.userId IN :userIds")
+    int deleteInBulkByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query(TASK_STATS_ROW + "WHERE t.user.id IN :userIds" + TASK_STATS_GROUP)
+    List<UserTaskStats> countTasksByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserTaskStats s SET s.taskCount = s.taskCount - (SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId " +
+            "AND t.user.id = s.id.userId AND t.deleted = s.id.deleted AND t.status = s.id.status AND t.priority = s.id.priority) " +
+            "WHERE s.id.personal = false AND s.id.userId IN (SELECT t.user.id FROM Task t WHERE t.project.id = :projectId)")
+    int subtractProjectTasks(@Param("projectId") UUID projectId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserTaskStats s SET s.taskCount = s.taskCount - (SELECT COUNT(t) FROM Task t WHERE t.project.user.id = :ownerId " +
+            "AND t.user.id = s.id.userId AND t.deleted = s.id.deleted AND t.status = s.id.status AND t.priority = s.id.priority) " +
+            "WHERE s.id.personal = false AND s.id.userId <> :ownerId " +
+            "AND s.id.userId IN (SELECT t.user.id FROM Task t WHERE t.project.user.id = :ownerId)")
+    int subtractMemberTasksByProjectOwnerId(@Param("ownerId") UUID ownerId);
+
+    @Query(TASK_STATS_ROW + "WHERE t.id IN :ids AND t.deleted = false " +
+            "AND t.status NOT IN (com.example.TaskManager.task.model.TaskStatus.COMPLETED, com.example.TaskManager.task.model.TaskStatus.OVERDUE) " +
+            "AND t.dueDate < :now" + TASK_STATS_GROUP)
+    List<UserTaskStats> countOverdueTransitions(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<UUID> findUserIdsAfter(@Param("after") UUID after, Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package com.example.TaskManager.task.scheduler;
+
+import com.example.TaskManager.task.service.UserTaskStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class UserTaskStatsReconciliationScheduler {
+
+    private final UserTaskStatsService userTaskStatsService;
+
+    public UserTaskStatsReconciliationScheduler(UserTaskStatsService userTaskStatsService) {
+        this.userTaskStatsService = userTaskStatsService;
+    }
+
+    @Scheduled(cron = "${tasks.stats.cron:0 30 3 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int repaired = userTaskStatsService.reconcile();
+
+        if (repaired > 0) {
+            log.info("Rebuilt task statistics of [%d] users in [%d] ms".formatted(repaired, System.currentTimeMillis() - start));
+        }
+    }
+}
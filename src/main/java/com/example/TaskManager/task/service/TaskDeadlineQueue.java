@@ -0,0 +1,141 @@
+package com.example.TaskManager.task.service;
+
+import com.example.TaskManager.task.model.TaskDeadlineView;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Component
+public class TaskDeadlineQueue {
+
+    public static final List<TaskStatus> SETTLED_STATUSES = List.of(TaskStatus.COMPLETED, TaskStatus.OVERDUE);
+
+    private final TaskRepository taskRepository;
+
+    private final NavigableSet<Deadline> queue = new TreeSet<>(Comparator.comparing(Deadline::dueDate).thenComparing(Deadline::taskId));
+    private final Map<UUID, LocalDateTime> deadlines = new HashMap<>();
+
+    public TaskDeadlineQueue(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<TaskDeadlineView> pending = taskRepository.findDeadlinesByStatusNotIn(SETTLED_STATUSES);
+
+        synchronized (this) {
+            for (TaskDeadlineView view : pending) {
+                put(view.getTaskId(), view.getDueDate());
+            }
+        }
+
+        log.info("Loaded [%d] pending task deadlines".formatted(pending.size()));
+    }
+
+    public void track(UUID taskId, LocalDateTime dueDate) {
+        afterCommit(() -> {
+            synchronized (this) {
+                put(taskId, dueDate);
+            }
+        });
+    }
+
+    public void untrack(UUID taskId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                remove(taskId);
+            }
+        });
+    }
+
+    public void untrackAll(Collection<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> {
+            synchronized (this) {
+                taskIds.forEach(this::remove);
+            }
+        });
+    }
+
+    public synchronized Map<UUID, LocalDateTime> pollDue(LocalDateTime now) {
+        Map<UUID, LocalDateTime> due = new LinkedHashMap<>();
+
+        while (!queue.isEmpty() && queue.first().dueDate().isBefore(now)) {
+            Deadline deadline = queue.pollFirst();
+            deadlines.remove(deadline.taskId());
+            due.put(deadline.taskId(), deadline.dueDate());
+        }
+
+        return due;
+    }
+
+    public synchronized void requeue(Map<UUID, LocalDateTime> due) {
+        due.forEach((taskId, dueDate) -> {
+            if (!deadlines.containsKey(taskId)) {
+                put(taskId, dueDate);
+            }
+        });
+    }
+
+    public void requeueOnRollback(Map<UUID, LocalDateTime> due) {
+        if (due.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    requeue(due);
+                }
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private void put(UUID taskId, LocalDateTime dueDate) {
+        remove(taskId);
+        deadlines.put(taskId, dueDate);
+        queue.add(new Deadline(dueDate, taskId));
+    }
+
+    private void remove(UUID taskId) {
+        LocalDateTime previous = deadlines.remove(taskId);
+
+        if (previous != null) {
+            queue.remove(new Deadline(previous, taskId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Deadline(LocalDateTime dueDate, UUID taskId) {
+    }
+}
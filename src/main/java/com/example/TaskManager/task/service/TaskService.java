@@ -1,37 +1,47 @@
 package com.example.TaskManager.task.service;
 
 import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityCategory;
 import com.example.TaskManager.activity.model.ActivityType;
-import com.example.TaskManager.activity.repository.ActivityRepository;
 import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.analytics.service.TaskAnalyticsService;
 import com.example.TaskManager.exception.task.TaskAlreadyExistException;
 import com.example.TaskManager.exception.task.TaskNotFoundException;
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.service.ProjectCounterService;
+import com.example.TaskManager.summary.service.SummaryCache;
 import com.example.TaskManager.task.event.TaskOverdueEvent;
 import com.example.TaskManager.task.event.TaskUpcomingDeadlineEvent;
 import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskDashboard;
+import com.example.TaskManager.task.model.TaskDeadlineView;
 import com.example.TaskManager.task.model.TaskPriority;
 import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.model.UserTaskStats;
+import com.example.TaskManager.task.model.UserTaskStatsKey;
+import com.example.TaskManager.task.model.UserTaskTotals;
 import com.example.TaskManager.task.repository.TaskRepository;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.CreateTaskRequest;
 import com.example.TaskManager.web.dto.EditTaskRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.ModelAndView;
 
 import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -42,19 +52,38 @@ public class TaskService {
     private final ActivityService activityService;
     private final TaskAnalyticsService taskAnalyticsService;
     private final ApplicationEventPublisher eventPublisher;
-    private final ActivityRepository activityRepository;
-
-    public TaskService(TaskRepository taskRepository, UserService userService, ActivityService activityService, TaskAnalyticsService taskAnalyticsService, ApplicationEventPublisher eventPublisher, ActivityRepository activityRepository) {
+    private final TaskDeadlineQueue taskDeadlineQueue;
+    private final SummaryCache summaryCache;
+    private final ProjectCounterService projectCounterService;
+    private final UserTaskStatsService userTaskStatsService;
+    private final MeterRegistry meterRegistry;
+    private final Timer overdueRunTimer;
+
+    private static final int OVERDUE_BATCH_SIZE = 500;
+    private static final int DASHBOARD_RECENT_TASKS = 2;
+    private static final int DASHBOARD_UPCOMING_TASKS = 5;
+    private static final int RECENT_ACTIVITY_LIMIT = 3;
+
+    public TaskService(TaskRepository taskRepository, UserService userService, ActivityService activityService, TaskAnalyticsService taskAnalyticsService, ApplicationEventPublisher eventPublisher, TaskDeadlineQueue taskDeadlineQueue, SummaryCache summaryCache, ProjectCounterService projectCounterService, UserTaskStatsService userTaskStatsService, MeterRegistry meterRegistry) {
         this.taskRepository = taskRepository;
         this.userService = userService;
         this.activityService = activityService;
         this.taskAnalyticsService = taskAnalyticsService;
         this.eventPublisher = eventPublisher;
-        this.activityRepository = activityRepository;
+        this.taskDeadlineQueue = taskDeadlineQueue;
+        this.summaryCache = summaryCache;
+        this.projectCounterService = projectCounterService;
+        this.userTaskStatsService = userTaskStatsService;
+        this.meterRegistry = meterRegistry;
+        this.overdueRunTimer = Timer.builder("scheduler.run.latency").tag("scheduler", "tasks-overdue").register(meterRegistry);
     }
 
     @Transactional
     public Task createTask(@Valid CreateTaskRequest createTaskRequest, UUID userId, Project project) {
+        return timed("create", () -> create(createTaskRequest, userId, project));
+    }
+
+    private Task create(CreateTaskRequest createTaskRequest, UUID userId, Project project) {
         Optional<Task> taskOptional = taskRepository.findByTitleAndProjectNullAndDeletedFalse(createTaskRequest.getTitle());
 
         if (taskOptional.isPresent()) {
@@ -78,6 +107,9 @@ public class TaskService {
 
 
         Task save = this.taskRepository.save(task);
+        taskDeadlineQueue.track(save.getId(), save.getDueDate());
+        projectCounterService.taskAdded(project);
+        userTaskStatsService.record(save);
 
         if (task.getProject() == null) {
             createActivityBasedOnProjectStatus(task, ActivityType.TASK_CREATED);
@@ -89,28 +121,32 @@ public class TaskService {
         return save;
     }
 
-    public List<Task> getOverDueTasksByUser(User user) {
-        return getAllTasksByUserIdAndProjectNull(user.getId()).stream().filter(task -> task.getStatus().getDisplayName().equals("Overdue")).toList();
-    }
-
-    public List<Task> getRecentTasks(User user) {
-        List<Task> tasks = taskRepository.findAllByUserIdAndStatusNotAndStatusNotAndDeletedFalseAndProjectNullOrderByDueDateAsc(user.getId(), TaskStatus.OVERDUE, TaskStatus.COMPLETED);
-        return tasks.stream().sorted(Comparator.comparing(Task::getCreatedOn).reversed()).limit(2).collect(Collectors.toList());
-    }
-
     public void update(Task task) {
         task.setUpdatedOn(LocalDateTime.now());
         this.taskRepository.save(task);
         taskAnalyticsService.upsertTasks(task.getUser().getId());
     }
 
+    @Transactional
     public void completeTask(UUID taskId) {
+        timed("complete", () -> complete(taskId));
+    }
+
+    private void complete(UUID taskId) {
         Task task = getByIdNotDeleted(taskId);
+        UserTaskStatsKey before = UserTaskStatsKey.of(task);
+        resolveOverdue(task);
+
+        if (task.getStatus() != TaskStatus.COMPLETED) {
+            projectCounterService.taskCompleted(task.getProject());
+        }
 
         task.setStatus(TaskStatus.COMPLETED);
         task.setCompletedOn(LocalDateTime.now());
         task.setUpdatedOn(LocalDateTime.now());
         update(task);
+        userTaskStatsService.move(before, task);
+        taskDeadlineQueue.untrack(taskId);
 
         if (task.getProject() == null) {
             createActivityBasedOnProjectStatus(task, ActivityType.TASK_COMPLETED);
@@ -141,8 +177,16 @@ public class TaskService {
         return this.taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException("Task with id [%s] does not exist".formatted(id.toString())));
     }
 
+    @Transactional
     public void deleteTask(UUID id) {
+        timed("delete", () -> delete(id));
+    }
+
+    private void delete(UUID id) {
         Task task = getByIdNotDeleted(id);
+        UserTaskStatsKey before = UserTaskStatsKey.of(task);
+        resolveOverdue(task);
+        projectCounterService.taskRemoved(task.getProject(), task.getStatus() == TaskStatus.COMPLETED);
 
         if (task.getProject() == null) {
             createActivityBasedOnProjectStatus(task, ActivityType.TASK_DELETED);
@@ -154,11 +198,15 @@ public class TaskService {
         task.setDeleted(true);
         task.setUpdatedOn(LocalDateTime.now());
         update(task);
+        userTaskStatsService.move(before, task);
+        taskDeadlineQueue.untrack(id);
 
     }
 
+    @Transactional
     public void changeStatus(UUID id) {
         Task task = this.getByIdNotDeleted(id);
+        UserTaskStatsKey before = UserTaskStatsKey.of(task);
 
         if (task.isDeleted()) {
             throw new RuntimeException("Task with id [%s] is already deleted".formatted(id));
@@ -171,145 +219,133 @@ public class TaskService {
         }
 
         update(task);
+        userTaskStatsService.move(before, task);
     }
 
     public Task getByIdNotDeleted(UUID id) {
         return this.taskRepository.findByIdAndDeletedFalse(id).orElseThrow(() -> new TaskNotFoundException("Task with id [%s] not found".formatted(id)));
     }
 
-    @Scheduled(fixedRate = 60000)
+    @Transactional
+    @Scheduled(fixedDelayString = "${tasks.overdue.poll-interval-ms:5000}")
     public void checkForOverdueTasks() {
+        overdueRunTimer.record(this::markDueTasksOverdue);
+    }
+
+    private void markDueTasksOverdue() {
         LocalDateTime now = LocalDateTime.now();
+        Map<UUID, LocalDateTime> polled = taskDeadlineQueue.pollDue(now);
+        List<UUID> due = List.copyOf(polled.keySet());
 
-        List<Task> tasks = taskRepository
-                .findByDueDateBeforeAndStatusNotAndDeletedFalse(now, TaskStatus.COMPLETED);
+        if (due.isEmpty()) {
+            return;
+        }
 
-        for (Task task : tasks) {
-            processTask(task);
+        meterRegistry.counter("scheduler.rows", "scheduler", "tasks-overdue", "rows", "scanned").increment(due.size());
+        taskDeadlineQueue.requeueOnRollback(polled);
+
+        for (int i = 0; i < due.size(); i += OVERDUE_BATCH_SIZE) {
+            int updated = markOverdue(due.subList(i, Math.min(i + OVERDUE_BATCH_SIZE, due.size())), now);
+            meterRegistry.counter("scheduler.rows", "scheduler", "tasks-overdue", "rows", "changed").increment(updated);
         }
     }
 
-    public void processTask(Task task) {
-        LocalDateTime now = LocalDateTime.now();
-
-        if (task.getDueDate().isBefore(now)
-                && task.getStatus() != TaskStatus.COMPLETED
-                && !task.isDeleted()) {
+    private int markOverdue(List<UUID> ids, LocalDateTime now) {
+        List<TaskDeadlineView> toNotify = taskRepository.findOverdueToNotify(ids, now);
+        List<UserTaskStats> transitions = userTaskStatsService.overdueTransitions(ids, now);
+        int updated = taskRepository.markOverdue(ids, now);
+        userTaskStatsService.moveAll(transitions, TaskStatus.OVERDUE);
+
+        for (TaskDeadlineView view : toNotify) {
+            summaryCache.recordOverdue(view.getUserId(), view.getDueDate(), 1);
+            eventPublisher.publishEvent(new TaskOverdueEvent(
+                    view.getTaskId(),
+                    view.getUserId(),
+                    view.getTitle(),
+                    view.getDueDate()
+            ));
+        }
 
-            task.setStatus(TaskStatus.OVERDUE);
+        toNotify.stream().map(TaskDeadlineView::getUserId).distinct().forEach(taskAnalyticsService::upsertTasks);
 
-            if (!task.isNotifiedOverdue()) {
-                eventPublisher.publishEvent(new TaskOverdueEvent(
-                        task.getId(),
-                        task.getUser().getId(),
-                        task.getTitle(),
-                        task.getDueDate()
-                ));
-                task.setNotifiedOverdue(true);
-            }
+        log.info("Marked [%d] tasks as overdue".formatted(updated));
 
-            taskRepository.save(task);
-        }
+        return updated;
     }
 
-    @Scheduled(cron = "0 */30 * * * *")
-    public void upcomingDeadlineChecker() {
-        List<Task> tasks = taskRepository.findByStatusNotAndDeletedFalse(TaskStatus.COMPLETED);
-
-        for (Task task : tasks) {
-            processUpcomingDeadline(task);
+    private void resolveOverdue(Task task) {
+        if (task.getStatus() == TaskStatus.OVERDUE) {
+            summaryCache.recordOverdue(task.getUser().getId(), task.getDueDate(), -1);
         }
     }
 
-    public void processUpcomingDeadline(Task task) {
-        LocalDateTime now = LocalDateTime.now();
-        Duration duration;
-
-        duration = Duration.between(now, task.getDueDate());
-
-        if (!task.isNotifiedUpcoming()) {
-            if (duration.toHours() >= 23 && duration.toHours() <= 24) {
-                eventPublisher.publishEvent(new TaskUpcomingDeadlineEvent(
-                        task.getId(),
-                        task.getUser().getId(),
-                        task.getTitle(),
-                        task.getDueDate()
-                ));
-                task.setNotifiedUpcoming(true);
-                taskRepository.save(task);
-            }
+    @Transactional
+    public int publishUpcomingDeadlines(LocalDateTime from, LocalDateTime to, int limit) {
+        List<UUID> ids = taskRepository.findUpcomingDeadlineIds(from, to, PageRequest.of(0, limit));
+
+        if (ids.isEmpty()) {
+            return 0;
         }
 
-    }
+        UUID claimId = UUID.randomUUID();
+        int claimed = taskRepository.claimUpcomingDeadlines(ids, claimId);
 
-    public List<Task> getUpcomingTasks(UUID userId) {
-        List<Task> tasks = getAllTasksByUserIdAndProjectNull(userId).stream().filter(t -> !t.getStatus().equals(TaskStatus.OVERDUE)
-                && !t.getStatus().equals(TaskStatus.COMPLETED) && t.getDueDate().isAfter(LocalDateTime.now())).toList();
+        for (TaskDeadlineView view : taskRepository.findByUpcomingClaimId(claimId)) {
+            eventPublisher.publishEvent(new TaskUpcomingDeadlineEvent(
+                    view.getTaskId(),
+                    view.getUserId(),
+                    view.getTitle(),
+                    view.getDueDate()
+            ));
+        }
 
-        return tasks.stream().sorted(Comparator.comparing(Task::getDueDate)).collect(Collectors.toList());
+        return claimed;
     }
 
     public List<Task> getTasksByProjectIdNotDeleted(UUID id) {
         return taskRepository.findAllByProjectIdAndDeletedFalse(id);
     }
 
-    public ModelAndView buildTasksPageView(User user) {
+    public ModelAndView buildTasksPageView(UserView user) {
 
         ModelAndView mv = new ModelAndView("tasks");
         List<Task> tasks = getAllTasksByUserIdWithNoProject(user.getId());
-        List<Activity> recentActivity = activityService.getActivityByTypeAndUserId(user.getId(), "TASK").stream()
-                .filter(a -> !a.getType().name().contains("PROJECT")).limit(3).toList();
+        UserTaskTotals totals = userTaskStatsService.getTotals(user.getId());
+        List<Activity> recentActivity = activityService.getRecentActivity(user.getId(), ActivityCategory.TASK, RECENT_ACTIVITY_LIMIT);
 
         mv.addObject("user", user);
         mv.addObject("tasks", tasks);
-        mv.addObject("countCompletedTasks", getAllTasksByStatusNotDeleted(tasks, TaskStatus.COMPLETED).size());
-        mv.addObject("countInProgressTasks", getAllTasksByStatusNotDeleted(tasks, TaskStatus.IN_PROGRESS).size());
-        mv.addObject("countTodoTasks", getAllTasksByStatusNotDeleted(tasks, TaskStatus.TODO).size());
-        mv.addObject("completedTasksPercentage", calculateByStatusTasksPercentageNonDeleted(TaskStatus.COMPLETED, tasks));
-        mv.addObject("inProgressTasksPercentage", calculateByStatusTasksPercentageNonDeleted(TaskStatus.IN_PROGRESS, tasks));
-        mv.addObject("overdueTasksPercentage", calculateByStatusTasksPercentageNonDeleted(TaskStatus.OVERDUE, tasks));
+        mv.addObject("countCompletedTasks", totals.count(TaskStatus.COMPLETED));
+        mv.addObject("countInProgressTasks", totals.count(TaskStatus.IN_PROGRESS));
+        mv.addObject("countTodoTasks", totals.count(TaskStatus.TODO));
+        mv.addObject("completedTasksPercentage", totals.percentage(TaskStatus.COMPLETED));
+        mv.addObject("inProgressTasksPercentage", totals.percentage(TaskStatus.IN_PROGRESS));
+        mv.addObject("overdueTasksPercentage", totals.percentage(TaskStatus.OVERDUE));
         mv.addObject("recentActivity", recentActivity);
 
         return mv;
     }
 
-    public List<Task> getAllTasksByStatusNotDeleted(List<Task> tasks, TaskStatus status) {
-        return tasks.stream().filter(t -> t.getStatus().equals(status)).collect(Collectors.toList());
-    }
-
-    public List<Task> getAllTasksByUserIdAndStatusNotDeleted(UUID userId, TaskStatus status) {
-        return getAllTasksByUserIdAndProjectNull(userId).stream().filter(t -> t.getStatus().equals(status)).collect(Collectors.toList());
-    }
-
     public List<Task> getAllTasksByUserIdAndProjectNull(UUID userId) {
         return taskRepository.findAllByUserIdAndProjectNullAndDeletedFalse(userId);
     }
 
     private List<Task> getAllTasksByUserIdWithNoProject(UUID id) {
-        List<Task> tasks = taskRepository.findAllByUserIdAndDeletedFalseOrderByCreatedOnDesc(id);
-
-        return tasks.stream().filter(t -> t.getProject() == null).toList();
-    }
-
-
-    public int calculateByStatusTasksPercentageNonDeleted(TaskStatus status, List<Task> tasks) {
-        int tasksByStatus = Math.toIntExact(tasks.stream().filter(t -> t.getStatus() == status).count());
-
-        if (tasksByStatus == 0) {
-            return 0;
-        }
-
-        double calc = ((double) tasksByStatus / tasks.size()) * 100;
-
-        return Math.toIntExact(Math.round(calc));
+        return taskRepository.findAllByUserIdAndProjectNullAndDeletedFalseOrderByCreatedOnDesc(id);
     }
 
     @Transactional
     public void editTask(UUID id, @Valid EditTaskRequest editTaskRequest) {
+        timed("edit", () -> edit(id, editTaskRequest));
+    }
+
+    private void edit(UUID id, EditTaskRequest editTaskRequest) {
         Task task = getByIdNotDeleted(id);
+        UserTaskStatsKey before = UserTaskStatsKey.of(task);
         task.setTitle(editTaskRequest.getTitle());
         task.setDescription(editTaskRequest.getDescription());
         task.setPriority(editTaskRequest.getPriority());
+        userTaskStatsService.move(before, task);
 
         if (editTaskRequest.getDueDate() == null) {
             taskRepository.save(task);
@@ -323,6 +359,10 @@ public class TaskService {
 
         task.setDueDate(editTaskRequest.getDueDate());
 
+        if (task.getStatus() != TaskStatus.COMPLETED && task.getStatus() != TaskStatus.OVERDUE) {
+            taskDeadlineQueue.track(task.getId(), task.getDueDate());
+        }
+
         if (task.getProject() == null) {
             createActivityBasedOnProjectStatus(task, ActivityType.TASK_UPDATED);
         } else {
@@ -331,32 +371,7 @@ public class TaskService {
         taskRepository.save(task);
     }
 
-    public double getTaskCompletionRateLast24Hours(UUID userId, LocalDateTime yesterday, LocalDateTime now) {
-        long created = activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_CREATED, yesterday, now);
-
-        long completed = activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_COMPLETED, yesterday, now);
-
-        if (created == 0) {
-            return 0;
-        }
-
-        double percentage = (double) completed / created * 100;
-        return Math.round(percentage * 100.0) / 100.0;
-    }
-
-    public int getAllTimeCompletionRate(UUID userId) {
-        int tasks = taskRepository.findAllByUserIdAndProjectNull(userId).size();
-        int completed = (int) taskRepository.findAllByUserIdAndProjectNull(userId).stream().filter(t -> t.getStatus() == TaskStatus.COMPLETED).count();
-
-        double calc = (double) completed / tasks * 100;
-
-        return Math.toIntExact(Math.round(calc));
-    }
-
-    public int getTasksDueThisWeek(UUID userId) {
-
+    public TaskDashboard getDashboard(UUID userId) {
         LocalDateTime now = LocalDateTime.now();
 
         LocalDateTime startOfWeek = now
@@ -367,17 +382,40 @@ public class TaskService {
                 .with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY))
                 .withHour(23).withMinute(59).withSecond(59).withNano(999_000_000);
 
-        return taskRepository.findAllByUserIdAndProjectNullAndDeletedFalseAndDueDateBetweenAndStatusNotAndStatusNot(
-                userId, startOfWeek, endOfWeek, TaskStatus.OVERDUE, TaskStatus.COMPLETED).size();
+        UserTaskTotals totals = userTaskStatsService.getTotals(userId);
+
+        return TaskDashboard.builder()
+                .activeTasksCount(totals.total() - totals.count(TaskStatus.OVERDUE))
+                .completedTasks(totals.count(TaskStatus.COMPLETED))
+                .overdueTasks(totals.count(TaskStatus.OVERDUE))
+                .dueThisWeek(taskRepository.countPersonalOpenDueBetween(userId, startOfWeek, endOfWeek))
+                .completionRate(totals.allTimePercentage(TaskStatus.COMPLETED))
+                .recentTasks(taskRepository.findRecentDashboardRows(userId, PageRequest.of(0, DASHBOARD_RECENT_TASKS)))
+                .upcomingTasks(taskRepository.findUpcomingDashboardRows(userId, now, PageRequest.of(0, DASHBOARD_UPCOMING_TASKS)))
+                .build();
     }
 
     public void createActivityBasedOnProjectStatus(Task task, ActivityType activityType) {
+        activityService.createActivity(activityType, task.getUser(), task);
+    }
 
-        if (task.getProject() == null) {
-            activityService.createActivity(activityType, userService.getById(task.getUser().getId()), task);
-        } else {
-            activityService.createActivity(activityType, userService.getById(task.getUser().getId()), task);
+    private <T> T timed(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer("tasks.operation.latency", "operation", operation, "outcome", outcome));
         }
+    }
 
+    private void timed(String operation, Runnable action) {
+        timed(operation, () -> {
+            action.run();
+            return null;
+        });
     }
 }
@@ -0,0 +1,144 @@
+package com.example.TaskManager.task.service;
+
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.model.UserTaskStats;
+import com.example.TaskManager.task.model.UserTaskStatsKey;
+import com.example.TaskManager.task.model.UserTaskTotals;
+import com.example.TaskManager.task.repository.UserTaskStatsRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class UserTaskStatsService {
+
+    private static final UUID FIRST_USER_ID = new UUID(0L, 0L);
+
+    private final UserTaskStatsRepository userTaskStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunks;
+
+    public UserTaskStatsService(UserTaskStatsRepository userTaskStatsRepository, PlatformTransactionManager transactionManager,
+                                @Value("${tasks.stats.chunk-size:500}") int chunkSize,
+                                @Value("${tasks.stats.max-chunks:1000}") int maxChunks) {
+        this.userTaskStatsRepository = userTaskStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+    }
+
+    public UserTaskTotals getTotals(UUID userId) {
+        return UserTaskTotals.of(userTaskStatsRepository.findAllByIdUserId(userId));
+    }
+
+    public void record(Task task) {
+        adjust(UserTaskStatsKey.of(task), 1);
+    }
+
+    public void move(UserTaskStatsKey from, Task task) {
+        UserTaskStatsKey to = UserTaskStatsKey.of(task);
+
+        if (from.equals(to)) {
+            return;
+        }
+
+        adjust(from, -1);
+        adjust(to, 1);
+    }
+
+    public List<UserTaskStats> overdueTransitions(Collection<UUID> taskIds, LocalDateTime now) {
+        return userTaskStatsRepository.countOverdueTransitions(taskIds, now);
+    }
+
+    public void moveAll(List<UserTaskStats> stats, TaskStatus status) {
+        for (UserTaskStats row : stats) {
+            adjust(row.getId(), -row.getTaskCount());
+            adjust(row.getId().toBuilder().status(status).build(), row.getTaskCount());
+        }
+    }
+
+    public void removeProjectTasks(UUID projectId) {
+        userTaskStatsRepository.subtractProjectTasks(projectId);
+    }
+
+    public void removeUser(UUID userId) {
+        userTaskStatsRepository.subtractMemberTasksByProjectOwnerId(userId);
+        userTaskStatsRepository.deleteInBulkByUserIdIn(List.of(userId));
+    }
+
+    @Transactional
+    public void rebuild(Collection<UUID> userIds) {
+        userTaskStatsRepository.deleteInBulkByUserIdIn(userIds);
+        userTaskStatsRepository.saveAll(userTaskStatsRepository.countTasksByUserIdIn(userIds));
+    }
+
+    public int reconcile() {
+        UUID after = FIRST_USER_ID;
+        int repaired = 0;
+
+        for (int i = 0; i < maxChunks; i++) {
+            List<UUID> userIds = userTaskStatsRepository.findUserIdsAfter(after, PageRequest.of(0, chunkSize));
+
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            repaired += Objects.requireNonNull(transactionTemplate.execute(status -> repairDrift(userIds)));
+
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+
+            after = userIds.get(userIds.size() - 1);
+        }
+
+        return repaired;
+    }
+
+    private int repairDrift(List<UUID> userIds) {
+        Map<UUID, Map<UserTaskStatsKey, Long>> expected = byUser(userTaskStatsRepository.countTasksByUserIdIn(userIds));
+        Map<UUID, Map<UserTaskStatsKey, Long>> actual = byUser(userTaskStatsRepository.findAllByIdUserIdIn(userIds));
+
+        List<UUID> drifted = userIds.stream()
+                .filter(id -> !expected.getOrDefault(id, Map.of()).equals(actual.getOrDefault(id, Map.of())))
+                .toList();
+
+        if (!drifted.isEmpty()) {
+            rebuild(drifted);
+        }
+
+        return drifted.size();
+    }
+
+    private void adjust(UserTaskStatsKey key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        if (userTaskStatsRepository.increment(key, delta) == 0 && delta > 0) {
+            userTaskStatsRepository.upsert(key, delta);
+        }
+    }
+
+    private Map<UUID, Map<UserTaskStatsKey, Long>> byUser(List<UserTaskStats> stats) {
+        return stats.stream()
+                .filter(row -> row.getTaskCount() != 0)
+                .collect(Collectors.groupingBy(row -> row.getId().getUserId(),
+                        Collectors.toMap(UserTaskStats::getId, UserTaskStats::getTaskCount)));
+    }
+}
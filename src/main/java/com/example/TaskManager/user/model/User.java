@@ -44,9 +44,8 @@ public class User {
     @Email
     private String email;
 
-    @Lob
-    @Column(columnDefinition = "LONGBLOB")
-    private byte[] image;
+    @Column(length = 64)
+    private String avatarHash;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -61,7 +60,7 @@ public class User {
     @Column(nullable = false)
     private boolean active;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "user")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "user")
     private List<Task> tasks;
 
     @ManyToMany(mappedBy = "members")
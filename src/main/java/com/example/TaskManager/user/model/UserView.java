@@ -0,0 +1,60 @@
+package com.example.TaskManager.user.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+@Builder
+@AllArgsConstructor
+public class UserView {
+
+    UUID id;
+
+    String username;
+
+    String firstName;
+
+    String lastName;
+
+    String email;
+
+    String avatarHash;
+
+    UserRole role;
+
+    boolean active;
+
+    boolean profileCompleted;
+
+    String provider;
+
+    boolean emailNotificationEnabled;
+
+    boolean deadLineNotificationEnabled;
+
+    boolean summaryNotificationEnabled;
+
+    boolean reminderNotificationEnabled;
+
+    public static UserView of(User user) {
+        return UserView.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .avatarHash(user.getAvatarHash())
+                .role(user.getRole())
+                .active(user.isActive())
+                .profileCompleted(user.isProfileCompleted())
+                .provider(user.getProvider())
+                .emailNotificationEnabled(user.isEmailNotificationEnabled())
+                .deadLineNotificationEnabled(user.isDeadLineNotificationEnabled())
+                .summaryNotificationEnabled(user.isSummaryNotificationEnabled())
+                .reminderNotificationEnabled(user.isReminderNotificationEnabled())
+                .build();
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.TaskManager.user.repository;
 
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,4 +24,15 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT new com.example.TaskManager.user.model.UserView(u.id, u.username, u.firstName, u.lastName, u.email, u.avatarHash, " +
+            "u.role, u.active, u.profileCompleted, u.provider, u.emailNotificationEnabled, u.deadLineNotificationEnabled, " +
+            "u.summaryNotificationEnabled, u.reminderNotificationEnabled) FROM User u WHERE u.id = :id")
+    Optional<UserView> findViewById(@Param("id") UUID id);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :after AND u.id <= :last AND u.summaryNotificationEnabled = true ORDER BY u.id")
+    List<UUID> findSummaryRecipientIdsBetween(@Param("after") UUID after, @Param("last") UUID last, Pageable pageable);
 }
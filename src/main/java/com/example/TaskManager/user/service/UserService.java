@@ -1,43 +1,79 @@
 package com.example.TaskManager.user.service;
 
+import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.exception.user.EmailAlreadyExistException;
 import com.example.TaskManager.exception.user.UserNotFoundException;
 import com.example.TaskManager.exception.user.UsernameAlreadyExistException;
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.service.JobRegistry;
 import com.example.TaskManager.notification.NotificationType;
 import com.example.TaskManager.notification.service.NotificationService;
+import com.example.TaskManager.project.repository.ProjectRepository;
 import com.example.TaskManager.security.UserData;
+import com.example.TaskManager.tag.repository.TagRepository;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.task.service.TaskDeadlineQueue;
+import com.example.TaskManager.task.service.UserTaskStatsService;
 import com.example.TaskManager.user.model.User;
 import com.example.TaskManager.notification.NotificationMessages;
 import com.example.TaskManager.user.model.UserRole;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.repository.UserRepository;
 import com.example.TaskManager.web.dto.*;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.LongConsumer;
 
 @Service
 @Slf4j
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserViewCache userViewCache;
     private final PasswordEncoder passwordEncoder;
     private final NotificationService notificationService;
-
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, NotificationService notificationService) {
+    private final ActivityService activityService;
+    private final TaskRepository taskRepository;
+    private final UserTaskStatsService userTaskStatsService;
+    private final TaskDeadlineQueue taskDeadlineQueue;
+    private final ProjectRepository projectRepository;
+    private final TagRepository tagRepository;
+    private final JobRegistry jobRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final long deleteInlineLimit;
+
+    public UserService(UserRepository userRepository, UserViewCache userViewCache, PasswordEncoder passwordEncoder,
+                       NotificationService notificationService, ActivityService activityService, TaskRepository taskRepository, UserTaskStatsService userTaskStatsService, TaskDeadlineQueue taskDeadlineQueue, ProjectRepository projectRepository,
+                       TagRepository tagRepository, JobRegistry jobRegistry, PlatformTransactionManager transactionManager,
+                       @Value("${activity.delete.inline-limit:5000}") long deleteInlineLimit) {
         this.userRepository = userRepository;
+        this.userViewCache = userViewCache;
         this.passwordEncoder = passwordEncoder;
         this.notificationService = notificationService;
+        this.activityService = activityService;
+        this.taskRepository = taskRepository;
+        this.userTaskStatsService = userTaskStatsService;
+        this.taskDeadlineQueue = taskDeadlineQueue;
+        this.projectRepository = projectRepository;
+        this.tagRepository = tagRepository;
+        this.jobRegistry = jobRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deleteInlineLimit = deleteInlineLimit;
     }
 
 
@@ -80,7 +116,7 @@ public class UserService implements UserDetailsService {
                 .firstName(registerRequest.getFirstName())
                 .lastName(registerRequest.getLastName())
                 .role(UserRole.USER)
-                .image(null)
+                .avatarHash(null)
                 .modifiedOn(LocalDateTime.now())
                 .active(true)
                 .emailNotificationEnabled(true)
@@ -103,9 +139,15 @@ public class UserService implements UserDetailsService {
                 new UserNotFoundException("User with id: [%s] does not exist".formatted(userId.toString())));
     }
 
+    public UserView getView(UUID userId) {
+        return userViewCache.get(userId, id -> userRepository.findViewById(id).orElseThrow(() ->
+                new UserNotFoundException("User with id: [%s] does not exist".formatted(id.toString()))));
+    }
+
     public void update(User user) {
         user.setModifiedOn(LocalDateTime.now());
         userRepository.save(user);
+        userViewCache.evict(user.getId());
     }
 
     public List<User> getAllUsers() {
@@ -149,14 +191,19 @@ public class UserService implements UserDetailsService {
                 NotificationMessages.PASSWORD_CHANGE_SUBJECT, NotificationType.EMAIL);
     }
 
-    @Transactional
-    public void deleteUser(UUID id) {
+    public Optional<JobProgress> deleteUser(UUID id) {
         User user = getById(id);
+        long activities = activityService.countByUserId(id);
 
-        userRepository.delete(user);
-        notificationService.sendNotification(user.getId(), NotificationMessages.USER_DELETE_SUBJECT,
-                NotificationMessages.USER_DELETE_BODY.formatted(user.getUsername()), NotificationType.EMAIL);
+        if (activities <= deleteInlineLimit) {
+            teardown(user, deleted -> {});
+            return Optional.empty();
+        }
 
+        JobProgress job = jobRegistry.submit("user-delete", activities, progress -> teardown(user, progress::advance));
+        log.info("Deleting user [%s] with [%d] activities in background job [%s]".formatted(id, activities, job.getId()));
+
+        return Optional.of(job);
     }
 
     public void editPreferences(@Valid EditPreferenceRequest editPreferenceRequest, UUID id) {
@@ -190,7 +237,7 @@ public class UserService implements UserDetailsService {
                 .firstName(userCreateDto.getFirstName())
                 .lastName(userCreateDto.getLastName())
                 .role(UserRole.USER)
-                .image(null)
+                .avatarHash(null)
                 .modifiedOn(LocalDateTime.now())
                 .active(true)
                 .emailNotificationEnabled(true)
@@ -243,4 +290,23 @@ public class UserService implements UserDetailsService {
         return userRepository.findByUsername(username).orElseThrow(() -> new UserNotFoundException(username));
     }
 
+
+    private void teardown(User user, LongConsumer onChunk) {
+        UUID id = user.getId();
+        activityService.purgeActivity(id, onChunk);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userTaskStatsService.removeUser(id);
+            taskDeadlineQueue.untrackAll(taskRepository.findIdsByUserOrProjectOwnerIdAndStatusNotIn(id, TaskDeadlineQueue.SETTLED_STATUSES));
+            tagRepository.deleteInBulkByProjectOwnerId(id);
+            taskRepository.deleteInBulkByUserOrProjectOwnerId(id);
+            projectRepository.deleteMembershipsByUserId(id);
+            projectRepository.deleteInBulkByOwnerId(id);
+            userRepository.deleteById(id);
+        });
+        userViewCache.evict(id);
+
+        notificationService.sendNotification(id, NotificationMessages.USER_DELETE_SUBJECT,
+                NotificationMessages.USER_DELETE_BODY.formatted(user.getUsername()), NotificationType.EMAIL);
+    }
 }
@@ -0,0 +1,77 @@
+package com.example.TaskManager.user.service;
+
+import com.example.TaskManager.user.model.UserView;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class UserViewCache {
+
+    public static final String CACHE_NAME = "userViews";
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserViewCache.class.getName() + ".";
+
+    private final Cache<Object, Object> cache;
+
+    public UserViewCache(CacheManager cacheManager) {
+        CaffeineCache caffeineCache = (CaffeineCache) Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+        this.cache = caffeineCache.getNativeCache();
+    }
+
+    public UserView get(UUID userId, Function<UUID, UserView> loader) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request == null) {
+            return load(userId, loader);
+        }
+
+        String attribute = REQUEST_ATTRIBUTE_PREFIX + userId;
+
+        if (request.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST) instanceof UserView view) {
+            return view;
+        }
+
+        UserView view = load(userId, loader);
+        request.setAttribute(attribute, view, RequestAttributes.SCOPE_REQUEST);
+
+        return view;
+    }
+
+    public void evict(UUID userId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        cache.invalidate(userId);
+        afterCommit(() -> cache.invalidate(userId));
+    }
+
+    private UserView load(UUID userId, Function<UUID, UserView> loader) {
+        return (UserView) cache.get(userId, key -> loader.apply(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
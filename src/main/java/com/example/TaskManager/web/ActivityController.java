@@ -1,19 +1,22 @@
 package com.example.TaskManager.web;
 
-import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityCounts;
+import com.example.TaskManager.activity.model.ActivityCursor;
 import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.security.UserData;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Controller
@@ -29,30 +32,36 @@ public class ActivityController {
     }
 
     @GetMapping
-    public ModelAndView activity(@AuthenticationPrincipal UserData userData) {
+    public ModelAndView activity(@AuthenticationPrincipal UserData userData, @RequestParam(required = false) UUID job) {
         ModelAndView mv = new ModelAndView("activity");
-        User user = userService.getById(userData.getId());
-        List<Activity> activities = activityService.getActivityByTypeAndUserId(user.getId(), null);
+        UserView user = userService.getView(userData.getId());
 
-        long taskCount = activities.stream()
-                .filter(a -> !a.getType().name().contains("PROJECT"))
-                .count();
-
-        long projectCount = activities.stream()
-                .filter(activity -> activity.getType().name().contains("PROJECT"))
-                .count();
+        ActivityCounts counts = activityService.getCounts(user.getId());
 
         mv.addObject("user", user);
-        mv.addObject("activities", activities);
-        mv.addObject("taskCount", taskCount);
-        mv.addObject("projectCount", projectCount);
+        mv.addObject("feed", activityService.getFeed(user.getId(), null));
+        mv.addObject("totalCount", counts.total());
+        mv.addObject("taskCount", counts.tasks());
+        mv.addObject("projectCount", counts.projects());
+        mv.addObject("job", activityService.getDeleteProgress(job));
+
+        return mv;
+    }
+
+    @GetMapping("/feed")
+    public ModelAndView feed(@AuthenticationPrincipal UserData userData,
+                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdOn,
+                             @RequestParam UUID id) {
+        ModelAndView mv = new ModelAndView("activity :: feed");
+        mv.addObject("feed", activityService.getFeed(userData.getId(), new ActivityCursor(createdOn, id)));
 
         return mv;
     }
 
     @DeleteMapping("/{id}")
     public String clearActivity(@PathVariable UUID id) {
-        activityService.deleteActivity(id);
-        return "redirect:/activity";
+        return activityService.deleteActivity(id)
+                .map(job -> "redirect:/activity?job=" + job.getId())
+                .orElse("redirect:/activity");
     }
 }
@@ -4,7 +4,7 @@ import com.example.TaskManager.analytics.client.AnalyticsClient;
 import com.example.TaskManager.analytics.client.dto.ProjectAnalyticsResponse;
 import com.example.TaskManager.analytics.client.dto.TaskAnalyticsResponse;
 import com.example.TaskManager.security.UserData;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -27,7 +27,7 @@ public class AnalyticsController {
     @GetMapping
     public ModelAndView getAnalytics(@AuthenticationPrincipal UserData userData)  {
         ModelAndView modelAndView = new ModelAndView("analytics");
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         TaskAnalyticsResponse tasksAnalytics = analyticsClient.getTaskAnalytics(user.getId());
         ProjectAnalyticsResponse projectAnalytics = analyticsClient.getProjectAnalytics(user.getId());
@@ -42,7 +42,7 @@ public class AnalyticsController {
     @GetMapping("/lifetime")
     public ModelAndView getLifetimeAnalytics(@AuthenticationPrincipal UserData userData) {
         ModelAndView modelAndView = new ModelAndView("analytics-lifetime");
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         TaskAnalyticsResponse tasksAnalytics = analyticsClient.getTaskAnalytics(user.getId());
         ProjectAnalyticsResponse projectAnalytics = analyticsClient.getProjectAnalytics(user.getId());
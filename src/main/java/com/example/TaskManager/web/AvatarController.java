@@ -0,0 +1,54 @@
+package com.example.TaskManager.web;
+
+import com.example.TaskManager.avatar.model.AvatarSize;
+import com.example.TaskManager.avatar.service.AvatarService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@Controller
+@RequestMapping("/avatars")
+public class AvatarController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate();
+
+    private final AvatarService avatarService;
+
+    public AvatarController(AvatarService avatarService) {
+        this.avatarService = avatarService;
+    }
+
+    @GetMapping("/{hash}")
+    public ResponseEntity<byte[]> avatar(@PathVariable String hash, @RequestParam(required = false) String size, WebRequest request) {
+        AvatarSize avatarSize = AvatarSize.of(size).orElse(null);
+
+        if (avatarSize == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String etag = "\"%s-%s\"".formatted(hash, avatarSize.name().toLowerCase());
+
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).eTag(etag).build();
+        }
+
+        return avatarService.load(hash, avatarSize)
+                .map(bytes -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_PNG)
+                        .contentLength(bytes.length)
+                        .cacheControl(CACHE_CONTROL)
+                        .eTag(etag)
+                        .body(bytes))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -4,9 +4,10 @@ import com.example.TaskManager.activity.model.Activity;
 import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.security.UserData;
 import com.example.TaskManager.project.service.ProjectService;
-import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.project.model.ProjectStatus;
+import com.example.TaskManager.task.model.TaskDashboard;
 import com.example.TaskManager.task.service.TaskService;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -20,6 +21,8 @@ import java.util.List;
 @RequestMapping("/dashboard")
 public class DashboardController {
 
+    private static final int RECENT_ACTIVITY_LIMIT = 3;
+
     private final UserService userService;
     private final TaskService taskService;
     private final ProjectService projectService;
@@ -35,23 +38,23 @@ public class DashboardController {
     @GetMapping
     public ModelAndView getDashboardPage(@AuthenticationPrincipal UserData userData) {
         ModelAndView modelAndView = new ModelAndView("dashboard");
-        User user = userService.getById(userData.getId());
-        List<Activity> recentActivity = activityService.getActivityByTypeAndUserId(user.getId(), null).stream().limit(3).toList();
+        UserView user = userService.getView(userData.getId());
+        List<Activity> recentActivity = activityService.getRecentActivity(user.getId(), RECENT_ACTIVITY_LIMIT);
 
-        long activeTasksCount = taskService.getAllTasksByUserIdAndProjectNull(user.getId()).stream().filter(task -> !task.getStatus().equals(TaskStatus.OVERDUE)).count();
-        long activeProjectsCount = projectService.getAllByUserIdAndDeletedFalse(user.getId()).stream().filter(project -> project.getStatus().getDisplayName().equals("Active")).count();
+        TaskDashboard dashboard = taskService.getDashboard(user.getId());
 
-        modelAndView.addObject("dueThisWeek", taskService.getTasksDueThisWeek(user.getId()));
-        modelAndView.addObject("completionRate", taskService.getAllTimeCompletionRate(user.getId()));
-        modelAndView.addObject("activeTasksCount", activeTasksCount);
+        modelAndView.addObject("dueThisWeek", dashboard.getDueThisWeek());
+        modelAndView.addObject("completionRate", dashboard.getCompletionRate());
+        modelAndView.addObject("activeTasksCount", dashboard.getActiveTasksCount());
         modelAndView.addObject("user", user);
-        modelAndView.addObject("completedTasks", taskService.getAllTasksByUserIdAndStatusNotDeleted(user.getId(),TaskStatus.COMPLETED).size());
-        modelAndView.addObject("overDueTasks", taskService.getOverDueTasksByUser(user).size());
-        modelAndView.addObject("activeProjectsCount", activeProjectsCount);
-        modelAndView.addObject("recentTasks", taskService.getRecentTasks(user));
-        modelAndView.addObject("recentProjects", projectService.getRecentProjects(user));
+        modelAndView.addObject("completedTasks", dashboard.getCompletedTasks());
+        modelAndView.addObject("overDueTasks", dashboard.getOverdueTasks());
+        modelAndView.addObject("activeProjectsCount", projectService.countByUserIdAndStatus(user.getId(), ProjectStatus.ACTIVE));
+        modelAndView.addObject("recentTasks", dashboard.getRecentTasks());
+        modelAndView.addObject("projectsCount", projectService.countMemberships(user.getId()));
+        modelAndView.addObject("recentProjects", projectService.getRecentProjects(user.getId()));
         modelAndView.addObject("recentActivity", recentActivity);
-        modelAndView.addObject("upcomingTasks", taskService.getUpcomingTasks(user.getId()));
+        modelAndView.addObject("upcomingTasks", dashboard.getUpcomingTasks());
 
         return modelAndView;
     }
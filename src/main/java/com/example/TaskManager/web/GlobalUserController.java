@@ -1,14 +1,14 @@
 package com.example.TaskManager.web;
 
+import com.example.TaskManager.avatar.model.AvatarSize;
+import com.example.TaskManager.avatar.service.AvatarService;
 import com.example.TaskManager.security.UserData;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
-import java.util.Base64;
-
 @ControllerAdvice
 public class GlobalUserController {
 
@@ -18,17 +18,13 @@ public class GlobalUserController {
         this.userService = userService;
     }
 
-    @ModelAttribute("base64Image")
-    public String addBase64Image (@AuthenticationPrincipal UserData userData) {
+    @ModelAttribute("avatarUrl")
+    public String addAvatarUrl(@AuthenticationPrincipal UserData userData) {
         if (userData == null) {
             return null;
         }
-        User user = userService.getById(userData.getId());
-
-        if (user.getImage() != null && user.getImage().length > 0) {
-            return Base64.getEncoder().encodeToString(user.getImage());
-        }
+        UserView user = userService.getView(userData.getId());
 
-        return null;
+        return AvatarService.url(user.getAvatarHash(), AvatarSize.SMALL);
     }
 }
@@ -1,8 +1,9 @@
 package com.example.TaskManager.web;
 
+import com.example.TaskManager.job.model.JobProgress;
 import com.example.TaskManager.notification.service.NotificationService;
 import com.example.TaskManager.security.UserData;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.DtoMapper;
 import com.example.TaskManager.web.dto.EditPreferenceRequest;
@@ -34,7 +35,7 @@ public class NotificationController {
     @GetMapping
     public ModelAndView getNotificationPage(@AuthenticationPrincipal UserData userData) {
         ModelAndView modelAndView = new ModelAndView("notifications");
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
         modelAndView.addObject("user", user);
         EditPreferenceRequest editPreferenceRequest = DtoMapper.fromUserPreference(user);
 
@@ -50,7 +51,7 @@ public class NotificationController {
         if (result.hasErrors()) {
             return new ModelAndView("redirect:/notifications");
         }
-        User user = userService.getById(id);
+        UserView user = userService.getView(id);
 
         notificationService.updatePreferences(user, editPreferenceRequest);
         userService.editPreferences(editPreferenceRequest, user.getId());
@@ -66,12 +67,13 @@ public class NotificationController {
 
     @PreAuthorize("hasAnyRole('MODERATOR','ADMIN')")
     @GetMapping("/sender")
-    public ModelAndView getNotificationSenderPage(@AuthenticationPrincipal UserData userData) {
+    public ModelAndView getNotificationSenderPage(@AuthenticationPrincipal UserData userData, @RequestParam(required = false) UUID job) {
         ModelAndView modelAndView = new ModelAndView("notification-sender");
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         modelAndView.addObject("user", user);
         modelAndView.addObject("notificationRequest", new GlobalNotificationRequest());
+        modelAndView.addObject("job", notificationService.getBroadcastProgress(job));
         return modelAndView;
     }
 
@@ -81,14 +83,14 @@ public class NotificationController {
                                                BindingResult result, @AuthenticationPrincipal UserData userData) {
         if (result.hasErrors()) {
             ModelAndView modelAndView = new ModelAndView("notification-sender");
-            User user = userService.getById(userData.getId());
+            UserView user = userService.getView(userData.getId());
             modelAndView.addObject("user", user);
             modelAndView.addObject("notificationRequest", new GlobalNotificationRequest());
             return modelAndView;
         }
 
-        notificationService.sendGlobalNotification(globalNotificationRequest, userService.getAllUsers());
+        JobProgress job = notificationService.sendGlobalNotification(globalNotificationRequest);
 
-        return new ModelAndView("redirect:/notifications");
+        return new ModelAndView("redirect:/notifications/sender?job=" + job.getId());
     }
 }
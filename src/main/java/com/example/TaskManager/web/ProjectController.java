@@ -1,14 +1,17 @@
 package com.example.TaskManager.web;
 
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectListItem;
 import com.example.TaskManager.project.model.ProjectStatus;
 import com.example.TaskManager.security.UserData;
 import com.example.TaskManager.project.service.ProjectService;
 import com.example.TaskManager.task.model.Task;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.*;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -34,33 +37,31 @@ public class ProjectController {
     }
 
     @GetMapping
-    public ModelAndView getProjects(@AuthenticationPrincipal UserData userData, @RequestParam(required = false) String status) {
-       ModelAndView mv = new ModelAndView("projects");
-        List<Project> projects;
-        User user = userService.getById(userData.getId());
+    public ModelAndView getProjects(@AuthenticationPrincipal UserData userData, @RequestParam(required = false) String status, @RequestParam(defaultValue = "0") int page) {
+        ModelAndView mv = new ModelAndView("projects");
+        UserView user = userService.getView(userData.getId());
+        ProjectStatus projectStatus = status != null ? ProjectStatus.valueOf(status) : null;
 
-        if (status != null) {
-            projects = projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.valueOf(status));
-        } else {
-            projects = projectService.getProjectsIncludedIn(user);
-        }
+        Page<ProjectListItem> projects = projectService.getProjectsIncludedIn(user.getId(), projectStatus, page);
 
-        mv.addObject("projects",projects);
+        mv.addObject("projects", projects.getContent());
+        mv.addObject("page", projects);
+        mv.addObject("totalProjects", projects.getTotalElements());
         mv.addObject("user",user);
         mv.addObject("status",status);
-        mv.addObject("activeProjects", projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.ACTIVE));
-        mv.addObject("inProgressProjects", projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.IN_PROGRESS));
-        mv.addObject("completedProjects", projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.COMPLETED));
+        mv.addObject("activeProjectsCount", projectService.countByUserIdAndStatus(user.getId(), ProjectStatus.ACTIVE));
+        mv.addObject("inProgressProjectsCount", projectService.countByUserIdAndStatus(user.getId(), ProjectStatus.IN_PROGRESS));
+        mv.addObject("completedProjectsCount", projectService.countByUserIdAndStatus(user.getId(), ProjectStatus.COMPLETED));
 
         return mv;
     }
 
+    @PreAuthorize("@projectSecurity.isMember(#id, authentication)")
     @GetMapping("/{id}")
     public ModelAndView getProjectPage(@AuthenticationPrincipal UserData userData ,@PathVariable UUID id) {
         ModelAndView mv = new ModelAndView("project");
-        User user = userService.getById(userData.getId());
-        Project project = projectService.getByIdNotDeleted(id);
-        projectService.calculateCompletionPercent(project);
+        UserView user = userService.getView(userData.getId());
+        Project project = projectService.getByIdWithTasks(id);
         String members = projectService.getMembersToString(id);
         List<Task> tasks = project.getTasks().stream().sorted(Comparator.comparing(Task::getCreatedOn)).toList();
 
@@ -76,7 +77,7 @@ public class ProjectController {
     @GetMapping("/new-project")
     public ModelAndView addProjectPage(@AuthenticationPrincipal UserData userData) {
         ModelAndView mv = new ModelAndView("add-project");
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         mv.addObject("user",user);
         mv.addObject("createProjectRequest",new CreateProjectRequest());
@@ -88,7 +89,7 @@ public class ProjectController {
     public ModelAndView createProject(@Valid @ModelAttribute CreateProjectRequest createProjectRequest, BindingResult bindingResult, @AuthenticationPrincipal UserData userData) {
         if (bindingResult.hasErrors()) {
             ModelAndView mv = new ModelAndView("add-project");
-            mv.addObject("user", userService.getById(userData.getId()));
+            mv.addObject("user", userService.getView(userData.getId()));
             return mv;
         }
 
@@ -104,7 +105,7 @@ public class ProjectController {
     public ModelAndView getEditProjectPage(@AuthenticationPrincipal UserData userData, @PathVariable UUID id) {
         ModelAndView mv = new ModelAndView("edit-project");
         Project project = projectService.getByIdNotDeleted(id);
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         EditProjectRequest editProjectRequest = DtoMapper.fromProject(project, projectService.getProjectTagsAsString(project));
 
@@ -116,11 +117,12 @@ public class ProjectController {
     }
 
 
+    @PreAuthorize("@projectSecurity.isOwner(#id, authentication)")
     @PutMapping("/{id}/project")
     public ModelAndView editProject(@Valid @ModelAttribute EditProjectRequest editProjectRequest, BindingResult bindingResult, @AuthenticationPrincipal UserData userData, @PathVariable UUID id) {
         if (bindingResult.hasErrors()) {
             ModelAndView mv = new ModelAndView("edit-project");
-            User user = userService.getById(userData.getId());
+            UserView user = userService.getView(userData.getId());
             mv.addObject("user",user);
             Project project = projectService.getByIdNotDeleted(id);
             mv.addObject("editProjectRequest", DtoMapper.fromProject(project, projectService.getProjectTagsAsString(project)));
@@ -130,6 +132,7 @@ public class ProjectController {
         return new ModelAndView("redirect:/projects");
     }
 
+    @PreAuthorize("@projectSecurity.isOwner(#id, authentication)")
     @PatchMapping("/{id}/project")
     public String completeProject(@PathVariable UUID id) {
         projectService.completeProject(id);
@@ -147,14 +150,15 @@ public class ProjectController {
     @GetMapping("/{id}/invitation")
     public ModelAndView getMemberPage(@AuthenticationPrincipal UserData userData, @PathVariable UUID id) {
         ModelAndView mv = new ModelAndView("invite-member");
-        mv.addObject("user",userService.getById(userData.getId()));
+        mv.addObject("user",userService.getView(userData.getId()));
         mv.addObject("inviteMemberRequest",new InviteMemberRequest());
         return mv;
     }
 
+    @PreAuthorize("@projectSecurity.isOwner(#id, authentication)")
     @PostMapping("/{id}/invitation")
     public ModelAndView addMemberPage(@AuthenticationPrincipal UserData userData, @PathVariable UUID id,@Valid @ModelAttribute InviteMemberRequest inviteMemberRequest, BindingResult bindingResult) {
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         if (bindingResult.hasErrors()) {
             ModelAndView mv = new ModelAndView();
@@ -171,7 +175,7 @@ public class ProjectController {
     @GetMapping("/{id}/member")
     public ModelAndView removeMemberPage(@PathVariable UUID id, @AuthenticationPrincipal UserData userData) {
         ModelAndView mv = new ModelAndView("remove-member");
-        mv.addObject("user", userService.getById(userData.getId()));
+        mv.addObject("user", userService.getView(userData.getId()));
         mv.addObject("removeMemberRequest",new RemoveMemberRequest());
         return mv;
     }
@@ -180,7 +184,7 @@ public class ProjectController {
     @PostMapping("/{id}/member")
     public ModelAndView removeMember(@PathVariable UUID id, @Valid @ModelAttribute RemoveMemberRequest removeMemberRequest,
                                      BindingResult bindingResult, @AuthenticationPrincipal UserData userData) {
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         if (bindingResult.hasErrors()) {
             ModelAndView mv = new ModelAndView();
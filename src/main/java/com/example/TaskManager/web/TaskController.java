@@ -4,7 +4,7 @@ import com.example.TaskManager.project.service.ProjectService;
 import com.example.TaskManager.security.UserData;
 import com.example.TaskManager.task.model.Task;
 import com.example.TaskManager.task.service.TaskService;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.CreateTaskRequest;
 import com.example.TaskManager.web.dto.DtoMapper;
@@ -35,7 +35,7 @@ public class TaskController {
 
     @GetMapping
     public ModelAndView getTasksPage(@AuthenticationPrincipal UserData userData) {
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         return taskService.buildTasksPageView(user);
 
@@ -45,7 +45,7 @@ public class TaskController {
     public ModelAndView getCreateTaskPage(@AuthenticationPrincipal UserData userData) {
         ModelAndView mv = new ModelAndView("add-task");
         mv.addObject("createTaskRequest", new CreateTaskRequest());
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
         mv.addObject("user", user);
 
         return mv;
@@ -56,39 +56,36 @@ public class TaskController {
     public ModelAndView getCreateTaskPageForProject(@AuthenticationPrincipal UserData userData, @PathVariable UUID projectId) {
         ModelAndView mv = new ModelAndView("add-task-project");
         mv.addObject("createTaskRequest", new CreateTaskRequest());
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
         mv.addObject("user", user);
         mv.addObject("projectId", projectId);
 
         return mv;
     }
 
+    @PreAuthorize("@projectSecurity.isOwner(#projectId, authentication)")
     @PostMapping("/new-task/{projectId}")
     public ModelAndView createTaskWithProject(@Valid CreateTaskRequest createTaskRequest, BindingResult bindingResult, @AuthenticationPrincipal UserData userData, @PathVariable(required = false) UUID projectId) {
-        User user = this.userService.getById(userData.getId());
-
         if (bindingResult.hasErrors()) {
             ModelAndView modelAndView = new ModelAndView("add-task-project");
-            modelAndView.addObject("user", user);
+            modelAndView.addObject("user", userService.getView(userData.getId()));
             return modelAndView;
         }
 
-        Task task = this.taskService.createTask(createTaskRequest, user.getId(), projectService.getByIdNotDeleted(projectId));
+        Task task = this.taskService.createTask(createTaskRequest, userData.getId(), projectService.getByIdNotDeleted(projectId));
 
         return new ModelAndView("redirect:/projects/" + task.getProject().getId());
     }
 
     @PostMapping("/new-task")
     public ModelAndView createTaskWithoutProject(@Valid CreateTaskRequest createTaskRequest, BindingResult bindingResult, @AuthenticationPrincipal UserData userData) {
-        User user = this.userService.getById(userData.getId());
-
         if (bindingResult.hasErrors()) {
             ModelAndView modelAndView = new ModelAndView("add-task");
-            modelAndView.addObject("user", user);
+            modelAndView.addObject("user", userService.getView(userData.getId()));
             return modelAndView;
         }
 
-        Task task = this.taskService.createTask(createTaskRequest, user.getId(), null);
+        Task task = this.taskService.createTask(createTaskRequest, userData.getId(), null);
 
         return new ModelAndView("redirect:/tasks");
     }
@@ -119,7 +116,7 @@ public class TaskController {
 
         ModelAndView mv = new ModelAndView("edit-task");
 
-        mv.addObject("user", userService.getById(userData.getId()));
+        mv.addObject("user", userService.getView(userData.getId()));
         mv.addObject("editTaskRequest", editTaskRequest);
         mv.addObject("taskId", id);
 
@@ -130,7 +127,7 @@ public class TaskController {
     public ModelAndView editTask(@PathVariable UUID id, @Valid @ModelAttribute EditTaskRequest editTaskRequest, BindingResult bindingResult, @AuthenticationPrincipal UserData userData) {
         if (bindingResult.hasErrors()) {
             ModelAndView modelAndView = new ModelAndView("edit-task");
-            User user = userService.getById(userData.getId());
+            UserView user = userService.getView(userData.getId());
             modelAndView.addObject("user", user);
             return modelAndView;
         }
@@ -1,7 +1,9 @@
 package com.example.TaskManager.web;
 
+import com.example.TaskManager.avatar.service.AvatarService;
 import com.example.TaskManager.security.UserData;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.ChangePasswordRequest;
 import com.example.TaskManager.web.dto.DtoMapper;
@@ -17,7 +19,6 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.ModelAndView;
 
 import java.io.IOException;
-import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,9 +27,11 @@ import java.util.UUID;
 public class UsersController {
 
     private final UserService userService;
+    private final AvatarService avatarService;
 
-    public UsersController(UserService userService) {
+    public UsersController(UserService userService, AvatarService avatarService) {
         this.userService = userService;
+        this.avatarService = avatarService;
     }
 
     @GetMapping()
@@ -38,7 +41,7 @@ public class UsersController {
         modelAndView.setViewName("users");
         List<User> users = userService.getSortedUsers();
 
-        User user = userService.getById(userData.getId());
+        UserView user = userService.getView(userData.getId());
 
         modelAndView.addObject("user", user);
         modelAndView.addObject("users", users);
@@ -54,7 +57,7 @@ public class UsersController {
                                     @PathVariable UUID id) throws IOException {
 
         if (bindingResult.hasErrors()) {
-            User user = userService.getById(id);
+            UserView user = userService.getView(id);
             ModelAndView modelAndView = new ModelAndView("settings");
             modelAndView.addObject("user", user);
             modelAndView.addObject("changePasswordRequest", new ChangePasswordRequest());
@@ -64,9 +67,9 @@ public class UsersController {
         User user = userService.getById(id);
 
         if (Boolean.TRUE.equals(removeImage)) {
-            user.setImage(null);
+            user.setAvatarHash(null);
         } else if (image != null && !image.isEmpty()) {
-            user.setImage(image.getBytes());
+            avatarService.store(image.getBytes()).ifPresent(user::setAvatarHash);
         }
         userService.update(user);
 
@@ -77,14 +80,9 @@ public class UsersController {
     @GetMapping("/{id}/profile")
     public ModelAndView profilePage(@PathVariable UUID id) {
         ModelAndView modelAndView = new ModelAndView("settings");
-        User user = userService.getById(id);
+        UserView user = userService.getView(id);
         EditProfileRequest editProfileRequest = DtoMapper.fromUser(user);
 
-        if (user.getImage() != null && user.getImage().length > 0) {
-            String base64Image = Base64.getEncoder().encodeToString(user.getImage());
-            modelAndView.addObject("base64Image", base64Image);
-        }
-
         modelAndView.addObject("user", user);
         modelAndView.addObject("editProfileRequest", editProfileRequest);
         modelAndView.addObject("changePasswordRequest", new ChangePasswordRequest());
@@ -100,7 +98,7 @@ public class UsersController {
             ModelAndView modelAndView = new ModelAndView("settings");
             modelAndView.addObject("user", user);
             modelAndView.addObject("changePasswordRequest", changePasswordRequest);
-            modelAndView.addObject("editProfileRequest", DtoMapper.fromUser(user));
+            modelAndView.addObject("editProfileRequest", DtoMapper.fromUser(UserView.of(user)));
             return modelAndView;
         }
 
@@ -120,8 +118,7 @@ public class UsersController {
     @PatchMapping("/{id}/role")
     @PreAuthorize("hasRole('ADMIN')")
     public String changeRole(@PathVariable UUID id ) {
-        User user = userService.getById(id);
-        userService.changeRole(user.getId());
+        userService.changeRole(id);
         return "redirect:/users";
     }
 
@@ -129,7 +126,6 @@ public class UsersController {
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN')")
     public String blockUserAccount(@PathVariable UUID id) {
-        User user = userService.getById(id);
         userService.blockAccount(id);
         return "redirect:/users";
     }
@@ -2,13 +2,13 @@ package com.example.TaskManager.web.dto;
 
 import com.example.TaskManager.project.model.Project;
 import com.example.TaskManager.task.model.Task;
-import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class DtoMapper {
 
-    public static EditProfileRequest fromUser(User user) {
+    public static EditProfileRequest fromUser(UserView user) {
         return EditProfileRequest.builder()
                 .username(user.getUsername())
                 .firstName(user.getFirstName())
@@ -38,7 +38,7 @@ public class DtoMapper {
                 .build();
     }
 
-    public static EditPreferenceRequest fromUserPreference(User user) {
+    public static EditPreferenceRequest fromUserPreference(UserView user) {
         return EditPreferenceRequest.builder()
                 .userId(user.getId())
                 .summaryNotificationEnabled(user.isSummaryNotificationEnabled())
@@ -1,29 +1,83 @@
 document.addEventListener('DOMContentLoaded', function() {
     initFilters();
+    initFeed();
 });
 
+let currentFilter = 'all';
+
 function initFilters() {
     const filterTabs = document.querySelectorAll('.filter-tab');
-    const activityItems = document.querySelectorAll('.activity-item');
 
     filterTabs.forEach(tab => {
         tab.addEventListener('click', function() {
-            const filter = this.getAttribute('data-filter');
+            currentFilter = this.getAttribute('data-filter');
 
             filterTabs.forEach(t => t.classList.remove('active'));
             this.classList.add('active');
 
-            activityItems.forEach(item => {
-                const type = item.getAttribute('data-type');
+            applyFilter(document.querySelectorAll('.activity-item'));
+        });
+    });
+}
+
+function applyFilter(activityItems) {
+    activityItems.forEach(item => {
+        const type = item.getAttribute('data-type');
+
+        if (currentFilter === 'all' || currentFilter === type) {
+            item.style.display = 'flex';
+        } else {
+            item.style.display = 'none';
+        }
+    });
+}
+
+function initFeed() {
+    const list = document.querySelector('.activities-list');
+
+    if (!list || !('IntersectionObserver' in window)) {
+        return;
+    }
 
-                if (filter === 'all' ||
-                    (filter === 'task' && type === 'task') ||
-                    (filter === 'project' && type === 'project')) {
-                    item.style.display = 'flex';
-                } else {
-                    item.style.display = 'none';
-                }
+    let loading = false;
+
+    const observer = new IntersectionObserver(entries => {
+        entries.forEach(entry => {
+            if (!entry.isIntersecting || loading) {
+                return;
+            }
+
+            const sentinel = entry.target;
+            const params = new URLSearchParams({
+                createdOn: sentinel.dataset.createdOn,
+                id: sentinel.dataset.id
             });
+
+            loading = true;
+            observer.unobserve(sentinel);
+
+            fetch('/activity/feed?' + params)
+                .then(response => response.ok ? response.text() : Promise.reject(response.status))
+                .then(html => {
+                    const page = document.createElement('div');
+                    page.innerHTML = html;
+
+                    sentinel.remove();
+                    applyFilter(page.querySelectorAll('.activity-item'));
+                    list.append(...page.childNodes);
+
+                    const next = list.querySelector('.feed-next');
+                    if (next) {
+                        observer.observe(next);
+                    }
+                })
+                .catch(() => sentinel.remove())
+                .finally(() => loading = false);
         });
-    });
-}
\ No newline at end of file
+    }, { rootMargin: '200px' });
+
+    const sentinel = list.querySelector('.feed-next');
+    if (sentinel) {
+        observer.observe(sentinel);
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.TaskManager;
 
 import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityCategory;
+import com.example.TaskManager.activity.model.ActivityCounts;
+import com.example.TaskManager.activity.model.ActivityFeedPage;
 import com.example.TaskManager.activity.model.ActivityType;
 import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.service.ActivityRetentionService;
 import com.example.TaskManager.activity.service.ActivityService;
+import com.example.TaskManager.activity.service.ActivityWriter;
 import com.example.TaskManager.project.model.Project;
 import com.example.TaskManager.project.model.ProjectStatus;
 import com.example.TaskManager.project.model.ProjectVisibility;
@@ -14,7 +19,6 @@ import com.example.TaskManager.task.model.TaskStatus;
 import com.example.TaskManager.task.repository.TaskRepository;
 import com.example.TaskManager.user.model.User;
 import com.example.TaskManager.user.repository.UserRepository;
-import com.example.TaskManager.utils.ActivityUtils;
 import com.example.TaskManager.utils.UserUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,8 +28,10 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +47,12 @@ public class ActivityITest {
     @Autowired
     private ActivityService activityService;
 
+    @Autowired
+    private ActivityWriter activityWriter;
+
+    @Autowired
+    private ActivityRetentionService activityRetentionService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -72,6 +84,7 @@ public class ActivityITest {
         taskRepository.save(task);
 
         activityService.createActivity(type, user, task);
+        activityWriter.flush();
         Activity activity = activityService.getByUserId(user.getId()).get(0);
 
         assertEquals("Added new task \"Task\"", activity.getMessage());
@@ -120,6 +133,7 @@ public class ActivityITest {
         taskRepository.save(task);
 
         activityService.createActivity(type, user, task);
+        activityWriter.flush();
         Activity activity = activityService.getByUserId(user.getId()).get(0);
 
         assertEquals("Created task \"Task\" in project \"Project\"", activity.getMessage());
@@ -154,6 +168,7 @@ public class ActivityITest {
         projectRepository.save(project);
 
         activityService.createActivity(type, user, project);
+        activityWriter.flush();
         Activity activity = activityService.getByUserId(user.getId()).get(0);
 
         assertEquals("Added new task \"Project\"", activity.getMessage());
@@ -182,7 +197,7 @@ public class ActivityITest {
     }
 
     @Test
-    void getActivityByTypeAndUserId_withNotNullType() {
+    void getActivityByTypeAndUserId_withCategory_returnsOnlyTypesInCategory() {
         User user = UserUtils.randomUser();
         user.setId(null);
         userRepository.save(user);
@@ -192,14 +207,122 @@ public class ActivityITest {
         for (int i = 0; i < 3; i++) {
             generateActivity(user);
         }
+        activityService.createActivity(ActivityType.PROJECT_TASK_CREATED, user, null);
+        activityWriter.flush();
+
+        List<Activity> tasks = activityService.getActivityByTypeAndUserId(userId, ActivityCategory.TASK);
+        List<Activity> projects = activityService.getActivityByTypeAndUserId(userId, ActivityCategory.PROJECT);
+
+        assertEquals(3, tasks.size());
+        assertTrue(tasks.stream().allMatch(a -> a.getType().getCategory() == ActivityCategory.TASK));
+        assertEquals(1, projects.size());
+    }
+
+    @Test
+    void getRecentActivity_withCategory_returnsNewestWithinLimit() {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            activityRepository.save(Activity.builder()
+                    .message("Task " + i)
+                    .user(user)
+                    .type(ActivityType.TASK_UPDATED)
+                    .createdOn(now.minusMinutes(i))
+                    .updatedOn(now.minusMinutes(i))
+                    .dateOutput("")
+                    .build());
+        }
+        activityRepository.save(Activity.builder()
+                .message("Project")
+                .user(user)
+                .type(ActivityType.PROJECT_UPDATED)
+                .createdOn(now.plusMinutes(1))
+                .updatedOn(now.plusMinutes(1))
+                .dateOutput("")
+                .build());
+
+        List<Activity> recentTasks = activityService.getRecentActivity(user.getId(), ActivityCategory.TASK, 3);
+        List<Activity> recentAll = activityService.getRecentActivity(user.getId(), 3);
+
+        assertEquals(List.of("Task 0", "Task 1", "Task 2"), recentTasks.stream().map(Activity::getMessage).toList());
+        assertEquals(List.of("Project", "Task 0", "Task 1"), recentAll.stream().map(Activity::getMessage).toList());
+    }
+
+    @Test
+    void getFeed_walksEveryActivityOnceInKeysetOrder() {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<Activity> activities = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            activities.add(Activity.builder()
+                    .message("Task " + i)
+                    .user(user)
+                    .type(ActivityType.TASK_UPDATED)
+                    .createdOn(now.minusMinutes(i / 3))
+                    .updatedOn(now)
+                    .dateOutput("")
+                    .build());
+        }
+        activityRepository.saveAll(activities);
+
+        List<Integer> pageSizes = new ArrayList<>();
+        List<Activity> seen = new ArrayList<>();
+        ActivityFeedPage page = activityService.getFeed(user.getId(), null);
+        pageSizes.add(page.items().size());
+        seen.addAll(page.items());
+
+        while (page.hasNext()) {
+            page = activityService.getFeed(user.getId(), page.next());
+            pageSizes.add(page.items().size());
+            seen.addAll(page.items());
+        }
+
+        Set<UUID> ids = new HashSet<>(seen.stream().map(Activity::getId).toList());
+        assertEquals(List.of(20, 20, 5), pageSizes);
+        assertEquals(45, ids.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).getCreatedOn().isAfter(seen.get(i - 1).getCreatedOn()));
+        }
+        assertTrue(seen.stream().noneMatch(a -> a.getDateOutput().isEmpty()));
+        assertEquals(new ActivityCounts(45, 0), activityService.getCounts(user.getId()));
+    }
+
+    @Test
+    void getCounts_shouldFollowWritesArchivingAndPurge() {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+        activityRepository.save(Activity.builder()
+                .message("Old")
+                .user(user)
+                .type(ActivityType.PROJECT_CREATED)
+                .createdOn(LocalDateTime.now().minusDays(400))
+                .updatedOn(LocalDateTime.now().minusDays(400))
+                .dateOutput("")
+                .build());
+
+        assertEquals(new ActivityCounts(0, 1), activityService.getCounts(user.getId()));
+
+        activityService.createActivity(ActivityType.TASK_CREATED, user, null);
+        activityService.createActivity(ActivityType.TASK_UPDATED, user, null);
+        activityService.createActivity(ActivityType.PROJECT_UPDATED, user, null);
+        activityWriter.flush();
+
+        assertEquals(new ActivityCounts(2, 2), activityService.getCounts(user.getId()));
 
-        List<Activity> activities = activityService.getActivityByTypeAndUserId(userId, "TASK_CREATED");
+        activityRetentionService.archiveCreatedBefore(LocalDateTime.now().minusDays(365));
 
-        List<Activity> result = activityRepository.findByUserAndTypeText(userId, "TASK_CREATED");
-        result.forEach(ActivityUtils::setActivityCreatedDateFormatted);
+        assertEquals(new ActivityCounts(2, 1), activityService.getCounts(user.getId()));
 
-        assertSame(result.size(), activities.size());
+        activityService.purgeActivity(user.getId(), deleted -> {});
 
+        assertEquals(new ActivityCounts(0, 0), activityService.getCounts(user.getId()));
     }
 
     public Activity generateActivity(User user) {
@@ -220,6 +343,7 @@ public class ActivityITest {
         taskRepository.save(task);
 
         activityService.createActivity(ActivityType.TASK_CREATED, user, task);
+        activityWriter.flush();
         return activityService.getByUserId(user.getId()).get(0);
     }
 
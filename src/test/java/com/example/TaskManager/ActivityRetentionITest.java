@@ -0,0 +1,112 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.activity.model.ArchivedActivity;
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.repository.ArchivedActivityRepository;
+import com.example.TaskManager.activity.service.ActivityRetentionService;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.utils.UserUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("test")
+@SpringBootTest(properties = "activity.retention.chunk-size=2")
+public class ActivityRetentionITest {
+
+    @Autowired
+    private ActivityRetentionService activityRetentionService;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ArchivedActivityRepository archivedActivityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+    }
+
+    @Test
+    void archiveCreatedBefore_movesOldActivitiesInChunksAndKeepsRecentOnes() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            activity("Old " + i, now.minusDays(100 + i));
+        }
+        activity("Recent", now.minusDays(1));
+        activity("Today", now);
+
+        int archived = activityRetentionService.archiveCreatedBefore(now.minusDays(90));
+
+        List<ArchivedActivity> archive = archivedActivityRepository.findAllByUserIdOrderByCreatedOnDesc(user.getId());
+        assertEquals(5, archived);
+        assertEquals(2, activityRepository.count());
+        assertEquals(5, archive.size());
+        assertEquals("Old 0", archive.get(0).getMessage());
+        assertEquals(ActivityRetentionService.bucketOf(archive.get(0).getCreatedOn()), archive.get(0).getBucket());
+    }
+
+    @Test
+    void purgeArchiveBefore_dropsWholeBucketsOlderThanCutoff() {
+        LocalDateTime now = LocalDateTime.now();
+        activity("Two years ago", now.minusMonths(25));
+        activity("Last year", now.minusMonths(13));
+        activity("Last month", now.minusMonths(1));
+        activityRetentionService.archiveCreatedBefore(now.minusDays(1));
+
+        int purged = activityRetentionService.purgeArchiveBefore(now.minusMonths(12));
+
+        List<ArchivedActivity> archive = archivedActivityRepository.findAllByUserIdOrderByCreatedOnDesc(user.getId());
+        assertEquals(2, purged);
+        assertEquals(List.of("Last month"), archive.stream().map(ArchivedActivity::getMessage).toList());
+        assertTrue(activityRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void purgeArchiveBefore_deletesLargeBucketsInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            activity("Old " + i, now.minusMonths(25).plusMinutes(i));
+        }
+        activity("Last month", now.minusMonths(1));
+        activityRetentionService.archiveCreatedBefore(now.minusDays(1));
+
+        int purged = activityRetentionService.purgeArchiveBefore(now.minusMonths(12));
+
+        List<ArchivedActivity> archive = archivedActivityRepository.findAllByUserIdOrderByCreatedOnDesc(user.getId());
+        assertEquals(5, purged);
+        assertEquals(List.of("Last month"), archive.stream().map(ArchivedActivity::getMessage).toList());
+    }
+
+    private void activity(String message, LocalDateTime createdOn) {
+        activityRepository.save(Activity.builder()
+                .message(message)
+                .user(user)
+                .type(ActivityType.TASK_CREATED)
+                .createdOn(createdOn)
+                .updatedOn(createdOn)
+                .dateOutput("")
+                .build());
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.service.ActivityService;
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.model.JobStatus;
+import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectStatus;
+import com.example.TaskManager.project.model.ProjectVisibility;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.project.service.ProjectService;
+import com.example.TaskManager.tag.model.Tag;
+import com.example.TaskManager.tag.repository.TagRepository;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.user.service.UserService;
+import com.example.TaskManager.utils.UserUtils;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "activity.delete.chunk-size=500",
+        "activity.delete.inline-limit=5000",
+        "tasks.overdue.poll-interval-ms=3600000",
+        "analytics.sync.poll-interval-ms=3600000",
+        "notifications.outbox.poll-interval-ms=3600000",
+        "projects.counters.cron=-"
+})
+public class BulkDeleteITest {
+
+    private static final int ACTIVITIES = 3000;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        User member = UserUtils.randomUser();
+        member.setId(null);
+        member.setUsername("Member");
+        member.setEmail("member@gmail.com");
+        userRepository.save(member);
+
+        project = projectRepository.save(Project.builder()
+                .title("Project")
+                .description("Description")
+                .user(user)
+                .status(ProjectStatus.ACTIVE)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusDays(7))
+                .projectVisibility(ProjectVisibility.PUBLIC)
+                .members(new ArrayList<>(List.of(user, member)))
+                .build());
+        tagRepository.save(Tag.builder().title("backend").project(project).build());
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(task(i % 2 == 0 ? user : member, i % 4 < 2 ? project : null, i));
+        }
+        taskRepository.saveAll(tasks);
+
+        List<Activity> activities = new ArrayList<>();
+        for (int i = 0; i < ACTIVITIES; i++) {
+            activities.add(Activity.builder()
+                    .message("Activity " + i)
+                    .user(user)
+                    .type(ActivityType.TASK_UPDATED)
+                    .createdOn(LocalDateTime.now().minusMinutes(i))
+                    .updatedOn(LocalDateTime.now())
+                    .dateOutput("")
+                    .build());
+        }
+        activityRepository.saveAll(activities);
+    }
+
+    @Test
+    void deleteUser_removesEverythingOwnedWithBoundedStatementCount() {
+        statistics.clear();
+        long start = System.currentTimeMillis();
+
+        Optional<JobProgress> job = userService.deleteUser(user.getId());
+
+        long elapsed = System.currentTimeMillis() - start;
+        long statements = statistics.getPrepareStatementCount();
+        log.info("Deleted user with [%d] activities in [%d] ms using [%d] statements".formatted(ACTIVITIES, elapsed, statements));
+
+        assertTrue(job.isEmpty());
+        assertTrue(userRepository.findById(user.getId()).isEmpty());
+        assertEquals(0, activityRepository.countByUserId(user.getId()));
+        assertEquals(0, projectRepository.count());
+        assertEquals(0, tagRepository.count());
+        assertEquals(5, taskRepository.count());
+        assertTrue(statements <= 30, "user delete executed %d statements".formatted(statements));
+    }
+
+    @Test
+    void deleteProject_removesTasksAndTagsInBulk() {
+        statistics.clear();
+
+        projectService.delete(project.getId());
+
+        assertTrue(projectRepository.findById(project.getId()).isEmpty());
+        assertEquals(10, taskRepository.count());
+        assertEquals(0, tagRepository.count());
+        assertTrue(statistics.getPrepareStatementCount() <= 13,
+                "project delete executed %d statements".formatted(statistics.getPrepareStatementCount()));
+    }
+
+    @Test
+    void deleteActivity_overInlineLimit_runsAsJobAndReportsProgress() throws InterruptedException {
+        List<Activity> more = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            more.add(Activity.builder()
+                    .message("More " + i)
+                    .user(user)
+                    .type(ActivityType.PROJECT_UPDATED)
+                    .createdOn(LocalDateTime.now().minusDays(1).minusMinutes(i))
+                    .updatedOn(LocalDateTime.now())
+                    .dateOutput("")
+                    .build());
+        }
+        activityRepository.saveAll(more);
+
+        JobProgress job = activityService.deleteActivity(user.getId()).orElseThrow();
+
+        for (int i = 0; i < 100 && !job.isFinished(); i++) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        assertEquals(ACTIVITIES + 2500, job.getProcessed());
+        assertEquals(100, job.getPercent());
+        assertEquals(0, activityRepository.countByUserId(user.getId()));
+    }
+
+    private Task task(User owner, Project project, int i) {
+        return Task.builder()
+                .title("Task " + i)
+                .description("Description")
+                .user(owner)
+                .project(project)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.analytics.client.AnalyticsClient;
+import com.example.TaskManager.analytics.client.dto.TaskAnalyticsRequest;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "clients.analytics-svc.failure-threshold=2",
+        "clients.analytics-svc.endpoints.getProjectAnalytics.read-timeout-ms=200",
+        "tasks.overdue.poll-interval-ms=3600000",
+        "analytics.sync.poll-interval-ms=3600000",
+        "notifications.outbox.poll-interval-ms=3600000"
+})
+public class ClientResilienceITest {
+
+    private static final HttpServer SERVER = start();
+    private static final AtomicInteger STATUS = new AtomicInteger();
+    private static final AtomicInteger HITS = new AtomicInteger();
+    private static final AtomicReference<String> CONTENT_ENCODING = new AtomicReference<>();
+    private static final AtomicReference<String> BODY = new AtomicReference<>();
+
+    @Autowired
+    private AnalyticsClient analyticsClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void analyticsUrl(DynamicPropertyRegistry registry) {
+        registry.add("clients.analytics-svc.url", () -> "http://localhost:%d/api/v1".formatted(SERVER.getAddress().getPort()));
+    }
+
+    @AfterAll
+    static void stop() {
+        SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        STATUS.set(200);
+        HITS.set(0);
+        CONTENT_ENCODING.set(null);
+        BODY.set(null);
+    }
+
+    @Test
+    void whenUpsertBodyIsLarge_thenItIsSentGzipped() {
+        UUID userId = UUID.randomUUID();
+        List<TaskAnalyticsRequest> tasks = IntStream.range(0, 50)
+                .mapToObj(i -> TaskAnalyticsRequest.builder()
+                        .taskId(UUID.randomUUID())
+                        .userId(userId)
+                        .status(TaskStatus.TODO)
+                        .priority(TaskPriority.LOW)
+                        .createdOn(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        analyticsClient.upsertTasks(tasks, userId);
+
+        assertEquals("gzip", CONTENT_ENCODING.get());
+        assertTrue(BODY.get().startsWith("[{") && BODY.get().contains(userId.toString()));
+
+        analyticsClient.getTaskAnalytics(userId);
+
+        assertNull(CONTENT_ENCODING.get());
+    }
+
+    @Test
+    void whenRemoteServiceKeepsFailing_thenCircuitOpensAndCallsFailFast() {
+        STATUS.set(503);
+
+        assertThrows(FeignException.class, () -> analyticsClient.getTaskAnalytics(UUID.randomUUID()));
+        assertThrows(FeignException.class, () -> analyticsClient.getTaskAnalytics(UUID.randomUUID()));
+        assertThrows(FeignException.class, () -> analyticsClient.getTaskAnalytics(UUID.randomUUID()));
+
+        assertEquals(2, HITS.get());
+        assertEquals(1, meterRegistry.get("s2s.client.rejected")
+                .tag("client", "analytics-svc")
+                .tag("reason", "circuit-open")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("s2s.client.circuit.open").tag("client", "analytics-svc").gauge().value());
+    }
+
+    @Test
+    void whenEndpointHasOwnReadTimeout_thenSlowResponseFailsWithinIt() {
+        long start = System.nanoTime();
+
+        assertThrows(FeignException.class, () -> analyticsClient.getProjectAnalytics(UUID.randomUUID()));
+
+        assertTrue(System.nanoTime() - start < 900_000_000L);
+    }
+
+    private static HttpServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1", ClientResilienceITest::handle);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        HITS.incrementAndGet();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        CONTENT_ENCODING.set(encoding);
+
+        try (InputStream body = "gzip".equals(encoding) ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+            BODY.set(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        if (exchange.getRequestURI().getPath().startsWith("/api/v1/projects")) {
+            sleep();
+        }
+
+        byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(STATUS.get(), response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
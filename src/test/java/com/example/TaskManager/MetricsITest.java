@@ -0,0 +1,87 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.analytics.client.AnalyticsClient;
+import com.example.TaskManager.summary.service.SummaryCache;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.service.TaskService;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.user.service.UserViewCache;
+import com.example.TaskManager.utils.UserUtils;
+import com.example.TaskManager.web.dto.CreateTaskRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "tasks.overdue.poll-interval-ms=3600000",
+        "analytics.sync.poll-interval-ms=3600000",
+        "notifications.outbox.poll-interval-ms=3600000"
+})
+public class MetricsITest {
+
+    @Autowired
+    private AnalyticsClient analyticsClient;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void whenRemoteServiceIsDown_thenClientCallIsTimedAsIoErrorByEndpoint() {
+        assertThrows(Exception.class, () -> analyticsClient.getTaskAnalytics(UUID.randomUUID()));
+
+        assertEquals(1, meterRegistry.get("s2s.client.latency")
+                .tag("client", "analytics-svc")
+                .tag("method", "GET")
+                .tag("endpoint", "/tasks/{userId}")
+                .tag("outcome", "IO_ERROR")
+                .timer().count());
+    }
+
+    @Test
+    void whenTaskIsCreated_thenOperationAndActivityAreTimed() {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                .title("Metered task")
+                .description("Description")
+                .priority("LOW")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build();
+
+        Task task = taskService.createTask(request, user.getId(), null);
+        taskService.completeTask(task.getId());
+
+        assertEquals(1, meterRegistry.get("tasks.operation.latency").tag("operation", "create").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("tasks.operation.latency").tag("operation", "complete").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("activity.create.latency").tag("type", ActivityType.TASK_CREATED.name()).timer().count());
+        assertEquals(1, meterRegistry.get("activity.create.latency").tag("type", ActivityType.TASK_COMPLETED.name()).timer().count());
+    }
+
+    @Test
+    void cachesExposeHitRatioGauges() {
+        assertNotNull(meterRegistry.get("cache.hit.ratio").tag("cache", UserViewCache.CACHE_NAME).gauge());
+        assertNotNull(meterRegistry.get("cache.hit.ratio").tag("cache", SummaryCache.CACHE_NAME).gauge());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.notification.NotificationType;
+import com.example.TaskManager.notification.model.NotificationOutbox;
+import com.example.TaskManager.notification.model.OutboxStatus;
+import com.example.TaskManager.notification.repository.NotificationOutboxRepository;
+import com.example.TaskManager.notification.service.NotificationDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@SpringBootTest
+public class NotificationOutboxITest {
+
+    @MockitoBean
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Test
+    void insertIfAbsent_shouldKeepOneRowPerDedupKey() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime dueAt = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+
+        outboxRepository.insertIfAbsent(UUID.randomUUID(), userId, "Subject", "", NotificationType.DEADLINE.name(), "task-overdue:1", dueAt);
+        outboxRepository.insertIfAbsent(UUID.randomUUID(), userId, "Subject", "", NotificationType.DEADLINE.name(), "task-overdue:1", dueAt);
+
+        List<NotificationOutbox> queued = outboxRepository.findAll();
+        assertEquals(1, queued.size());
+        assertEquals(OutboxStatus.PENDING, queued.get(0).getStatus());
+        assertEquals(NotificationType.DEADLINE, queued.get(0).getType());
+    }
+
+    @Test
+    void claim_shouldHandEachDueRowToOneDispatcher() {
+        LocalDateTime dueAt = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        outboxRepository.insertIfAbsent(UUID.randomUUID(), UUID.randomUUID(), "Subject", "", NotificationType.EMAIL.name(), "email:1", dueAt);
+        List<UUID> ids = outboxRepository.findDueIds(dueAt, PageRequest.of(0, 10));
+
+        int first = outboxRepository.claim(ids, UUID.randomUUID(), dueAt.plusMinutes(5));
+        int second = outboxRepository.claim(ids, UUID.randomUUID(), dueAt.plusMinutes(5));
+
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertTrue(outboxRepository.findDueIds(dueAt, PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void releaseExpiredClaims_shouldReturnAbandonedRowsToPending() {
+        LocalDateTime dueAt = LocalDateTime.now().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        outboxRepository.insertIfAbsent(UUID.randomUUID(), UUID.randomUUID(), "Subject", "", NotificationType.EMAIL.name(), "email:1", dueAt);
+        List<UUID> ids = outboxRepository.findDueIds(dueAt, PageRequest.of(0, 10));
+        outboxRepository.claim(ids, UUID.randomUUID(), dueAt.plusSeconds(1));
+
+        outboxRepository.releaseExpiredClaims(dueAt.plusMinutes(5));
+
+        assertEquals(ids, outboxRepository.findDueIds(dueAt.plusMinutes(5), PageRequest.of(0, 10)));
+    }
+}
@@ -4,25 +4,36 @@ import com.example.TaskManager.activity.model.ActivityType;
 import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.analytics.service.ProjectAnalyticsService;
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectListItem;
 import com.example.TaskManager.project.model.ProjectStatus;
 import com.example.TaskManager.project.model.ProjectVisibility;
 import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.project.service.ProjectAccessService;
+import com.example.TaskManager.project.service.ProjectCounterService;
 import com.example.TaskManager.project.service.ProjectService;
 import com.example.TaskManager.tag.model.Tag;
 import com.example.TaskManager.tag.service.TagService;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.task.service.TaskService;
 import com.example.TaskManager.user.model.User;
 import com.example.TaskManager.user.repository.UserRepository;
 import com.example.TaskManager.utils.UserUtils;
 import com.example.TaskManager.web.dto.CreateProjectRequest;
+import com.example.TaskManager.web.dto.CreateTaskRequest;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,6 +52,15 @@ public class ProjectITest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ProjectAccessService projectAccessService;
+
+    @Autowired
+    private ProjectCounterService projectCounterService;
+
+    @Autowired
+    private TaskService taskService;
+
     @MockitoBean
     private TagService tagService;
 
@@ -53,6 +73,9 @@ public class ProjectITest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
     @Transactional
     @Test
     void createProject_whenValidRequest_persistsProjectCorrectly() {
@@ -99,4 +122,157 @@ public class ProjectITest {
         verify(projectAnalyticsService).upsertProjects(user.getId());
     }
 
+    @Test
+    void getProjectsIncludedIn_returnsOwnedAndMemberProjectsWithTaskCounts() {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        User other = UserUtils.randomUser();
+        other.setId(null);
+        other.setUsername("Other12");
+        other.setEmail("other@gmail.com");
+        userRepository.save(other);
+
+        Project owned = projectRepository.save(project(user, List.of(), LocalDateTime.now().minusDays(1)));
+        Project shared = projectRepository.save(project(other, List.of(user), LocalDateTime.now()));
+        projectRepository.save(project(other, List.of(), LocalDateTime.now()));
+
+        Project deleted = project(user, List.of(), LocalDateTime.now());
+        deleted.setDeleted(true);
+        projectRepository.save(deleted);
+
+        taskRepository.saveAll(List.of(task(user, owned, false), task(user, owned, false), task(user, owned, true)));
+
+        Page<ProjectListItem> page = projectService.getProjectsIncludedIn(user.getId(), null, 0);
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of(shared.getId(), owned.getId()), page.getContent().stream().map(i -> i.getProject().getId()).toList());
+        assertEquals(0, page.getContent().get(0).getTaskCount());
+        assertEquals(2, page.getContent().get(1).getTaskCount());
+
+        Page<ProjectListItem> completed = projectService.getProjectsIncludedIn(user.getId(), ProjectStatus.COMPLETED, 0);
+
+        assertTrue(completed.isEmpty());
+    }
+
+    @Test
+    void projectAccess_distinguishesOwnerMemberAndStranger() {
+        User owner = UserUtils.randomUser();
+        owner.setId(null);
+        userRepository.save(owner);
+
+        User member = UserUtils.randomUser();
+        member.setId(null);
+        member.setUsername("Member12");
+        member.setEmail("member@gmail.com");
+        userRepository.save(member);
+
+        User stranger = UserUtils.randomUser();
+        stranger.setId(null);
+        stranger.setUsername("Stranger12");
+        stranger.setEmail("stranger@gmail.com");
+        userRepository.save(stranger);
+
+        Project project = projectRepository.save(project(owner, List.of(member), LocalDateTime.now()));
+
+        assertTrue(projectAccessService.isOwner(project.getId(), owner.getId()));
+        assertTrue(projectAccessService.isMember(project.getId(), owner.getId()));
+        assertFalse(projectAccessService.isOwner(project.getId(), member.getId()));
+        assertTrue(projectAccessService.isMember(project.getId(), member.getId()));
+        assertFalse(projectAccessService.isMember(project.getId(), stranger.getId()));
+
+        projectService.delete(project.getId());
+
+        assertFalse(projectAccessService.isMember(project.getId(), owner.getId()));
+        assertFalse(projectAccessService.isMember(UUID.randomUUID(), owner.getId()));
+    }
+
+    @Test
+    void taskLifecycle_maintainsCompletionCounters_andReconcileRepairsDrift() {
+        User owner = UserUtils.randomUser();
+        owner.setId(null);
+        userRepository.save(owner);
+
+        Project project = projectRepository.save(project(owner, List.of(), LocalDateTime.now()));
+
+        Task first = taskService.createTask(taskRequest("First"), owner.getId(), project);
+        taskService.createTask(taskRequest("Second"), owner.getId(), project);
+        Task third = taskService.createTask(taskRequest("Third"), owner.getId(), project);
+
+        taskService.completeTask(first.getId());
+        taskService.completeTask(first.getId());
+        taskService.deleteTask(third.getId());
+
+        Project counted = projectRepository.findById(project.getId()).orElseThrow();
+
+        assertEquals(2, counted.getTaskCount());
+        assertEquals(1, counted.getCompletedTaskCount());
+        assertEquals(50, counted.getCompletionPercent());
+
+        counted.setTitle("Renamed");
+        counted.setTaskCount(0);
+        counted.setCompletionPercent(0);
+        projectRepository.save(counted);
+
+        Project renamed = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals("Renamed", renamed.getTitle());
+        assertEquals(2, renamed.getTaskCount());
+        assertEquals(50, renamed.getCompletionPercent());
+
+        LocalDateTime beforeDrift = renamed.getUpdatedOn();
+        projectRepository.adjustTaskCounters(project.getId(), 5, 0, beforeDrift.plusMinutes(1));
+
+        Project drifted = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals(7, drifted.getTaskCount());
+        assertEquals(14, drifted.getCompletionPercent());
+        assertTrue(drifted.getUpdatedOn().isAfter(beforeDrift));
+
+        assertEquals(1, projectCounterService.reconcile());
+        assertEquals(0, projectCounterService.reconcile());
+
+        Project repaired = projectRepository.findById(project.getId()).orElseThrow();
+
+        assertEquals(2, repaired.getTaskCount());
+        assertEquals(1, repaired.getCompletedTaskCount());
+        assertEquals(50, repaired.getCompletionPercent());
+        assertTrue(repaired.getUpdatedOn().isAfter(beforeDrift));
+    }
+
+    private CreateTaskRequest taskRequest(String title) {
+        return CreateTaskRequest.builder()
+                .title(title)
+                .description("Description")
+                .priority("LOW")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    private Project project(User owner, List<User> members, LocalDateTime createdOn) {
+        return Project.builder()
+                .title("Project")
+                .description("Description")
+                .user(owner)
+                .members(new ArrayList<>(members))
+                .status(ProjectStatus.ACTIVE)
+                .createdOn(createdOn)
+                .updatedOn(createdOn)
+                .dueDate(LocalDateTime.now().plusDays(5))
+                .projectVisibility(ProjectVisibility.PRIVATE)
+                .build();
+    }
+
+    private Task task(User user, Project project, boolean deleted) {
+        return Task.builder()
+                .title("Task")
+                .user(user)
+                .project(project)
+                .deleted(deleted)
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build();
+    }
 }
@@ -0,0 +1,178 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.config.TestSecurityConfiguration;
+import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectStatus;
+import com.example.TaskManager.project.model.ProjectVisibility;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.security.UserData;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserRole;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.utils.UserUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@SpringBootTest(
+        classes = {TestSecurityConfiguration.class},
+        properties = {
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "tasks.overdue.poll-interval-ms=3600000",
+                "analytics.sync.poll-interval-ms=3600000",
+                "notifications.outbox.poll-interval-ms=3600000",
+                "projects.counters.cron=-"
+        }
+)
+@AutoConfigureMockMvc
+public class QueryCountITest {
+
+    private static final int TASKS_PER_USER = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        project = projectRepository.save(Project.builder()
+                .title("Project")
+                .description("Description")
+                .user(user)
+                .status(ProjectStatus.ACTIVE)
+                .createdOn(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusDays(7))
+                .updatedOn(LocalDateTime.now())
+                .projectVisibility(ProjectVisibility.PRIVATE)
+                .build());
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS_PER_USER; i++) {
+            tasks.add(task(null, i));
+            tasks.add(task(project, i));
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void dashboard_doesNotLoadTaskEntities() throws Exception {
+        long statements = perform("/dashboard");
+
+        assertEquals(0, loadCount(Task.class));
+        assertTrue(statements <= 11, "dashboard executed %d statements".formatted(statements));
+    }
+
+    @Test
+    void repeatedPages_readCurrentUserFromViewCache() throws Exception {
+        long first = perform("/tasks");
+        long statements = perform("/tasks");
+
+        assertEquals(first - 1, statements);
+    }
+
+    @Test
+    void tasksPage_loadsOnlyPersonalTasks() throws Exception {
+        long statements = perform("/tasks");
+
+        assertEquals(TASKS_PER_USER, loadCount(Task.class));
+        assertEquals(0, loadCount(Project.class));
+        assertTrue(statements <= 5, "tasks page executed %d statements".formatted(statements));
+    }
+
+    @Test
+    void projectPage_fetchesTasksWithProject() throws Exception {
+        long statements = perform("/projects/" + project.getId());
+
+        assertEquals(TASKS_PER_USER, loadCount(Task.class));
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertTrue(statements <= 8, "project page executed %d statements".formatted(statements));
+    }
+
+    @Test
+    void projectsPage_countsTasksWithoutLoadingThem() throws Exception {
+        long statements = perform("/projects");
+
+        assertEquals(0, loadCount(Task.class));
+        assertTrue(statements <= 8, "projects page executed %d statements".formatted(statements));
+    }
+
+    private long perform(String url) throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get(url).with(authentication(auth())))
+                .andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long loadCount(Class<?> entity) {
+        return statistics.getEntityStatistics(entity.getName()).getLoadCount();
+    }
+
+    private Authentication auth() {
+        UserData principal = new UserData(user.getId(), user.getEmail(), user.getPassword(), user.isActive(), UserRole.USER, null);
+
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private Task task(Project project, int i) {
+        return Task.builder()
+                .title("Task " + i)
+                .description("Description")
+                .user(user)
+                .project(project)
+                .createdOn(LocalDateTime.now().minusMinutes(i))
+                .updatedOn(LocalDateTime.now())
+                .dueDate(LocalDateTime.now().plusDays(i % 10 + 1))
+                .status(i % 3 == 0 ? TaskStatus.COMPLETED : TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .build();
+    }
+}
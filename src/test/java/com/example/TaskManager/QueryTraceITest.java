@@ -0,0 +1,136 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.config.TestSecurityConfiguration;
+import com.example.TaskManager.querytrace.endpoint.QueryStatsEndpoint;
+import com.example.TaskManager.querytrace.model.HandlerQueryStatsView;
+import com.example.TaskManager.querytrace.model.QueryTrace;
+import com.example.TaskManager.querytrace.service.QueryTraceRecorder;
+import com.example.TaskManager.security.UserData;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserRole;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.utils.UserUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@SpringBootTest(
+        classes = {TestSecurityConfiguration.class},
+        properties = {
+                "query-trace.sample-rate=1.0",
+                "query-trace.n-plus-one-threshold=5",
+                "tasks.overdue.poll-interval-ms=3600000",
+                "analytics.sync.poll-interval-ms=3600000",
+                "notifications.outbox.poll-interval-ms=3600000",
+                "projects.counters.cron=-"
+        }
+)
+@AutoConfigureMockMvc
+public class QueryTraceITest {
+
+    private static final int TASKS_PER_USER = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private QueryTraceRecorder queryTraceRecorder;
+
+    @Autowired
+    private QueryStatsEndpoint queryStatsEndpoint;
+
+    private User user;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS_PER_USER; i++) {
+            tasks.add(Task.builder()
+                    .title("Task " + i)
+                    .description("Description")
+                    .user(user)
+                    .createdOn(LocalDateTime.now().minusMinutes(i))
+                    .updatedOn(LocalDateTime.now())
+                    .dueDate(LocalDateTime.now().plusDays(1))
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.MEDIUM)
+                    .build());
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void whenHandlerIsCalled_thenItsStatementsAndLoadsAreRecorded() throws Exception {
+        queryStatsEndpoint.reset();
+
+        mockMvc.perform(get("/tasks").with(authentication(auth())))
+                .andExpect(status().isOk());
+
+        HandlerQueryStatsView stats = queryStatsEndpoint.handlers().stream()
+                .filter(view -> view.getHandler().equals("TaskController#getTasksPage"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(1, stats.getRequests());
+        assertEquals(1, stats.getDetailedRequests());
+        assertTrue(stats.getMaxStatements() > 0);
+        assertTrue(stats.getTotalJdbcMillis() > 0);
+        assertTrue(stats.getMaxEntityLoads() >= TASKS_PER_USER);
+    }
+
+    @Test
+    void whenSameStatementRunsPerEntity_thenItIsReportedAsNPlusOne() {
+        queryStatsEndpoint.reset();
+
+        QueryTrace trace = queryTraceRecorder.start("QueryTraceITest#lookupEach");
+        tasks.forEach(task -> taskRepository.findById(task.getId()));
+        queryTraceRecorder.finish(trace);
+
+        HandlerQueryStatsView stats = queryStatsEndpoint.handlers().get(0);
+
+        assertEquals("QueryTraceITest#lookupEach", stats.getHandler());
+        assertTrue(stats.getMaxEntityLoads() >= TASKS_PER_USER);
+        assertEquals(1, stats.getRepeatedStatements().size());
+        assertEquals(TASKS_PER_USER, stats.getRepeatedStatements().get(0).getMaxExecutions());
+    }
+
+    private Authentication auth() {
+        UserData principal = new UserData(user.getId(), user.getEmail(), user.getPassword(), user.isActive(), UserRole.USER, null);
+
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
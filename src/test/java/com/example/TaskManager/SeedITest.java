@@ -0,0 +1,106 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.analytics.client.AnalyticsClient;
+import com.example.TaskManager.analytics.client.OfflineAnalyticsClient;
+import com.example.TaskManager.notification.client.NotificationClient;
+import com.example.TaskManager.notification.client.OfflineNotificationClient;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.project.service.ProjectCounterService;
+import com.example.TaskManager.seed.model.SeedPlan;
+import com.example.TaskManager.seed.model.SeedReport;
+import com.example.TaskManager.seed.service.DataSeeder;
+import com.example.TaskManager.tag.repository.TagRepository;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.task.service.UserTaskStatsService;
+import com.example.TaskManager.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles({"test", "offline"})
+@SpringBootTest(properties = {
+        "seed.batch-size=100",
+        "tasks.overdue.poll-interval-ms=3600000",
+        "analytics.sync.poll-interval-ms=3600000",
+        "notifications.outbox.poll-interval-ms=3600000",
+        "projects.counters.cron=-",
+        "tasks.stats.cron=-"
+})
+public class SeedITest {
+
+    @Autowired
+    private DataSeeder dataSeeder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private UserTaskStatsService userTaskStatsService;
+
+    @Autowired
+    private ProjectCounterService projectCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationClient notificationClient;
+
+    @Autowired
+    private AnalyticsClient analyticsClient;
+
+    @Test
+    void seed_writesTheRequestedVolumes_andLeavesDerivedCountersConsistent() {
+        SeedReport report = dataSeeder.seed(SeedPlan.builder()
+                .users(20)
+                .tasksPerUser(30)
+                .projectsPerUser(3)
+                .membersPerProject(2)
+                .tagsPerProject(2)
+                .activitiesPerUser(25)
+                .skew(1.1)
+                .randomSeed(42)
+                .password("seed-password")
+                .build());
+
+        assertEquals(20, userRepository.count());
+        assertEquals(60, report.getProjects());
+        assertEquals(60, projectRepository.count());
+        assertEquals(120, tagRepository.count());
+        assertEquals(600, taskRepository.count());
+        assertEquals(500, activityRepository.count());
+        assertEquals(report.getMembers(), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projects_users", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM projects_users pu JOIN project p ON p.id = pu.project_id WHERE p.user_id = pu.user_id", Long.class));
+        assertTrue(report.getMembers() > 0);
+        assertEquals(0, userTaskStatsService.reconcile());
+        assertEquals(0, projectCounterService.reconcile());
+    }
+
+    @Test
+    void offlineProfile_replacesRemoteClientsWithLocalStubs() {
+        assertInstanceOf(OfflineNotificationClient.class, notificationClient);
+        assertInstanceOf(OfflineAnalyticsClient.class, analyticsClient);
+    }
+}
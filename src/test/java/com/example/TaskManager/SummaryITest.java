@@ -0,0 +1,179 @@
+package com.example.TaskManager;
+
+import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.service.ActivityService;
+import com.example.TaskManager.notification.NotificationMessages;
+import com.example.TaskManager.notification.model.NotificationOutbox;
+import com.example.TaskManager.notification.repository.NotificationOutboxRepository;
+import com.example.TaskManager.summary.model.SummaryDto;
+import com.example.TaskManager.summary.scheduler.SummaryScheduler;
+import com.example.TaskManager.summary.service.SummaryService;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.utils.UserUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@SpringBootTest
+public class SummaryITest {
+
+    @Autowired
+    private SummaryScheduler summaryScheduler;
+
+    @Autowired
+    private SummaryService summaryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void summarize_shouldCountActivitiesPerUserWithGroupedQueries() {
+        User user = saveUser("summary1", true);
+        activity(user, ActivityType.TASK_CREATED, LocalDateTime.now().minusHours(1));
+        activity(user, ActivityType.TASK_CREATED, LocalDateTime.now().minusHours(2));
+        activity(user, ActivityType.TASK_COMPLETED, LocalDateTime.now().minusHours(3));
+        activity(user, ActivityType.TASK_CREATED, LocalDateTime.now().minusDays(3));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, SummaryDto> summaries = summaryService.summarize(List.of(user.getId()), now.minusHours(24), now);
+
+        assertEquals(2, summaries.get(user.getId()).getCreatedTasks());
+        assertEquals(1, summaries.get(user.getId()).getCompletedTasks());
+        assertEquals(50.0, summaries.get(user.getId()).getTaskCompletionRate());
+    }
+
+    @Test
+    void sendDailySummaries_shouldQueueOncePerEnabledUserAndDay() {
+        User enabled = saveUser("summary2", true);
+        User disabled = saveUser("summary3", false);
+
+        summaryScheduler.sendDailySummaries();
+        summaryScheduler.sendDailySummaries();
+
+        List<NotificationOutbox> queued = outboxRepository.findAll().stream()
+                .filter(n -> NotificationMessages.DAILY_SUMMARY_MESSAGE_SUBJECT.equals(n.getSubject()))
+                .toList();
+
+        assertEquals(1, queued.size());
+        assertEquals(enabled.getId(), queued.get(0).getUserId());
+        assertEquals(0, queued.stream().filter(n -> n.getUserId().equals(disabled.getId())).count());
+    }
+
+    @Test
+    void sendDailySummaries_shouldSummarizeTheWindowThatJustClosedFromCache() {
+        User user = saveUser("summary5", true);
+        LocalDateTime closedWindowStart = summaryService.closedWindowStart(LocalDateTime.now());
+        activity(user, ActivityType.TASK_CREATED, closedWindowStart.plusHours(1));
+        activity(user, ActivityType.TASK_CREATED, closedWindowStart.minusHours(1));
+        activity(user, ActivityType.TASK_CREATED, closedWindowStart.plusHours(25));
+
+        summaryService.sendDailySummaries(List.of(user.getId()), closedWindowStart);
+        outboxRepository.deleteAll();
+        summaryService.sendDailySummaries(List.of(user.getId()), closedWindowStart);
+
+        NotificationOutbox queued = outboxRepository.findAll().get(0);
+        assertEquals(NotificationMessages.DAILY_SUMMARY_MESSAGE_BODY.formatted(1L, 0L, 0L, 0L, 0L, 0.0), queued.getBody());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "dailySummary").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void sendDailySummaries_shouldCoverEveryUserExactlyOnceAcrossShards() {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            users.add(saveUser("shard" + i, true).getId());
+        }
+
+        List<UUID> summarized = new ArrayList<>();
+        SummaryService recordingService = mock(SummaryService.class);
+        when(recordingService.sendDailySummaries(anyList(), any())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            summarized.addAll(chunk);
+            return chunk.size();
+        });
+
+        for (int shard = 0; shard < 3; shard++) {
+            new SummaryScheduler(recordingService, userRepository, Runnable::run, 4, shard, 3).sendDailySummaries();
+        }
+
+        assertEquals(users.size(), summarized.size());
+        assertEquals(Set.copyOf(users), Set.copyOf(summarized));
+    }
+
+    @Test
+    void dailySummary_shouldReflectNewActivityFromCachedWindowAndRecordCacheStats() {
+        User user = saveUser("summary4", true);
+        activity(user, ActivityType.TASK_CREATED, LocalDateTime.now());
+
+        assertEquals(1, summaryService.dailySummary(user.getId()).getCreatedTasks());
+
+        activityService.createActivity(ActivityType.TASK_CREATED, user, null);
+        activityService.createActivity(ActivityType.TASK_COMPLETED, user, null);
+
+        SummaryDto summary = summaryService.dailySummary(user.getId());
+        assertEquals(2, summary.getCreatedTasks());
+        assertEquals(1, summary.getCompletedTasks());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "dailySummary").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void dailySummary_whenWindowLoadsWhileActivityIsBuffered_shouldCountBufferedActivity() {
+        User user = saveUser("summary5", true);
+        activityService.createActivity(ActivityType.TASK_CREATED, user, null);
+
+        assertEquals(1, summaryService.dailySummary(user.getId()).getCreatedTasks());
+    }
+
+    private User saveUser(String username, boolean summaryEnabled) {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        user.setUsername(username);
+        user.setEmail(username + "@gmail.com");
+        user.setSummaryNotificationEnabled(summaryEnabled);
+
+        return userRepository.save(user);
+    }
+
+    private void activity(User user, ActivityType type, LocalDateTime createdOn) {
+        activityRepository.save(Activity.builder()
+                .message("Activity")
+                .user(user)
+                .type(type)
+                .createdOn(createdOn)
+                .updatedOn(createdOn)
+                .dateOutput("now")
+                .build());
+    }
+}
@@ -3,20 +3,28 @@ package com.example.TaskManager;
 import com.example.TaskManager.activity.model.Activity;
 import com.example.TaskManager.activity.model.ActivityType;
 import com.example.TaskManager.activity.service.ActivityService;
+import com.example.TaskManager.activity.service.ActivityWriter;
 import com.example.TaskManager.analytics.service.TaskAnalyticsService;
 import com.example.TaskManager.project.model.Project;
 import com.example.TaskManager.project.model.ProjectStatus;
 import com.example.TaskManager.project.model.ProjectVisibility;
 import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.project.service.ProjectService;
 import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskDashboard;
+import com.example.TaskManager.task.model.TaskDashboardRow;
 import com.example.TaskManager.task.model.TaskPriority;
 import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.model.UserTaskTotals;
 import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.task.repository.UserTaskStatsRepository;
 import com.example.TaskManager.task.service.TaskService;
+import com.example.TaskManager.task.service.UserTaskStatsService;
 import com.example.TaskManager.user.model.User;
 import com.example.TaskManager.user.repository.UserRepository;
 import com.example.TaskManager.utils.UserUtils;
 import com.example.TaskManager.web.dto.CreateTaskRequest;
+import com.example.TaskManager.web.dto.EditTaskRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -24,6 +32,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -48,6 +57,18 @@ public class TaskITest {
     @Autowired
     private ActivityService activityService;
 
+    @Autowired
+    private ActivityWriter activityWriter;
+
+    @Autowired
+    private UserTaskStatsService userTaskStatsService;
+
+    @Autowired
+    private UserTaskStatsRepository userTaskStatsRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
     @Test
     void createTask_withNullProject_happyPath()  {
         User user = UserUtils.randomUser();
@@ -63,6 +84,8 @@ public class TaskITest {
 
         Task task = taskService.createTask(request, user.getId(), null);
 
+        activityWriter.flush();
+
         Activity activity = activityService.getByUserId(user.getId()).get(0);
 
         assertEquals(ActivityType.TASK_CREATED, activity.getType());
@@ -89,6 +112,8 @@ public class TaskITest {
 
         Task task = taskService.createTask(request, user.getId(), generateProject(user));
 
+        activityWriter.flush();
+
         Activity activity = activityService.getByUserId(user.getId()).get(0);
 
         assertEquals(ActivityType.PROJECT_TASK_CREATED, activity.getType());
@@ -110,6 +135,8 @@ public class TaskITest {
         taskService.completeTask(task.getId());
         Task updated = taskRepository.findById(task.getId()).orElseThrow();
 
+        activityWriter.flush();
+
         Activity activity = activityService.getByUserId(user.getId()).get(0);
 
         assertEquals(TaskStatus.COMPLETED, updated.getStatus());
@@ -131,6 +158,8 @@ public class TaskITest {
         taskService.completeTask(task.getId());
         Task updated = taskRepository.findById(task.getId()).orElseThrow();
 
+        activityWriter.flush();
+
         Activity activity = activityService.getByUserId(user.getId()).get(0);
 
         assertEquals(TaskStatus.COMPLETED, updated.getStatus());
@@ -139,6 +168,98 @@ public class TaskITest {
         assertEquals(ActivityType.PROJECT_TASK_COMPLETED, activity.getType());
     }
 
+    @Test
+    void getDashboard_countsPersonalTasksInSingleAggregate() {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        Task first = generateTask(user);
+        first.setDueDate(now.plusMinutes(5));
+        first.setCreatedOn(now.minusHours(2));
+
+        Task second = generateTask(user);
+        second.setStatus(TaskStatus.IN_PROGRESS);
+        second.setDueDate(now.plusMinutes(10));
+        second.setCreatedOn(now.minusHours(1));
+
+        Task completed = generateTask(user);
+        completed.setStatus(TaskStatus.COMPLETED);
+
+        Task overdue = generateTask(user);
+        overdue.setStatus(TaskStatus.OVERDUE);
+        overdue.setDueDate(now.minusDays(1));
+
+        Task deleted = generateTask(user);
+        deleted.setDeleted(true);
+
+        Task projectTask = generateTask(user);
+        projectTask.setProject(generateProject(user));
+
+        taskRepository.saveAll(List.of(first, second, completed, overdue, deleted, projectTask));
+        userTaskStatsService.rebuild(List.of(user.getId()));
+
+        TaskDashboard dashboard = taskService.getDashboard(user.getId());
+
+        assertEquals(3, dashboard.getActiveTasksCount());
+        assertEquals(1, dashboard.getCompletedTasks());
+        assertEquals(1, dashboard.getOverdueTasks());
+        assertEquals(2, dashboard.getDueThisWeek());
+        assertEquals(20, dashboard.getCompletionRate());
+        assertEquals(List.of(second.getId(), first.getId()), dashboard.getRecentTasks().stream().map(TaskDashboardRow::getId).toList());
+        assertEquals(List.of(first.getId(), second.getId()), dashboard.getUpcomingTasks().stream().map(TaskDashboardRow::getId).toList());
+    }
+
+    @Test
+    void taskLifecycle_keepsUserTaskStatsInStep_andReconcileRebuildsThemFromTasks() {
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        userRepository.save(user);
+
+        Task first = taskService.createTask(createRequest("First", LocalDateTime.now().plusDays(1)), user.getId(), null);
+        Task second = taskService.createTask(createRequest("Second", LocalDateTime.now().plusDays(1)), user.getId(), null);
+        Task third = taskService.createTask(createRequest("Third", LocalDateTime.now().plusDays(1)), user.getId(), null);
+        taskService.createTask(createRequest("Late", LocalDateTime.now().minusMinutes(1)), user.getId(), null);
+        Project project = generateProject(user);
+        taskService.createTask(createRequest("Project", LocalDateTime.now().plusDays(1)), user.getId(), project);
+
+        taskService.changeStatus(second.getId());
+        taskService.editTask(second.getId(), EditTaskRequest.builder().title("Second").priority(TaskPriority.HIGH).build());
+        taskService.completeTask(first.getId());
+        taskService.deleteTask(third.getId());
+        taskService.checkForOverdueTasks();
+
+        UserTaskTotals totals = userTaskStatsService.getTotals(user.getId());
+
+        assertEquals(1, totals.count(TaskStatus.COMPLETED));
+        assertEquals(1, totals.count(TaskStatus.IN_PROGRESS));
+        assertEquals(1, totals.count(TaskStatus.OVERDUE));
+        assertEquals(0, totals.count(TaskStatus.TODO));
+        assertEquals(4, totals.allTimeTotal());
+        assertEquals(0, userTaskStatsService.reconcile());
+
+        projectService.delete(project.getId());
+
+        assertEquals(0, userTaskStatsService.reconcile());
+
+        userTaskStatsRepository.deleteAll();
+
+        assertEquals(1, userTaskStatsService.reconcile());
+        assertEquals(0, userTaskStatsService.reconcile());
+        assertEquals(3, userTaskStatsService.getTotals(user.getId()).total());
+    }
+
+    private CreateTaskRequest createRequest(String title, LocalDateTime dueDate) {
+        return CreateTaskRequest.builder()
+                .title(title)
+                .description("Description")
+                .priority("LOW")
+                .dueDate(dueDate)
+                .build();
+    }
+
     public Task generateTask(User user) {
         Task task = Task.builder()
                 .title("Task")
@@ -1,18 +1,29 @@
 package com.example.TaskManager;
 
+import com.example.TaskManager.avatar.model.Avatar;
+import com.example.TaskManager.avatar.repository.AvatarRepository;
+import com.example.TaskManager.avatar.service.AvatarService;
 import com.example.TaskManager.notification.service.NotificationService;
 import com.example.TaskManager.user.model.User;
 import com.example.TaskManager.user.repository.UserRepository;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.RegisterRequest;
+import com.example.TaskManager.utils.UserUtils;
 import com.example.TaskManager.web.dto.UserCreateDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ActiveProfiles("test")
@@ -26,6 +37,12 @@ public class UserITest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AvatarService avatarService;
+
+    @Autowired
+    private AvatarRepository avatarRepository;
+
     @Test
     void whenRegisterUser_theHappyPath() {
 
@@ -62,4 +79,54 @@ public class UserITest {
         assertEquals("Google", user.getProvider());
         assertTrue(userRepository.existsByEmail(email));
     }
+
+    @Test
+    void whenPageUserIdsByKeyset_thenEveryUserIsVisitedOnce() {
+        for (int i = 0; i < 7; i++) {
+            User user = UserUtils.randomUser();
+            user.setId(null);
+            user.setUsername("keyset" + i);
+            user.setEmail("keyset%d@gmail.com".formatted(i));
+            userRepository.save(user);
+        }
+
+        List<UUID> visited = new ArrayList<>();
+        UUID after = new UUID(0, 0);
+        List<UUID> page;
+        do {
+            page = userRepository.findIdsAfter(after, PageRequest.of(0, 3));
+            visited.addAll(page);
+            after = page.isEmpty() ? after : page.get(page.size() - 1);
+        } while (page.size() == 3);
+
+        assertEquals(userRepository.count(), visited.size());
+        assertEquals(Set.copyOf(userRepository.findAll().stream().map(User::getId).toList()), Set.copyOf(visited));
+    }
+
+    @Test
+    void whenDeleteOrphanAvatars_thenOnlyOldUnreferencedAvatarsAreRemoved() {
+        LocalDateTime now = LocalDateTime.now();
+        avatarRepository.save(avatar("referenced", now.minusDays(3)));
+        avatarRepository.save(avatar("orphan", now.minusDays(3)));
+        avatarRepository.save(avatar("fresh", now));
+
+        User user = UserUtils.randomUser();
+        user.setId(null);
+        user.setAvatarHash("referenced");
+        userRepository.save(user);
+
+        int deleted = avatarService.deleteOrphansCreatedBefore(now.minusDays(1));
+
+        assertEquals(1, deleted);
+        assertEquals(Set.of("referenced", "fresh"), Set.copyOf(avatarRepository.findAll().stream().map(Avatar::getHash).toList()));
+    }
+
+    private Avatar avatar(String hash, LocalDateTime createdOn) {
+        return Avatar.builder()
+                .hash(hash)
+                .small(new byte[]{1})
+                .medium(new byte[]{2})
+                .createdOn(createdOn)
+                .build();
+    }
 }
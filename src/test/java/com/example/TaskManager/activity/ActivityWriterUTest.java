@@ -0,0 +1,134 @@
+package com.example.TaskManager.activity;
+
+import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityRecord;
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.service.ActivityStatsService;
+import com.example.TaskManager.activity.service.ActivityWriter;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ActivityWriterUTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ActivityStatsService activityStatsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void whenFlush_thenBufferIsWrittenInBatchesOfBatchSize() {
+        ActivityWriter writer = writer(100, 2, true);
+        when(userRepository.getReferenceById(any())).thenAnswer(invocation -> User.builder().id(invocation.getArgument(0)).build());
+
+        for (int i = 0; i < 5; i++) {
+            writer.enqueue(record("Task " + i));
+        }
+        writer.flush();
+
+        ArgumentCaptor<List<Activity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository, times(3)).saveAll(batches.capture());
+        assertEquals(List.of(2, 2, 1), batches.getAllValues().stream().map(List::size).toList());
+        verify(activityStatsService, times(3)).record(anyList());
+        assertEquals("Just now", batches.getAllValues().get(0).get(0).getDateOutput());
+        assertEquals(0, writer.depth());
+        assertEquals(5, meterRegistry.get("activity.writer.records").tag("result", "written").counter().count());
+    }
+
+    @Test
+    void whenBufferIsFull_thenProducerFlushesBeforeEnqueueing() {
+        ActivityWriter writer = writer(2, 10, true);
+        when(userRepository.getReferenceById(any())).thenAnswer(invocation -> User.builder().id(invocation.getArgument(0)).build());
+
+        writer.enqueue(record("First"));
+        writer.enqueue(record("Second"));
+        verify(activityRepository, never()).saveAll(anyList());
+
+        writer.enqueue(record("Third"));
+
+        verify(activityRepository).saveAll(anyList());
+        assertEquals(1, writer.depth());
+    }
+
+    @Test
+    void whenBatchFails_thenRetryRowByRowAndDropOnlyFailingRecords() {
+        ActivityWriter writer = writer(100, 3, true);
+        when(userRepository.getReferenceById(any())).thenAnswer(invocation -> User.builder().id(invocation.getArgument(0)).build());
+        when(activityRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Activity> activities = invocation.getArgument(0);
+            if (activities.size() > 1 || activities.get(0).getMessage().equals("Broken")) {
+                throw new RuntimeException("constraint violation");
+            }
+            return activities;
+        });
+
+        writer.enqueue(record("First"));
+        writer.enqueue(record("Broken"));
+        writer.enqueue(record("Third"));
+        writer.flush();
+
+        verify(activityRepository, times(4)).saveAll(anyList());
+        assertEquals(2, meterRegistry.get("activity.writer.records").tag("result", "written").counter().count());
+        assertEquals(1, meterRegistry.get("activity.writer.records").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void whenShutdownWithoutDurability_thenBufferIsNotWritten() {
+        ActivityWriter writer = writer(100, 10, false);
+
+        writer.enqueue(record("Pending"));
+        writer.shutdown();
+
+        verify(activityRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void whenShutdownWithDurability_thenBufferIsWritten() {
+        ActivityWriter writer = writer(100, 10, true);
+        when(userRepository.getReferenceById(any())).thenAnswer(invocation -> User.builder().id(invocation.getArgument(0)).build());
+
+        writer.enqueue(record("Pending"));
+        writer.shutdown();
+
+        verify(activityRepository).saveAll(anyList());
+        assertEquals(0, writer.depth());
+    }
+
+    private ActivityWriter writer(int capacity, int batchSize, boolean flushOnShutdown) {
+        return new ActivityWriter(activityRepository, userRepository, activityStatsService, transactionManager, Runnable::run, meterRegistry,
+                capacity, batchSize, flushOnShutdown);
+    }
+
+    private ActivityRecord record(String message) {
+        return new ActivityRecord(UUID.randomUUID(), ActivityType.TASK_CREATED, message, LocalDateTime.now());
+    }
+}
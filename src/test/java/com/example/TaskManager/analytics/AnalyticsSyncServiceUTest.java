@@ -0,0 +1,129 @@
+package com.example.TaskManager.analytics;
+
+import com.example.TaskManager.analytics.client.AnalyticsClient;
+import com.example.TaskManager.analytics.model.AnalyticsSyncType;
+import com.example.TaskManager.analytics.service.AnalyticsSyncService;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsSyncServiceUTest {
+
+    @Mock
+    private AnalyticsClient analyticsClient;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private AnalyticsSyncService analyticsSyncService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsSyncService = new AnalyticsSyncService(analyticsClient, taskRepository, projectRepository, Runnable::run, 0, 0, 60000, 300000, 1000, 24);
+    }
+
+    @Test
+    void whenMarkDirtyTwice_thenSendOneUpsertForUser() {
+        UUID userId = UUID.randomUUID();
+        when(taskRepository.findAllByUserIdAndProjectNull(userId)).thenReturn(List.of(task(userId)));
+
+        analyticsSyncService.markDirty(AnalyticsSyncType.TASKS, userId);
+        analyticsSyncService.markDirty(AnalyticsSyncType.TASKS, userId);
+        analyticsSyncService.flush();
+
+        verify(analyticsClient, times(1)).upsertTasks(anyList(), eq(userId));
+        assertEquals(0, analyticsSyncService.pendingCount());
+    }
+
+    @Test
+    void whenUserWasSyncedBefore_thenSendOnlyChangedRows() {
+        UUID userId = UUID.randomUUID();
+        when(taskRepository.findAllByUserIdAndProjectNull(userId)).thenReturn(List.of(task(userId)));
+        when(taskRepository.findAllByUserIdAndProjectNullAndUpdatedOnAfter(eq(userId), any(LocalDateTime.class))).thenReturn(List.of());
+
+        analyticsSyncService.markDirty(AnalyticsSyncType.TASKS, userId);
+        analyticsSyncService.flush();
+        analyticsSyncService.markDirty(AnalyticsSyncType.TASKS, userId);
+        analyticsSyncService.flush();
+
+        verify(taskRepository, times(1)).findAllByUserIdAndProjectNull(userId);
+        verify(taskRepository).findAllByUserIdAndProjectNullAndUpdatedOnAfter(eq(userId), any(LocalDateTime.class));
+        verify(analyticsClient, times(1)).upsertTasks(anyList(), eq(userId));
+    }
+
+    @Test
+    void whenWatermarkExpired_thenFallBackToFullSync() {
+        analyticsSyncService = new AnalyticsSyncService(analyticsClient, taskRepository, projectRepository, Runnable::run, 0, 0, 60000, 300000, 1000, 0);
+        UUID userId = UUID.randomUUID();
+        when(taskRepository.findAllByUserIdAndProjectNull(userId)).thenReturn(List.of(task(userId)));
+
+        analyticsSyncService.markDirty(AnalyticsSyncType.TASKS, userId);
+        analyticsSyncService.flush();
+        analyticsSyncService.markDirty(AnalyticsSyncType.TASKS, userId);
+        analyticsSyncService.flush();
+
+        verify(taskRepository, times(2)).findAllByUserIdAndProjectNull(userId);
+        verify(taskRepository, never()).findAllByUserIdAndProjectNullAndUpdatedOnAfter(any(), any());
+    }
+
+    @Test
+    void whenUpsertFails_thenRequeueWithBackoff() {
+        UUID userId = UUID.randomUUID();
+        when(projectRepository.findAllByUserId(userId)).thenThrow(RuntimeException.class);
+
+        analyticsSyncService.markDirty(AnalyticsSyncType.PROJECTS, userId);
+        analyticsSyncService.flush();
+        analyticsSyncService.flush();
+
+        verify(projectRepository, times(1)).findAllByUserId(userId);
+        verify(analyticsClient, never()).upsertProjects(anyList(), any());
+        assertEquals(1, analyticsSyncService.pendingCount());
+    }
+
+    @Test
+    void whenExecutorRejects_thenUserStaysPending() {
+        analyticsSyncService = new AnalyticsSyncService(analyticsClient, taskRepository, projectRepository, command -> {
+            throw new RejectedExecutionException();
+        }, 0, 0, 60000, 300000, 1000, 24);
+
+        analyticsSyncService.markDirty(AnalyticsSyncType.TASKS, UUID.randomUUID());
+        analyticsSyncService.flush();
+
+        assertEquals(1, analyticsSyncService.pendingCount());
+        verifyNoInteractions(taskRepository, analyticsClient);
+    }
+
+    private Task task(UUID userId) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .user(User.builder().id(userId).build())
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build();
+    }
+}
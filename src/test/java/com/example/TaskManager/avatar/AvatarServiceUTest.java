@@ -0,0 +1,117 @@
+package com.example.TaskManager.avatar;
+
+import com.example.TaskManager.avatar.model.Avatar;
+import com.example.TaskManager.avatar.model.AvatarSize;
+import com.example.TaskManager.avatar.repository.AvatarRepository;
+import com.example.TaskManager.avatar.service.AvatarService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AvatarServiceUTest {
+
+    @Mock
+    private AvatarRepository avatarRepository;
+
+    @InjectMocks
+    private AvatarService avatarService;
+
+    @Test
+    void whenStoreNewImage_thenSquareThumbnailsArePregeneratedUnderContentHash() throws IOException {
+        byte[] upload = png(800, 600);
+
+        Optional<String> hash = avatarService.store(upload);
+
+        ArgumentCaptor<Avatar> avatar = ArgumentCaptor.forClass(Avatar.class);
+        verify(avatarRepository).save(avatar.capture());
+        assertEquals(64, hash.orElseThrow().length());
+        assertEquals(hash.get(), avatar.getValue().getHash());
+        assertSize(avatar.getValue().getSmall(), AvatarSize.SMALL.getPixels());
+        assertSize(avatar.getValue().getMedium(), AvatarSize.MEDIUM.getPixels());
+    }
+
+    @Test
+    void whenStoreImageAlreadyStored_thenReuseExistingHash() throws IOException {
+        byte[] upload = png(100, 100);
+        when(avatarRepository.existsById(any())).thenReturn(true);
+
+        Optional<String> first = avatarService.store(upload);
+        Optional<String> second = avatarService.store(upload);
+
+        assertEquals(first, second);
+        verify(avatarRepository, never()).save(any());
+    }
+
+    @Test
+    void whenSameImageIsStoredConcurrently_thenDuplicateKeyIsTreatedAsSuccess() throws IOException {
+        byte[] upload = png(100, 100);
+        when(avatarRepository.save(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'PRIMARY'"));
+
+        Optional<String> hash = avatarService.store(upload);
+
+        assertEquals(64, hash.orElseThrow().length());
+    }
+
+    @Test
+    void whenStoreUnreadableBytes_thenNothingIsStored() {
+        Optional<String> hash = avatarService.store(new byte[]{1, 2, 3});
+
+        assertTrue(hash.isEmpty());
+        verify(avatarRepository, never()).save(any());
+    }
+
+    @Test
+    void whenPngDeclaresOversizedDimensions_thenRejectBeforeDecoding() throws IOException {
+        byte[] upload = withDeclaredSize(png(16, 16), 100_000, 100_000);
+
+        Optional<String> hash = avatarService.store(upload);
+
+        assertTrue(hash.isEmpty());
+        verify(avatarRepository, never()).save(any());
+    }
+
+    private void assertSize(byte[] png, int pixels) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+
+        assertEquals(pixels, image.getWidth());
+        assertEquals(pixels, image.getHeight());
+    }
+
+    private byte[] withDeclaredSize(byte[] png, int width, int height) {
+        ByteBuffer header = ByteBuffer.wrap(png);
+        header.putInt(16, width);
+        header.putInt(20, height);
+
+        CRC32 crc = new CRC32();
+        crc.update(png, 12, 17);
+        header.putInt(29, (int) crc.getValue());
+        return png;
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.TaskManager.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CircuitBreakerUTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, 1_000, clock::get);
+
+    @Test
+    void givenConsecutiveFailures_whenThresholdIsReached_thenCallsAreRejected() {
+        fail(2);
+        assertTrue(circuitBreaker.tryAcquire());
+
+        fail(1);
+
+        assertTrue(circuitBreaker.isOpen());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void givenSuccessBetweenFailures_whenThresholdIsNotReachedInARow_thenCircuitStaysClosed() {
+        fail(2);
+        circuitBreaker.onSuccess();
+        fail(2);
+
+        assertFalse(circuitBreaker.isOpen());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void givenOpenCircuit_whenOpenPeriodElapses_thenSingleTrialIsAllowed() {
+        fail(3);
+        clock.addAndGet(1_000);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess();
+
+        assertFalse(circuitBreaker.isOpen());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void givenTrialCall_whenItFails_thenCircuitReopens() {
+        fail(3);
+        clock.addAndGet(1_000);
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure();
+
+        assertFalse(circuitBreaker.tryAcquire());
+        clock.addAndGet(999);
+        assertFalse(circuitBreaker.tryAcquire());
+        clock.addAndGet(1);
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void givenOpenCircuit_whenCheckingPermission_thenNoTrialIsConsumed() {
+        fail(3);
+
+        assertFalse(circuitBreaker.isCallPermitted());
+
+        clock.addAndGet(1_000);
+
+        assertTrue(circuitBreaker.isCallPermitted());
+        assertTrue(circuitBreaker.isCallPermitted());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.isCallPermitted());
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+    }
+}
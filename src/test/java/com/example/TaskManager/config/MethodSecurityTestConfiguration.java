@@ -0,0 +1,9 @@
+package com.example.TaskManager.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+
+@TestConfiguration
+@EnableMethodSecurity
+public class MethodSecurityTestConfiguration {
+}
@@ -0,0 +1,95 @@
+package com.example.TaskManager.deadline;
+
+import com.example.TaskManager.deadline.scheduler.UpcomingDeadlineScheduler;
+import com.example.TaskManager.project.service.ProjectService;
+import com.example.TaskManager.task.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UpcomingDeadlineSchedulerUTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private ProjectService projectService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UpcomingDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new UpcomingDeadlineScheduler(taskService, projectService, meterRegistry, 23, 24, 2, 3);
+    }
+
+    @Test
+    void whenPageIsFull_thenKeepClaimingUntilShortPage() {
+        when(taskService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(2, 1);
+        when(projectService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(0);
+
+        scheduler.publishUpcomingDeadlines();
+
+        verify(taskService, times(2)).publishUpcomingDeadlines(any(), any(), eq(2));
+        verify(projectService).publishUpcomingDeadlines(any(), any(), eq(2));
+    }
+
+    @Test
+    void whenPublish_thenRunAndClaimedRowsAreRecordedPerScheduler() {
+        when(taskService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(2, 1);
+        when(projectService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(1);
+
+        scheduler.publishUpcomingDeadlines();
+
+        assertEquals(1, meterRegistry.get("scheduler.run.latency").tag("scheduler", "upcoming-deadlines").timer().count());
+        assertEquals(3, meterRegistry.get("scheduler.rows").tag("scheduler", "tasks-upcoming-deadlines").counter().count());
+        assertEquals(1, meterRegistry.get("scheduler.rows").tag("scheduler", "projects-upcoming-deadlines").counter().count());
+    }
+
+    @Test
+    void whenEveryPageIsFull_thenStopAtMaxPages() {
+        when(taskService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(2);
+        when(projectService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(2);
+
+        scheduler.publishUpcomingDeadlines();
+
+        verify(taskService, times(3)).publishUpcomingDeadlines(any(), any(), eq(2));
+        verify(projectService, times(3)).publishUpcomingDeadlines(any(), any(), eq(2));
+    }
+
+    @Test
+    void whenPublish_thenWindowIsBetween23And24HoursFromNow() {
+        when(taskService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(0);
+        when(projectService.publishUpcomingDeadlines(any(), any(), eq(2))).thenReturn(0);
+
+        LocalDateTime before = LocalDateTime.now();
+        scheduler.publishUpcomingDeadlines();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskService).publishUpcomingDeadlines(from.capture(), to.capture(), eq(2));
+
+        assertEquals(Duration.ofHours(1), Duration.between(from.getValue(), to.getValue()));
+        assertFalse(from.getValue().isBefore(before.plusHours(23)));
+        assertTrue(from.getValue().isBefore(before.plusHours(23).plusMinutes(1)));
+    }
+}
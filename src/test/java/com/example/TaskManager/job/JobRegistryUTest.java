@@ -0,0 +1,61 @@
+package com.example.TaskManager.job;
+
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.model.JobStatus;
+import com.example.TaskManager.job.service.JobRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobRegistryUTest {
+
+    @Test
+    void whenJobCompletes_thenProgressIsTrackedAndRetrievable() {
+        JobRegistry jobRegistry = new JobRegistry(Runnable::run, 60);
+
+        JobProgress job = jobRegistry.submit("broadcast", 10, progress -> progress.advance(10));
+
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        assertEquals(100, job.getPercent());
+        assertSame(job, jobRegistry.get(job.getId()).orElseThrow());
+    }
+
+    @Test
+    void whenJobThrows_thenMarkFailed() {
+        JobRegistry jobRegistry = new JobRegistry(Runnable::run, 60);
+
+        JobProgress job = jobRegistry.submit("broadcast", 10, progress -> {
+            progress.advance(4);
+            throw new IllegalStateException("boom");
+        });
+
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertEquals(40, job.getPercent());
+    }
+
+    @Test
+    void whenPoolRejects_thenMarkFailedWithoutRunning() {
+        JobRegistry jobRegistry = new JobRegistry(command -> {
+            throw new RejectedExecutionException();
+        }, 60);
+
+        JobProgress job = jobRegistry.submit("broadcast", 10, progress -> progress.advance(10));
+
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertEquals(0, job.getProcessed());
+    }
+
+    @Test
+    void whenRetentionElapsed_thenFinishedJobsAreEvicted() {
+        JobRegistry jobRegistry = new JobRegistry(Runnable::run, -1);
+
+        JobProgress finished = jobRegistry.submit("broadcast", 1, progress -> progress.advance(1));
+        jobRegistry.submit("broadcast", 1, progress -> progress.advance(1));
+
+        assertTrue(jobRegistry.get(finished.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.TaskManager.notification;
+
+import com.example.TaskManager.config.ClientRejectedException;
+import com.example.TaskManager.config.ClientResilienceCapability;
+import com.example.TaskManager.notification.client.NotificationClient;
+import com.example.TaskManager.notification.model.NotificationOutbox;
+import com.example.TaskManager.notification.model.OutboxStatus;
+import com.example.TaskManager.notification.repository.NotificationOutboxRepository;
+import com.example.TaskManager.notification.service.NotificationDispatcher;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDispatcherUTest {
+
+    @Mock
+    private NotificationClient notificationClient;
+
+    @Mock
+    private ClientResilienceCapability resilience;
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(resilience.isCallPermitted(NotificationClient.NAME)).thenReturn(true);
+        dispatcher = new NotificationDispatcher(notificationClient, resilience, outboxRepository, Runnable::run, meterRegistry, 10, 3, 1000, 60000, 100, 300000);
+    }
+
+    @Test
+    void whenDeliverySucceeds_thenMarkBatchSentInOneUpdate() {
+        NotificationOutbox first = outbox(NotificationType.EMAIL, 0);
+        NotificationOutbox second = outbox(NotificationType.EMAIL, 0);
+        givenClaimed(List.of(first, second));
+
+        dispatcher.dispatch();
+
+        verify(notificationClient, times(2)).sendNotification(any());
+        verify(outboxRepository).markSent(eq(List.of(first.getId(), second.getId())), any(LocalDateTime.class));
+        assertEquals(2, meterRegistry.get("notifications.dispatch").tag("result", "sent").counter().count());
+        assertEquals(2, meterRegistry.get("notifications.dispatch.latency").timer().count());
+    }
+
+    @Test
+    void whenDeliveryFails_thenScheduleRetryWithBackoff() {
+        NotificationOutbox notification = outbox(NotificationType.DEADLINE, 0);
+        givenClaimed(List.of(notification));
+        when(notificationClient.sendNotification(any())).thenThrow(new RuntimeException("unavailable"));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository, never()).markSent(any(), any());
+        verify(outboxRepository).saveAll(any());
+        assertEquals(OutboxStatus.PENDING, notification.getStatus());
+        assertEquals(1, notification.getAttempts());
+        assertEquals("unavailable", notification.getLastError());
+        assertTrue(notification.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void whenMaxAttemptsReached_thenMarkFailed() {
+        NotificationOutbox notification = outbox(NotificationType.DEADLINE, 2);
+        givenClaimed(List.of(notification));
+        when(notificationClient.sendNotification(any())).thenThrow(new RuntimeException("unavailable"));
+
+        dispatcher.dispatch();
+
+        assertEquals(OutboxStatus.FAILED, notification.getStatus());
+        assertEquals(1, meterRegistry.get("notifications.dispatch").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void whenClientGuardRejectsCall_thenReleaseRowWithoutCountingAnAttempt() {
+        NotificationOutbox notification = outbox(NotificationType.EMAIL, 2);
+        givenClaimed(List.of(notification));
+        Request request = Request.create(Request.HttpMethod.POST, "/notifications", Map.of(), null, StandardCharsets.UTF_8, null);
+        ClientRejectedException rejection = new ClientRejectedException("[notification-svc] rejected call to [sendNotification]: circuit-open");
+        when(notificationClient.sendNotification(any()))
+                .thenThrow(new RetryableException(-1, rejection.getMessage(), Request.HttpMethod.POST, rejection, (Long) null, request));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).release(eq(List.of(notification.getId())), any(LocalDateTime.class));
+        assertEquals(2, notification.getAttempts());
+        assertEquals(OutboxStatus.SENDING, notification.getStatus());
+        assertEquals(1, meterRegistry.get("notifications.dispatch").tag("result", "rejected").counter().count());
+        assertEquals(0, meterRegistry.get("notifications.dispatch").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void whenNotificationCircuitIsOpen_thenSkipPollWithoutClaiming() {
+        when(resilience.isCallPermitted(NotificationClient.NAME)).thenReturn(false);
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository, never()).findDueIds(any(), any());
+        verify(outboxRepository, never()).claim(any(), any(), any());
+        verify(notificationClient, never()).sendNotification(any());
+    }
+
+    @Test
+    void whenRateLimitExhausted_thenLeaveRestOfBatchPending() {
+        dispatcher = new NotificationDispatcher(notificationClient, resilience, outboxRepository, Runnable::run, meterRegistry, 10, 3, 1000, 60000, 1, 300000);
+        NotificationOutbox deferred = outbox(NotificationType.ALERT, 0);
+        givenClaimed(List.of(outbox(NotificationType.ALERT, 0), deferred, outbox(NotificationType.EMAIL, 0)));
+
+        dispatcher.dispatch();
+
+        verify(notificationClient, times(2)).sendNotification(any());
+        verify(outboxRepository).release(eq(List.of(deferred.getId())), any(LocalDateTime.class));
+    }
+
+    @Test
+    void whenDispatch_thenClaimDueRowsBeforeSending() {
+        NotificationOutbox notification = outbox(NotificationType.EMAIL, 0);
+        givenClaimed(List.of(notification));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).releaseExpiredClaims(any(LocalDateTime.class));
+        ArgumentCaptor<UUID> claimCaptor = ArgumentCaptor.forClass(UUID.class);
+        verify(outboxRepository).claim(eq(List.of(notification.getId())), claimCaptor.capture(), any(LocalDateTime.class));
+        verify(outboxRepository).findAllByClaimId(claimCaptor.getValue());
+    }
+
+    @Test
+    void whenBatchIsStillInFlight_thenNextPollReturnsWithoutBlockingOrClaiming() {
+        List<Runnable> pending = new ArrayList<>();
+        dispatcher = new NotificationDispatcher(notificationClient, resilience, outboxRepository, pending::add, meterRegistry, 10, 3, 1000, 60000, 100, 300000);
+        NotificationOutbox notification = outbox(NotificationType.EMAIL, 0);
+        givenClaimed(List.of(notification));
+
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        verify(outboxRepository, times(1)).findDueIds(any(), any());
+        verify(outboxRepository, never()).markSent(any(), any());
+
+        pending.forEach(Runnable::run);
+
+        verify(outboxRepository).markSent(eq(List.of(notification.getId())), any(LocalDateTime.class));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository, times(2)).findDueIds(any(), any());
+    }
+
+    private void givenClaimed(List<NotificationOutbox> batch) {
+        when(outboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(batch.stream().map(NotificationOutbox::getId).toList())
+                .thenReturn(List.of());
+        when(outboxRepository.findAllByClaimId(any(UUID.class))).thenReturn(batch);
+    }
+
+    private NotificationOutbox outbox(NotificationType type, int attempts) {
+        return NotificationOutbox.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .subject("Subject")
+                .body("")
+                .type(type)
+                .status(OutboxStatus.SENDING)
+                .attempts(attempts)
+                .createdOn(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.TaskManager.notification;
+
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.service.JobRegistry;
+import com.example.TaskManager.notification.client.NotificationClient;
+import com.example.TaskManager.notification.client.dto.BatchNotificationRequest;
+import com.example.TaskManager.notification.model.NotificationOutbox;
+import com.example.TaskManager.notification.model.OutboxStatus;
+import com.example.TaskManager.notification.repository.NotificationOutboxRepository;
+import com.example.TaskManager.notification.service.NotificationService;
+import com.example.TaskManager.user.repository.UserRepository;
+import com.example.TaskManager.web.dto.GlobalNotificationRequest;
+import feign.FeignException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationServiceUTest {
+
+    @Mock
+    private NotificationClient notificationClient;
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobRegistry jobRegistry;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Test
+    void whenSendNotification_thenWriteToOutboxInsteadOfCallingClient() {
+        UUID userId = UUID.randomUUID();
+
+        notificationService.sendNotification(userId, "Subject", "Body", NotificationType.EMAIL);
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        verifyNoInteractions(notificationClient);
+
+        NotificationOutbox outbox = captor.getValue();
+        assertEquals(userId, outbox.getUserId());
+        assertEquals("Subject", outbox.getSubject());
+        assertEquals(OutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(outbox.getCreatedOn(), outbox.getNextAttemptAt());
+    }
+
+    @Test
+    void whenDedupKeyAlreadyQueued_thenSkipNotification() {
+        when(outboxRepository.existsByDedupKey("task-overdue:1")).thenReturn(true);
+
+        notificationService.sendNotification(UUID.randomUUID(), "Subject", "", NotificationType.DEADLINE, "task-overdue:1");
+
+        verify(outboxRepository, never()).save(any());
+        verify(outboxRepository, never()).insertIfAbsent(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void whenDedupKeyIsNew_thenInsertIgnoringConcurrentDuplicate() {
+        UUID userId = UUID.randomUUID();
+
+        notificationService.sendNotification(userId, "Subject", "", NotificationType.DEADLINE, "task-overdue:1");
+
+        verify(outboxRepository).insertIfAbsent(any(UUID.class), eq(userId), eq("Subject"), eq(""), eq("DEADLINE"), eq("task-overdue:1"), any(LocalDateTime.class));
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void whenSendGlobalNotification_thenSubmitBroadcastJobSizedByUserCount() {
+        JobProgress job = new JobProgress(UUID.randomUUID(), "broadcast", 3, LocalDateTime.now());
+        when(userRepository.count()).thenReturn(3L);
+        when(jobRegistry.submit(eq("broadcast"), eq(3L), any())).thenReturn(job);
+
+        assertEquals(job, notificationService.sendGlobalNotification(globalRequest()));
+        verifyNoInteractions(notificationClient);
+    }
+
+    @Test
+    void whenBroadcastRuns_thenSendOneBatchPerKeysetChunk() {
+        List<UUID> firstChunk = Stream.generate(UUID::randomUUID).limit(500).toList();
+        List<UUID> secondChunk = List.of(UUID.randomUUID());
+        JobProgress progress = runBroadcast(501);
+
+        when(userRepository.findIdsAfter(eq(new UUID(0, 0)), any(Pageable.class))).thenReturn(firstChunk);
+        when(userRepository.findIdsAfter(eq(firstChunk.get(499)), any(Pageable.class))).thenReturn(secondChunk);
+
+        notificationService.sendGlobalNotification(globalRequest());
+
+        ArgumentCaptor<BatchNotificationRequest> captor = ArgumentCaptor.forClass(BatchNotificationRequest.class);
+        verify(notificationClient, times(2)).sendBatchNotification(captor.capture());
+        assertEquals(firstChunk, captor.getAllValues().get(0).getUserIds());
+        assertEquals(secondChunk, captor.getAllValues().get(1).getUserIds());
+        assertEquals(501, progress.getProcessed());
+        assertEquals(0, progress.getFailed());
+        verify(outboxRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void whenBatchCallFails_thenQueueChunkRecipientsInOutbox() {
+        List<UUID> chunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        JobProgress progress = runBroadcast(2);
+
+        when(userRepository.findIdsAfter(eq(new UUID(0, 0)), any(Pageable.class))).thenReturn(chunk);
+        when(notificationClient.sendBatchNotification(any())).thenThrow(FeignException.class);
+
+        notificationService.sendGlobalNotification(globalRequest());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(captor.capture());
+        assertEquals(chunk, captor.getValue().stream().map(NotificationOutbox::getUserId).toList());
+        assertTrue(captor.getValue().stream().allMatch(n -> n.getType() == NotificationType.ALERT));
+        assertEquals(2, progress.getProcessed());
+        assertEquals(2, progress.getFailed());
+    }
+
+    private JobProgress runBroadcast(long total) {
+        JobProgress progress = new JobProgress(UUID.randomUUID(), "broadcast", total, LocalDateTime.now());
+        when(userRepository.count()).thenReturn(total);
+        when(jobRegistry.submit(eq("broadcast"), eq(total), any())).thenAnswer(invocation -> {
+            Consumer<JobProgress> work = invocation.getArgument(2);
+            work.accept(progress);
+            return progress;
+        });
+
+        return progress;
+    }
+
+    private GlobalNotificationRequest globalRequest() {
+        GlobalNotificationRequest request = new GlobalNotificationRequest();
+        request.setSubject("Maintenance");
+        request.setBody("Tonight");
+        request.setNotificationType(NotificationType.ALERT);
+
+        return request;
+    }
+}
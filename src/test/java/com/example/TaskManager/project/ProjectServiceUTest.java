@@ -8,9 +8,12 @@ import com.example.TaskManager.exception.user.MemberNotFoundException;
 import com.example.TaskManager.project.event.ProjectOverdueEvent;
 import com.example.TaskManager.project.event.ProjectUpcomingDeadlineEvent;
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectDeadlineView;
+import com.example.TaskManager.project.model.ProjectListItem;
 import com.example.TaskManager.project.model.ProjectStatus;
 import com.example.TaskManager.project.model.ProjectVisibility;
 import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.project.service.ProjectAccessService;
 import com.example.TaskManager.project.service.ProjectService;
 import com.example.TaskManager.tag.model.Tag;
 import com.example.TaskManager.tag.repository.TagRepository;
@@ -18,10 +21,11 @@ import com.example.TaskManager.tag.service.TagService;
 import com.example.TaskManager.task.model.Task;
 import com.example.TaskManager.task.model.TaskStatus;
 import com.example.TaskManager.task.repository.TaskRepository;
-import com.example.TaskManager.task.service.TaskService;
+import com.example.TaskManager.task.service.TaskDeadlineQueue;
+import com.example.TaskManager.task.service.UserTaskStatsService;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.repository.UserRepository;
-import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.web.dto.CreateProjectRequest;
 import com.example.TaskManager.web.dto.EditProjectRequest;
 import com.example.TaskManager.web.dto.InviteMemberRequest;
@@ -34,6 +38,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -54,8 +61,6 @@ public class ProjectServiceUTest {
     @Mock
     private ActivityService activityService;
     @Mock
-    private TaskService taskService;
-    @Mock
     private ProjectAnalyticsService projectAnalyticsService;
     @Mock
     private TaskRepository taskRepository;
@@ -64,9 +69,14 @@ public class ProjectServiceUTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
     @Mock
-    private UserService userService;
-    @Mock
     private UserRepository userRepository;
+    @Mock
+    private ProjectAccessService projectAccessService;
+    @Mock
+    private UserTaskStatsService userTaskStatsService;
+
+    @Mock
+    private TaskDeadlineQueue taskDeadlineQueue;
 
     @InjectMocks
     private ProjectService projectService;
@@ -300,7 +310,7 @@ public class ProjectServiceUTest {
         User owner = User.builder().username("owner").build();
 
         assertThrows(MemberNotFoundException.class,
-                () -> projectService.inviteMember(req, projectId, owner));
+                () -> projectService.inviteMember(req, projectId, UserView.of(owner)));
     }
 
     @Test
@@ -323,7 +333,7 @@ public class ProjectServiceUTest {
         User owner = User.builder().username("owner").build();
 
         assertThrows(MemberAlreadyExistException.class,
-                () -> projectService.inviteMember(req, projectId, owner));
+                () -> projectService.inviteMember(req, projectId, UserView.of(owner)));
     }
 
     @Test
@@ -347,7 +357,7 @@ public class ProjectServiceUTest {
         InviteMemberRequest req = new InviteMemberRequest("ivan");
 
         assertThrows(MemberAlreadyExistException.class,
-                () -> projectService.inviteMember(req, projectId, owner));
+                () -> projectService.inviteMember(req, projectId, UserView.of(owner)));
     }
 
     @Test
@@ -372,11 +382,12 @@ public class ProjectServiceUTest {
 
         InviteMemberRequest req = new InviteMemberRequest("newUser");
 
-        projectService.inviteMember(req, projectId, owner);
+        projectService.inviteMember(req, projectId, UserView.of(owner));
 
         assertTrue(project.getMembers().contains(invited));
 
         verify(projectRepository).save(project);
+        verify(projectAccessService).evict(projectId);
     }
 
     @Test
@@ -393,7 +404,7 @@ public class ProjectServiceUTest {
         when(projectRepository.findAllByUserIdAndDeletedOrderByDueDateAsc(user.getId(), false))
                 .thenReturn(all);
 
-        List<Project> result = projectService.getRecentProjects(user);
+        List<Project> result = projectService.getRecentProjects(user.getId());
 
         assertEquals(2, result.size());
         assertEquals(p1, result.get(0));
@@ -413,7 +424,7 @@ public class ProjectServiceUTest {
         when(projectRepository.findAllByUserIdAndDeletedOrderByDueDateAsc(user.getId(), false))
                 .thenReturn(all);
 
-        List<Project> result = projectService.getRecentProjects(user);
+        List<Project> result = projectService.getRecentProjects(user.getId());
 
         assertEquals(2, result.size());
         assertEquals(all, result);
@@ -435,7 +446,7 @@ public class ProjectServiceUTest {
         when(projectRepository.findAllByUserIdAndDeletedOrderByDueDateAsc(user.getId(), false))
                 .thenReturn(all);
 
-        List<Project> result = projectService.getRecentProjects(user);
+        List<Project> result = projectService.getRecentProjects(user.getId());
 
         assertEquals(2, result.size());
         assertTrue(result.contains(project1));
@@ -475,15 +486,21 @@ public class ProjectServiceUTest {
                 .user(owner)
                 .build();
 
+        List<UUID> openTaskIds = List.of(UUID.randomUUID());
+
         when(projectRepository.findByIdAndDeletedFalse(id))
                 .thenReturn(Optional.of(project));
+        when(taskRepository.findIdsByProjectIdAndStatusNotIn(id, TaskDeadlineQueue.SETTLED_STATUSES)).thenReturn(openTaskIds);
 
         projectService.delete(id);
 
-        verify(taskRepository).deleteAll(project.getTasks());
-        verify(tagRepository).deleteAll(project.getTags());
+        verify(userTaskStatsService).removeProjectTasks(id);
+        verify(taskDeadlineQueue).untrackAll(openTaskIds);
+        verify(taskRepository).deleteInBulkByProjectId(id);
+        verify(tagRepository).deleteInBulkByProjectId(id);
         verify(activityService).createActivity(ActivityType.PROJECT_DELETED, owner, project);
-        verify(projectRepository).delete(project);
+        verify(projectRepository).deleteInBulkById(id);
+        verify(projectAccessService).evict(id);
     }
 
     @Test
@@ -506,7 +523,7 @@ public class ProjectServiceUTest {
         User owner = User.builder().username("owner").build();
 
         assertThrows(MemberNotFoundException.class,
-                () -> projectService.removeMember(id, owner, req));
+                () -> projectService.removeMember(id, UserView.of(owner), req));
     }
 
     @Test
@@ -531,7 +548,7 @@ public class ProjectServiceUTest {
         RemoveMemberRequest req = new RemoveMemberRequest("someone");
 
         assertThrows(MemberNotFoundException.class,
-                () -> projectService.removeMember(id, owner, req));
+                () -> projectService.removeMember(id, UserView.of(owner), req));
     }
 
 
@@ -556,7 +573,7 @@ public class ProjectServiceUTest {
         RemoveMemberRequest req = new RemoveMemberRequest("john");
 
         assertThrows(MemberNotFoundException.class,
-                () -> projectService.removeMember(id, owner, req));
+                () -> projectService.removeMember(id, UserView.of(owner), req));
     }
 
     @Test
@@ -583,49 +600,44 @@ public class ProjectServiceUTest {
 
         RemoveMemberRequest req = new RemoveMemberRequest("bob");
 
-        projectService.removeMember(id, owner, req);
+        projectService.removeMember(id, UserView.of(owner), req);
 
         assertFalse(project.getMembers().contains(member));
         verify(projectRepository).save(project);
+        verify(projectAccessService).evict(id);
     }
 
     @Test
-    void processUpcomingDeadline_shouldDoNothing_whenOutside23To24Hours() {
-
-        User user = User.builder().id(UUID.randomUUID()).build();
+    void publishUpcomingDeadlines_shouldDoNothing_whenNoProjectsInWindow() {
+        LocalDateTime from = LocalDateTime.now().plusHours(23);
+        LocalDateTime to = LocalDateTime.now().plusHours(24);
 
-        Project project = Project.builder()
-                .user(user)
-                .notifiedUpcoming(false)
-                .dueDate(LocalDateTime.now().plusHours(10))
-                .build();
+        when(projectRepository.findUpcomingDeadlineIds(eq(from), eq(to), any(Pageable.class))).thenReturn(List.of());
 
-        projectService.upcomingDeadlineChecker();
+        int claimed = projectService.publishUpcomingDeadlines(from, to, 100);
 
+        assertEquals(0, claimed);
+        verify(projectRepository, never()).claimUpcomingDeadlines(any(), any());
         verify(eventPublisher, never()).publishEvent(any());
-        verify(projectRepository, never()).save(any());
     }
 
     @Test
-    void processUpcomingDeadline_shouldSendEvent_whenBetween23And24Hours() {
-
+    void publishUpcomingDeadlines_shouldClaimAndSendEvent_whenBetween23And24Hours() {
+        UUID projectId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        User user = User.builder().id(userId).build();
-
-        Project project = Project.builder()
-                .user(user)
-                .notifiedUpcoming(false)
-                .dueDate(LocalDateTime.now().plusHours(23).plusMinutes(1))
-                .build();
+        LocalDateTime from = LocalDateTime.now().plusHours(23);
+        LocalDateTime to = LocalDateTime.now().plusHours(24);
 
-        when(projectRepository.findByStatusNotAndDeletedFalse(ProjectStatus.COMPLETED))
-                .thenReturn(List.of(project));
+        when(projectRepository.findUpcomingDeadlineIds(eq(from), eq(to), any(Pageable.class))).thenReturn(List.of(projectId));
+        when(projectRepository.claimUpcomingDeadlines(eq(List.of(projectId)), any(UUID.class))).thenReturn(1);
+        when(projectRepository.findByUpcomingClaimId(any(UUID.class)))
+                .thenReturn(List.of(new ProjectDeadlineView(projectId, userId, "Project", from.plusMinutes(1))));
 
-        projectService.upcomingDeadlineChecker();
+        int claimed = projectService.publishUpcomingDeadlines(from, to, 100);
 
+        assertEquals(1, claimed);
+        verify(projectRepository).claimUpcomingDeadlines(eq(List.of(projectId)), any(UUID.class));
         verify(eventPublisher).publishEvent(any(ProjectUpcomingDeadlineEvent.class));
-        verify(projectRepository).save(project);
-        assertTrue(project.isNotifiedUpcoming());
     }
 
     @Test
@@ -692,49 +704,47 @@ public class ProjectServiceUTest {
     }
 
     @Test
-    void getProjectsIncludedIn_shouldReturnOwnedProjects() {
-        User user = User.builder().id(UUID.randomUUID()).build();
-
-        Project owned = Project.builder()
-                .user(user)
-                .members(new ArrayList<>())
-                .build();
+    void getProjectsIncludedIn_shouldQueryMembershipPageWithTaskCounts() {
+        UUID userId = UUID.randomUUID();
+        ProjectListItem item = new ProjectListItem(Project.builder().id(UUID.randomUUID()).build(), 3);
 
-        Project notIncluded = Project.builder()
-                .user(User.builder().id(UUID.randomUUID()).build())
-                .members(new ArrayList<>())
-                .build();
+        when(projectRepository.findIncludedInWithTaskCounts(eq(userId), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(item)));
 
-        when(projectRepository.findAllByDeletedFalse())
-                .thenReturn(List.of(owned, notIncluded));
+        Page<ProjectListItem> result = projectService.getProjectsIncludedIn(userId, null, 1);
 
-        List<Project> result = projectService.getProjectsIncludedIn(user);
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(projectRepository).findIncludedInWithTaskCounts(eq(userId), isNull(), captor.capture());
 
-        assertEquals(1, result.size());
-        assertTrue(result.contains(owned));
+        assertEquals(1, captor.getValue().getPageNumber());
+        assertEquals(List.of(item), result.getContent());
     }
 
     @Test
-    void getProjectsIncludedIn_shouldReturnMemberProjects() {
-        User user = User.builder().id(UUID.randomUUID()).build();
+    void getProjectsIncludedIn_whenPageIsNegative_thenFirstPageIsQueried() {
+        UUID userId = UUID.randomUUID();
 
-        Project memberProject = Project.builder()
-                .user(User.builder().id(UUID.randomUUID()).build())
-                .members(new ArrayList<>(List.of(user)))
-                .build();
+        when(projectRepository.findIncludedInWithTaskCounts(eq(userId), isNull(), any(Pageable.class)))
+                .thenReturn(Page.empty());
 
-        Project notIncluded = Project.builder()
-                .user(User.builder().id(UUID.randomUUID()).build())
-                .members(new ArrayList<>())
-                .build();
+        projectService.getProjectsIncludedIn(userId, null, -1);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(projectRepository).findIncludedInWithTaskCounts(eq(userId), isNull(), captor.capture());
+
+        assertEquals(0, captor.getValue().getPageNumber());
+    }
+
+    @Test
+    void getProjectsIncludedIn_shouldPassStatusFilter() {
+        UUID userId = UUID.randomUUID();
 
-        when(projectRepository.findAllByDeletedFalse())
-                .thenReturn(List.of(memberProject, notIncluded));
+        when(projectRepository.findIncludedInWithTaskCounts(eq(userId), eq(ProjectStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(Page.empty());
 
-        List<Project> result = projectService.getProjectsIncludedIn(user);
+        Page<ProjectListItem> result = projectService.getProjectsIncludedIn(userId, ProjectStatus.ACTIVE, 0);
 
-        assertEquals(1, result.size());
-        assertTrue(result.contains(memberProject));
+        assertTrue(result.isEmpty());
     }
 
     @Test
@@ -807,42 +817,4 @@ public class ProjectServiceUTest {
         verify(projectRepository).findAllByUserIdAndDeletedFalseAndStatus(userId, status);
     }
 
-    @Test
-    void calculateCompletionPercent_whenNoTasks_shouldSetZeroAndReturn() {
-        Project project = Project.builder().tasks(List.of()).build();
-
-        UUID id = UUID.randomUUID();
-        project.setId(id);
-
-        when(taskService.getTasksByProjectIdNotDeleted(id)).thenReturn(List.of());
-
-        projectService.calculateCompletionPercent(project);
-
-        assertEquals(0, project.getCompletionPercent());
-        verify(projectRepository, never()).save(any());
-    }
-
-    @Test
-    void calculateCompletionPercent_shouldCalculateCorrectly() {
-        UUID id = UUID.randomUUID();
-
-        Task t1 = Task.builder().status(TaskStatus.COMPLETED).build();
-        Task t2 = Task.builder().status(TaskStatus.IN_PROGRESS).build();
-        Task t3 = Task.builder().status(TaskStatus.COMPLETED).build();
-
-        Project project = Project.builder()
-                .id(id)
-                .tasks(List.of(t1, t2, t3))
-                .user(User.builder().id(UUID.randomUUID()).build())
-                .build();
-
-        when(taskService.getTasksByProjectIdNotDeleted(id))
-                .thenReturn(List.of(t1, t2, t3));
-
-        projectService.calculateCompletionPercent(project);
-
-        assertEquals(67, project.getCompletionPercent());
-        verify(projectRepository).save(project);
-    }
-
 }
@@ -0,0 +1,106 @@
+package com.example.TaskManager.querytrace;
+
+import com.example.TaskManager.querytrace.model.HandlerQueryStatsView;
+import com.example.TaskManager.querytrace.model.QueryTrace;
+import com.example.TaskManager.querytrace.service.QueryTraceContext;
+import com.example.TaskManager.querytrace.service.QueryTraceRecorder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryTraceRecorderUTest {
+
+    private static final String SELECT_TASK = "select t.id from task t where t.id=?";
+
+    @Test
+    void givenRequestsForHandler_whenFinished_thenStatsAreAggregatedPerHandler() {
+        QueryTraceRecorder recorder = new QueryTraceRecorder(true, 1.0, 60_000, 100, 10, 200);
+
+        QueryTrace first = recorder.start("TaskController#getTasksPage");
+        assertSame(first, QueryTraceContext.current());
+        first.statementPrepared(SELECT_TASK);
+        first.statementPrepared("select p.id from project p");
+        first.statementExecuted(3_000_000);
+        first.entityLoaded();
+        recorder.finish(first);
+
+        assertNull(QueryTraceContext.current());
+
+        QueryTrace second = recorder.start("TaskController#getTasksPage");
+        second.statementPrepared(SELECT_TASK);
+        second.statementExecuted(1_000_000);
+        recorder.finish(second);
+
+        HandlerQueryStatsView stats = recorder.snapshot().get(0);
+        assertEquals("TaskController#getTasksPage", stats.getHandler());
+        assertEquals(2, stats.getRequests());
+        assertEquals(0, stats.getSlowRequests());
+        assertEquals(1.5, stats.getAvgStatements());
+        assertEquals(2, stats.getMaxStatements());
+        assertEquals(4.0, stats.getTotalJdbcMillis());
+        assertEquals(3.0, stats.getMaxJdbcMillis());
+        assertEquals(1, stats.getMaxEntityLoads());
+        assertTrue(stats.getRepeatedStatements().isEmpty());
+    }
+
+    @Test
+    void givenSameStatementWithDifferentParameters_whenAboveThreshold_thenReportedAsRepeated() {
+        QueryTraceRecorder recorder = new QueryTraceRecorder(true, 1.0, 60_000, 100, 3, 200);
+
+        QueryTrace trace = recorder.start("ProjectController#getProjects");
+        for (int i = 0; i < 4; i++) {
+            trace.statementPrepared("select t.id  from task t\n where t.project_id in (" + "?,".repeat(i) + "?)");
+        }
+        recorder.finish(trace);
+
+        List<HandlerQueryStatsView.RepeatedStatementView> repeated = recorder.snapshot().get(0).getRepeatedStatements();
+        assertEquals(1, repeated.size());
+        assertEquals("select t.id from task t where t.project_id in (?...)", repeated.get(0).getSignature());
+        assertEquals(4, repeated.get(0).getMaxExecutions());
+        assertEquals(1, repeated.get(0).getRequests());
+    }
+
+    @Test
+    void givenStatementCountAboveLimit_whenFinished_thenRequestIsSlow() {
+        QueryTraceRecorder recorder = new QueryTraceRecorder(true, 1.0, 60_000, 2, 10, 200);
+
+        QueryTrace trace = recorder.start("DashboardController#getDashboard");
+        trace.statementPrepared(SELECT_TASK);
+        trace.statementPrepared(SELECT_TASK);
+        recorder.finish(trace);
+
+        assertEquals(1, recorder.snapshot().get(0).getSlowRequests());
+    }
+
+    @Test
+    void givenUnsampledRequest_whenFinished_thenCountsAreKeptWithoutSignatures() {
+        QueryTraceRecorder recorder = new QueryTraceRecorder(true, 0.0, 60_000, 100, 2, 200);
+
+        QueryTrace trace = recorder.start("TaskController#getTasksPage");
+        for (int i = 0; i < 5; i++) {
+            trace.statementPrepared(SELECT_TASK);
+        }
+        recorder.finish(trace);
+
+        HandlerQueryStatsView stats = recorder.snapshot().get(0);
+        assertFalse(trace.isDetailed());
+        assertEquals(5, stats.getMaxStatements());
+        assertEquals(0, stats.getDetailedRequests());
+        assertTrue(stats.getRepeatedStatements().isEmpty());
+    }
+
+    @Test
+    void givenDisabledRecorder_whenStarted_thenNothingIsTraced() {
+        QueryTraceRecorder recorder = new QueryTraceRecorder(false, 1.0, 500, 50, 10, 200);
+
+        assertNull(recorder.start("TaskController#getTasksPage"));
+        assertNull(QueryTraceContext.current());
+        assertTrue(recorder.snapshot().isEmpty());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.TaskManager.seed;
+
+import com.example.TaskManager.seed.service.ZipfDistribution;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipfDistributionUTest {
+
+    @Test
+    void whenAllocating_thenEveryUnitIsAssignedAndLowRanksGetTheMost() {
+        ZipfDistribution distribution = new ZipfDistribution(100, 1.1);
+
+        int[] counts = distribution.allocate(10_000, new Random(1));
+
+        assertEquals(10_000, Arrays.stream(counts).sum());
+        assertTrue(counts[0] > counts[9]);
+        assertTrue(counts[9] > counts[99]);
+    }
+
+    @Test
+    void whenSkewIsZero_thenAllocationIsEven() {
+        int[] counts = new ZipfDistribution(4, 0).allocate(100, new Random(1));
+
+        assertTrue(Arrays.stream(counts).allMatch(count -> count == 25));
+    }
+
+    @Test
+    void whenSampling_thenRanksStayInRangeAndFavourTheHead() {
+        ZipfDistribution distribution = new ZipfDistribution(50, 1.2);
+        Random random = new Random(7);
+        int[] hits = new int[50];
+
+        for (int i = 0; i < 20_000; i++) {
+            hits[distribution.sample(random)]++;
+        }
+
+        assertEquals(20_000, Arrays.stream(hits).sum());
+        assertTrue(hits[0] > hits[49] * 10);
+    }
+
+    @Test
+    void whenSizeIsNotPositive_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1));
+    }
+}
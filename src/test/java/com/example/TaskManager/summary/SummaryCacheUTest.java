@@ -0,0 +1,72 @@
+package com.example.TaskManager.summary;
+
+import com.example.TaskManager.activity.model.ActivityType;
+import com.example.TaskManager.summary.model.SummaryCounters;
+import com.example.TaskManager.summary.model.SummaryDto;
+import com.example.TaskManager.summary.service.SummaryCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SummaryCacheUTest {
+
+    private SummaryCache summaryCache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(SummaryCache.CACHE_NAME, Caffeine.newBuilder().maximumSize(10).build());
+        summaryCache = new SummaryCache(cacheManager, 10);
+    }
+
+    @Test
+    void windowStart_shouldAlignToConfiguredHour() {
+        LocalDateTime morning = LocalDateTime.of(2026, 10, 17, 9, 59);
+        LocalDateTime noon = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+        assertEquals(LocalDateTime.of(2026, 10, 16, 10, 0), summaryCache.windowStart(morning));
+        assertEquals(LocalDateTime.of(2026, 10, 17, 10, 0), summaryCache.windowStart(noon));
+    }
+
+    @Test
+    void whenWindowIsCached_thenActivityUpdatesCountersInPlaceWithoutReload() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime windowStart = summaryCache.windowStart(LocalDateTime.now());
+        AtomicInteger loads = new AtomicInteger();
+
+        summaryCache.get(userId, windowStart, start -> {
+            loads.incrementAndGet();
+            return new SummaryCounters(SummaryDto.builder().createdTasks(2).overdueTasks(1).build());
+        });
+
+        summaryCache.recordActivity(userId, ActivityType.TASK_CREATED, LocalDateTime.now());
+        summaryCache.recordActivity(userId, ActivityType.TASK_UPDATED, LocalDateTime.now());
+        summaryCache.recordOverdue(userId, LocalDateTime.now(), -1);
+
+        SummaryCounters counters = summaryCache.get(userId, windowStart, start -> {
+            throw new AssertionError("window should not be reloaded");
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(3, counters.getCreatedTasks());
+        assertEquals(0, counters.getOverdueTasks());
+    }
+
+    @Test
+    void whenActivityBelongsToAnotherWindow_thenCachedWindowIsUntouched() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime windowStart = summaryCache.windowStart(LocalDateTime.now());
+
+        summaryCache.get(userId, windowStart, start -> new SummaryCounters(SummaryDto.builder().build()));
+        summaryCache.recordActivity(userId, ActivityType.TASK_CREATED, windowStart.minusMinutes(1));
+
+        assertEquals(0, summaryCache.get(userId, windowStart, start -> null).getCreatedTasks());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.TaskManager.summary;
+
+import com.example.TaskManager.summary.scheduler.SummaryScheduler;
+import com.example.TaskManager.summary.service.SummaryService;
+import com.example.TaskManager.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SummarySchedulerUTest {
+
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+
+    @Mock
+    private SummaryService summaryService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void whenRecipientsSpanSeveralChunks_thenSendEachChunkOnce() {
+        List<UUID> firstChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> secondChunk = List.of(UUID.randomUUID());
+        when(userRepository.findSummaryRecipientIdsBetween(eq(new UUID(0, 0)), eq(LAST_ID), any())).thenReturn(firstChunk);
+        when(userRepository.findSummaryRecipientIdsBetween(eq(firstChunk.get(1)), eq(LAST_ID), any())).thenReturn(secondChunk);
+
+        new SummaryScheduler(summaryService, userRepository, Runnable::run, 2, 0, 1).sendDailySummaries();
+
+        verify(summaryService).sendDailySummaries(eq(firstChunk), any());
+        verify(summaryService).sendDailySummaries(eq(secondChunk), any());
+    }
+
+    @Test
+    void whenShardsRunSeparately_thenTheirIdRangesTileTheWholeKeyspace() {
+        ArgumentCaptor<UUID> after = ArgumentCaptor.forClass(UUID.class);
+        ArgumentCaptor<UUID> last = ArgumentCaptor.forClass(UUID.class);
+        when(userRepository.findSummaryRecipientIdsBetween(after.capture(), last.capture(), any())).thenReturn(List.of());
+
+        for (int shard = 0; shard < 3; shard++) {
+            new SummaryScheduler(summaryService, userRepository, Runnable::run, 100, shard, 3).sendDailySummaries();
+        }
+
+        assertEquals(new UUID(0, 0), after.getAllValues().get(0));
+        assertEquals(last.getAllValues().get(0), after.getAllValues().get(1));
+        assertEquals(last.getAllValues().get(1), after.getAllValues().get(2));
+        assertEquals(LAST_ID, last.getAllValues().get(2));
+        assertEquals(-1L, last.getAllValues().get(0).getLeastSignificantBits());
+        assertTrue(Long.compareUnsigned(last.getAllValues().get(0).getMostSignificantBits(), last.getAllValues().get(1).getMostSignificantBits()) < 0);
+        verify(summaryService, never()).sendDailySummaries(anyList(), any());
+    }
+
+    @Test
+    void whenChunkFails_thenRemainingChunksStillRun() {
+        List<UUID> firstChunk = List.of(UUID.randomUUID());
+        when(userRepository.findSummaryRecipientIdsBetween(eq(new UUID(0, 0)), eq(LAST_ID), any())).thenReturn(firstChunk);
+        when(userRepository.findSummaryRecipientIdsBetween(eq(firstChunk.get(0)), eq(LAST_ID), any())).thenReturn(List.of(UUID.randomUUID()));
+        when(summaryService.sendDailySummaries(anyList(), any())).thenThrow(new RuntimeException("db down")).thenReturn(1);
+
+        new SummaryScheduler(summaryService, userRepository, Runnable::run, 1, 0, 1).sendDailySummaries();
+
+        verify(summaryService, times(2)).sendDailySummaries(anyList(), any());
+    }
+}
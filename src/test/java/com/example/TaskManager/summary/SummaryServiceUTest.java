@@ -2,25 +2,37 @@ package com.example.TaskManager.summary;
 
 import com.example.TaskManager.activity.model.ActivityType;
 import com.example.TaskManager.activity.repository.ActivityRepository;
+import com.example.TaskManager.activity.service.ActivityWriter;
 import com.example.TaskManager.notification.NotificationMessages;
 import com.example.TaskManager.notification.NotificationType;
 import com.example.TaskManager.notification.service.NotificationService;
+import com.example.TaskManager.summary.model.SummaryCounters;
 import com.example.TaskManager.summary.model.SummaryDto;
+import com.example.TaskManager.summary.model.UserActivityCount;
+import com.example.TaskManager.summary.model.UserTaskCount;
+import com.example.TaskManager.summary.service.SummaryCache;
 import com.example.TaskManager.summary.service.SummaryService;
 import com.example.TaskManager.task.model.TaskStatus;
 import com.example.TaskManager.task.repository.TaskRepository;
-import com.example.TaskManager.task.service.TaskService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,43 +43,35 @@ public class SummaryServiceUTest {
     private ActivityRepository activityRepository;
 
     @Mock
-    private TaskRepository taskRepository;
+    private ActivityWriter activityWriter;
 
     @Mock
-    private TaskService taskService;
+    private TaskRepository taskRepository;
 
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private SummaryCache summaryCache;
+
     @InjectMocks
     private SummaryService summaryService;
 
     @Test
     void dailySummary_shouldReturnCorrectSummary() {
         UUID userId = UUID.randomUUID();
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                eq(userId), eq(ActivityType.TASK_CREATED), any(), any()
-        )).thenReturn(5L);
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                eq(userId), eq(ActivityType.TASK_COMPLETED), any(), any()
-        )).thenReturn(3L);
-
-        when(taskRepository.countByUserIdAndDeletedFalseAndStatusAndDueDateBetween(
-                eq(userId), eq(TaskStatus.OVERDUE), any(), any()
-        )).thenReturn(2L);
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                eq(userId), eq(ActivityType.PROJECT_COMPLETED), any(), any()
-        )).thenReturn(1L);
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                eq(userId), eq(ActivityType.PROJECT_CREATED), any(), any()
-        )).thenReturn(4L);
-
-        when(taskService.getTaskCompletionRateLast24Hours(eq(userId), any(), any()))
-                .thenReturn(0.75);
+        LocalDateTime windowStart = LocalDateTime.now().withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+        when(summaryCache.windowStart(any())).thenReturn(windowStart);
+        when(summaryCache.get(eq(userId), eq(windowStart), any())).thenAnswer(invocation ->
+                invocation.<Function<LocalDateTime, SummaryCounters>>getArgument(2).apply(windowStart));
+        when(activityRepository.countByUsersAndTypes(eq(List.of(userId)), any(), eq(windowStart), eq(windowStart.plusHours(24)))).thenReturn(List.of(
+                new UserActivityCount(userId, ActivityType.TASK_CREATED, 5),
+                new UserActivityCount(userId, ActivityType.TASK_COMPLETED, 3),
+                new UserActivityCount(userId, ActivityType.PROJECT_COMPLETED, 1),
+                new UserActivityCount(userId, ActivityType.PROJECT_CREATED, 4)));
+        when(taskRepository.countByUsersAndStatusAndDueDateBetween(eq(List.of(userId)), eq(TaskStatus.OVERDUE), any(), any()))
+                .thenReturn(List.of(new UserTaskCount(userId, 2)));
 
         SummaryDto summary = summaryService.dailySummary(userId);
 
@@ -76,7 +80,94 @@ public class SummaryServiceUTest {
         assertEquals(2, summary.getOverdueTasks());
         assertEquals(1, summary.getCompletedProjects());
         assertEquals(4, summary.getCreatedProjects());
-        assertEquals(0.75, summary.getTaskCompletionRate());
+        assertEquals(60.0, summary.getTaskCompletionRate());
+        InOrder inOrder = inOrder(activityWriter, activityRepository);
+        inOrder.verify(activityWriter).flush();
+        inOrder.verify(activityRepository).countByUsersAndTypes(any(), any(), any(), any());
+    }
+
+    @Test
+    void dailySummary_whenWindowIsCached_shouldNotFlushWriter() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime windowStart = LocalDateTime.now().withHour(10).withMinute(0).withSecond(0).withNano(0);
+        when(summaryCache.windowStart(any())).thenReturn(windowStart);
+        when(summaryCache.get(eq(userId), eq(windowStart), any())).thenReturn(new SummaryCounters(SummaryDto.builder().createdTasks(2).build()));
+
+        SummaryDto summary = summaryService.dailySummary(userId);
+
+        assertEquals(2, summary.getCreatedTasks());
+        verify(activityWriter, never()).flush();
+        verify(activityRepository, never()).countByUsersAndTypes(any(), any(), any(), any());
+    }
+
+    @Test
+    void summarize_shouldGroupCountsPerUserAndDefaultMissingUsersToZero() {
+        UUID active = UUID.randomUUID();
+        UUID idle = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        when(activityRepository.countByUsersAndTypes(eq(List.of(active, idle)), any(), eq(now.minusHours(24)), eq(now))).thenReturn(List.of(
+                new UserActivityCount(active, ActivityType.TASK_CREATED, 3),
+                new UserActivityCount(active, ActivityType.TASK_COMPLETED, 2)));
+        when(taskRepository.countByUsersAndStatusAndDueDateBetween(eq(List.of(active, idle)), eq(TaskStatus.OVERDUE), any(), any()))
+                .thenReturn(List.of());
+
+        Map<UUID, SummaryDto> summaries = summaryService.summarize(List.of(active, idle), now.minusHours(24), now);
+
+        assertEquals(2, summaries.size());
+        assertEquals(66.67, summaries.get(active).getTaskCompletionRate());
+        assertEquals(0, summaries.get(idle).getCreatedTasks());
+        assertEquals(0.0, summaries.get(idle).getTaskCompletionRate());
+    }
+
+    @Test
+    void sendDailySummaries_shouldQueueOneDedupedNotificationPerUser() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        LocalDateTime windowStart = LocalDateTime.of(2026, 10, 16, 10, 0);
+
+        when(activityRepository.countByUsersAndTypes(any(), any(), any(), any())).thenReturn(List.of());
+        when(taskRepository.countByUsersAndStatusAndDueDateBetween(any(), any(), any(), any())).thenReturn(List.of());
+
+        int sent = summaryService.sendDailySummaries(List.of(first, second), windowStart);
+
+        assertEquals(2, sent);
+        verify(notificationService).sendNotification(eq(first), eq(NotificationMessages.DAILY_SUMMARY_MESSAGE_SUBJECT), anyString(),
+                eq(NotificationType.EMAIL), eq("daily-summary:%s:2026-10-17".formatted(first)));
+        verify(notificationService).sendNotification(eq(second), eq(NotificationMessages.DAILY_SUMMARY_MESSAGE_SUBJECT), anyString(),
+                eq(NotificationType.EMAIL), eq("daily-summary:%s:2026-10-17".formatted(second)));
+    }
+
+    @Test
+    void sendDailySummaries_shouldReadCachedWindowAndLoadOnlyMisses() {
+        UUID cached = UUID.randomUUID();
+        UUID missed = UUID.randomUUID();
+        LocalDateTime windowStart = LocalDateTime.of(2026, 10, 16, 10, 0);
+        SummaryCounters counters = new SummaryCounters(SummaryDto.builder().createdTasks(4).completedTasks(1).build());
+
+        when(summaryCache.getIfPresent(cached, windowStart)).thenReturn(counters);
+        when(activityRepository.countByUsersAndTypes(eq(List.of(missed)), any(), eq(windowStart), eq(windowStart.plusHours(24)))).thenReturn(List.of());
+        when(taskRepository.countByUsersAndStatusAndDueDateBetween(eq(List.of(missed)), eq(TaskStatus.OVERDUE), any(), any())).thenReturn(List.of());
+
+        int sent = summaryService.sendDailySummaries(List.of(cached, missed), windowStart);
+
+        assertEquals(2, sent);
+        InOrder inOrder = inOrder(activityWriter, activityRepository);
+        inOrder.verify(activityWriter).flush();
+        inOrder.verify(activityRepository).countByUsersAndTypes(any(), any(), any(), any());
+        verify(summaryCache).put(eq(missed), eq(windowStart), any(SummaryCounters.class));
+        verify(summaryCache, never()).put(eq(cached), any(), any());
+        String cachedBody = NotificationMessages.DAILY_SUMMARY_MESSAGE_BODY.formatted(4L, 1L, 0L, 0L, 0L, 25.0);
+        verify(notificationService).sendNotification(eq(cached), eq(NotificationMessages.DAILY_SUMMARY_MESSAGE_SUBJECT), eq(cachedBody),
+                eq(NotificationType.EMAIL), anyString());
+    }
+
+    @Test
+    void closedWindowStart_shouldReturnTheWindowBeforeTheCurrentOne() {
+        LocalDateTime now = LocalDateTime.of(2026, 10, 17, 10, 0, 5);
+        when(summaryCache.windowStart(now)).thenReturn(LocalDateTime.of(2026, 10, 17, 10, 0));
+
+        assertEquals(LocalDateTime.of(2026, 10, 16, 10, 0), summaryService.closedWindowStart(now));
     }
 
     @Test
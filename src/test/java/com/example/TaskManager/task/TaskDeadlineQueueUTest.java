@@ -0,0 +1,157 @@
+package com.example.TaskManager.task;
+
+import com.example.TaskManager.task.model.TaskDeadlineView;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.task.service.TaskDeadlineQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskDeadlineQueueUTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskDeadlineQueue taskDeadlineQueue;
+
+    @Test
+    void whenLoad_thenPendingDeadlinesAreQueued() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID overdue = UUID.randomUUID();
+        UUID upcoming = UUID.randomUUID();
+
+        when(taskRepository.findDeadlinesByStatusNotIn(any())).thenReturn(List.of(
+                new TaskDeadlineView(overdue, UUID.randomUUID(), "Overdue", now.minusHours(1)),
+                new TaskDeadlineView(upcoming, UUID.randomUUID(), "Upcoming", now.plusHours(1))));
+
+        taskDeadlineQueue.load();
+
+        assertEquals(2, taskDeadlineQueue.size());
+        assertEquals(Map.of(overdue, now.minusHours(1)), taskDeadlineQueue.pollDue(now));
+        assertEquals(1, taskDeadlineQueue.size());
+    }
+
+    @Test
+    void whenPollDue_thenReturnOnlyPassedDeadlinesInDueDateOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID future = UUID.randomUUID();
+
+        taskDeadlineQueue.track(second, now.minusMinutes(1));
+        taskDeadlineQueue.track(future, now.plusMinutes(1));
+        taskDeadlineQueue.track(first, now.minusMinutes(5));
+
+        assertEquals(List.of(first, second), List.copyOf(taskDeadlineQueue.pollDue(now).keySet()));
+        assertTrue(taskDeadlineQueue.pollDue(now).isEmpty());
+        assertEquals(1, taskDeadlineQueue.size());
+    }
+
+    @Test
+    void whenTrackSameTaskTwice_thenOnlyLatestDueDateIsKept() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID taskId = UUID.randomUUID();
+
+        taskDeadlineQueue.track(taskId, now.minusMinutes(1));
+        taskDeadlineQueue.track(taskId, now.plusDays(1));
+
+        assertTrue(taskDeadlineQueue.pollDue(now).isEmpty());
+        assertEquals(1, taskDeadlineQueue.size());
+    }
+
+    @Test
+    void whenUntrack_thenTaskIsNeverPolled() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID taskId = UUID.randomUUID();
+
+        taskDeadlineQueue.track(taskId, now.minusMinutes(1));
+        taskDeadlineQueue.untrack(taskId);
+
+        assertTrue(taskDeadlineQueue.pollDue(now).isEmpty());
+        assertEquals(0, taskDeadlineQueue.size());
+    }
+
+    @Test
+    void whenUntrackAllAfterCommit_thenOnlyRemainingTasksArePolled() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID deleted = UUID.randomUUID();
+        UUID alsoDeleted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        taskDeadlineQueue.track(deleted, now.minusMinutes(3));
+        taskDeadlineQueue.track(alsoDeleted, now.minusMinutes(2));
+        taskDeadlineQueue.track(kept, now.minusMinutes(1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskDeadlineQueue.untrackAll(List.of(deleted, alsoDeleted));
+            assertEquals(3, taskDeadlineQueue.size());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(Map.of(kept, now.minusMinutes(1)), taskDeadlineQueue.pollDue(now));
+    }
+
+    @Test
+    void whenRequeueOnRollback_thenPolledDeadlinesReturnOnlyIfTheTransactionRollsBack() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID taskId = UUID.randomUUID();
+        taskDeadlineQueue.track(taskId, now.minusMinutes(5));
+        Map<UUID, LocalDateTime> polled = taskDeadlineQueue.pollDue(now);
+
+        completeWith(polled, TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(0, taskDeadlineQueue.size());
+
+        completeWith(polled, TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(Map.of(taskId, now.minusMinutes(5)), taskDeadlineQueue.pollDue(now));
+    }
+
+    @Test
+    void whenRequeue_thenPolledDeadlinesAreRestoredImmediatelyUnlessTrackedAgain() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID requeued = UUID.randomUUID();
+        UUID retracked = UUID.randomUUID();
+
+        taskDeadlineQueue.track(requeued, now.minusMinutes(5));
+        taskDeadlineQueue.track(retracked, now.minusMinutes(1));
+        Map<UUID, LocalDateTime> polled = taskDeadlineQueue.pollDue(now);
+        taskDeadlineQueue.track(retracked, now.plusDays(1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskDeadlineQueue.requeue(polled);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(Map.of(requeued, now.minusMinutes(5)), taskDeadlineQueue.pollDue(now));
+        assertEquals(1, taskDeadlineQueue.size());
+    }
+
+    private void completeWith(Map<UUID, LocalDateTime> polled, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskDeadlineQueue.requeueOnRollback(polled);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -1,33 +1,51 @@
 package com.example.TaskManager.task;
 
 import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityCategory;
 import com.example.TaskManager.activity.model.ActivityType;
-import com.example.TaskManager.activity.repository.ActivityRepository;
 import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.analytics.service.TaskAnalyticsService;
 import com.example.TaskManager.exception.task.TaskAlreadyExistException;
 import com.example.TaskManager.exception.task.TaskNotFoundException;
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.service.ProjectCounterService;
 import com.example.TaskManager.task.event.TaskOverdueEvent;
 import com.example.TaskManager.task.event.TaskUpcomingDeadlineEvent;
+import com.example.TaskManager.summary.service.SummaryCache;
 import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskDashboard;
+import com.example.TaskManager.task.model.TaskDashboardRow;
+import com.example.TaskManager.task.model.TaskDeadlineView;
 import com.example.TaskManager.task.model.TaskPriority;
 import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.model.UserTaskStats;
+import com.example.TaskManager.task.model.UserTaskStatsKey;
+import com.example.TaskManager.task.model.UserTaskTotals;
 import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.task.service.TaskDeadlineQueue;
 import com.example.TaskManager.task.service.TaskService;
+import com.example.TaskManager.task.service.UserTaskStatsService;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.utils.UserUtils;
 import com.example.TaskManager.web.dto.CreateTaskRequest;
 import com.example.TaskManager.web.dto.EditTaskRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.ModelAndView;
 
 import java.time.DayOfWeek;
@@ -35,7 +53,6 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.BDDAssertions.within;
@@ -55,9 +72,17 @@ public class TaskServiceUTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
     @Mock
-    private ActivityRepository activityRepository;
-    @Mock
     private TaskAnalyticsService taskAnalyticsService;
+    @Mock
+    private SummaryCache summaryCache;
+    @Mock
+    private TaskDeadlineQueue taskDeadlineQueue;
+    @Mock
+    private ProjectCounterService projectCounterService;
+    @Mock
+    private UserTaskStatsService userTaskStatsService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private TaskService taskService;
@@ -94,7 +119,6 @@ public class TaskServiceUTest {
         User user = User.builder()
                 .id(userId)
                 .build();
-        when(userService.getById(userId)).thenReturn(user);
 
         Task task = Task.builder()
                 .id(taskId)
@@ -109,6 +133,20 @@ public class TaskServiceUTest {
         assertThat(task.getCompletedOn()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
 
         verify(taskRepository).save(task);
+        verify(userTaskStatsService).move(any(UserTaskStatsKey.class), eq(task));
+    }
+
+    @Test
+    void whenCompleteOverdueTask_thenDecrementSummaryOverdueCounter() {
+        UUID taskId = UUID.randomUUID();
+        User user = User.builder().id(UUID.randomUUID()).build();
+        LocalDateTime dueDate = LocalDateTime.now().minusHours(1);
+        Task task = Task.builder().id(taskId).user(user).status(TaskStatus.OVERDUE).dueDate(dueDate).build();
+        when(taskRepository.findByIdAndDeletedFalse(taskId)).thenReturn(Optional.of(task));
+
+        taskService.completeTask(taskId);
+
+        verify(summaryCache).recordOverdue(user.getId(), dueDate, -1);
     }
 
     @Test
@@ -124,7 +162,6 @@ public class TaskServiceUTest {
         User user = User.builder()
                 .id(userId)
                 .build();
-        when(userService.getById(userId)).thenReturn(user);
 
         Task task = Task.builder()
                 .id(taskId)
@@ -140,7 +177,25 @@ public class TaskServiceUTest {
         assertThat(task.getCompletedOn()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
 
         verify(taskRepository).save(task);
+        verify(projectCounterService).taskCompleted(project);
+    }
+
+    @Test
+    void whenCompleteAlreadyCompletedTask_thenProjectCountersAreNotAdjusted() {
+        UUID taskId = UUID.randomUUID();
+        Project project = Project.builder().id(UUID.randomUUID()).build();
 
+        Task task = Task.builder()
+                .id(taskId)
+                .user(User.builder().id(UUID.randomUUID()).build())
+                .project(project)
+                .status(TaskStatus.COMPLETED)
+                .build();
+        when(taskRepository.findByIdAndDeletedFalse(taskId)).thenReturn(Optional.of(task));
+
+        taskService.completeTask(taskId);
+
+        verify(projectCounterService, never()).taskCompleted(any());
     }
 
     @Test
@@ -185,9 +240,9 @@ public class TaskServiceUTest {
                 .id(taskId)
                 .project(project)
                 .user(user)
+                .status(TaskStatus.COMPLETED)
                 .build();
         when(taskRepository.findByIdAndDeletedFalse(taskId)).thenReturn(Optional.of(task));
-        when(userService.getById(user.getId())).thenReturn(user);
 
         taskService.deleteTask(taskId);
 
@@ -195,6 +250,7 @@ public class TaskServiceUTest {
         assertThat(task.getUpdatedOn()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
 
         verify(taskRepository).save(task);
+        verify(projectCounterService).taskRemoved(project, true);
     }
 
     @Test
@@ -282,24 +338,6 @@ public class TaskServiceUTest {
         assertEquals(emptyList, result);
     }
 
-    @Test
-    void whenGetAllTasksByUserIdAndStatusNotDeleted_andTaskListIsNotEmpty_thenReturnTasks() {
-        UUID userId = UUID.randomUUID();
-
-        User user = User.builder().id(userId).build();
-
-        List<Task> taskList = List.of(
-                Task.builder().id(UUID.randomUUID()).user(user).status(TaskStatus.TODO).build(),
-                Task.builder().id(UUID.randomUUID()).user(user).status(TaskStatus.TODO).build());
-
-        when(taskRepository.findAllByUserIdAndProjectNullAndDeletedFalse(userId)).thenReturn(taskList);
-
-        List<Task> result = taskService.getAllTasksByUserIdAndStatusNotDeleted(userId, TaskStatus.TODO);
-
-        assertFalse(result.isEmpty());
-        assertEquals(taskList, result);
-    }
-
     @Test
     void whenEditTask_andDueDateIsNullAndProjectIsNull() {
         UUID taskId = UUID.randomUUID();
@@ -458,134 +496,159 @@ public class TaskServiceUTest {
     }
 
     @Test
-    void whenTaskIsOverdue_andNotCompleted_andNotDeleted_andNotNotified_thenMarkOverduePublishEventAndSave() {
+    void whenCheckForOverdueTasks_andQueueHasDueTasks_thenBulkMarkOverdueAndPublishEventsForNotNotified() {
         UUID taskId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
+        LocalDateTime dueDate = LocalDateTime.now().minusMinutes(1);
 
-        User user = User.builder()
-                .id(userId)
-                .build();
+        when(taskDeadlineQueue.pollDue(any(LocalDateTime.class))).thenReturn(Map.of(taskId, dueDate));
+        when(taskRepository.findOverdueToNotify(eq(List.of(taskId)), any(LocalDateTime.class)))
+                .thenReturn(List.of(new TaskDeadlineView(taskId, userId, "Test Task", dueDate)));
+        when(taskRepository.markOverdue(eq(List.of(taskId)), any(LocalDateTime.class))).thenReturn(1);
 
-        Task task = Task.builder()
-                .id(taskId)
-                .user(user)
-                .dueDate(LocalDateTime.now().minusDays(1))
-                .status(TaskStatus.TODO)
-                .deleted(false)
-                .notifiedOverdue(false)
-                .title("Test Task")
-                .build();
+        taskService.checkForOverdueTasks();
 
-        taskService.processTask(task);
+        ArgumentCaptor<TaskOverdueEvent> eventCaptor = ArgumentCaptor.forClass(TaskOverdueEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
 
-        assertEquals(TaskStatus.OVERDUE, task.getStatus());
-        assertTrue(task.isNotifiedOverdue());
+        assertEquals(taskId, eventCaptor.getValue().getTaskId());
+        assertEquals(userId, eventCaptor.getValue().getUserId());
+        assertEquals("Test Task", eventCaptor.getValue().getTitle());
+        verify(taskRepository).markOverdue(eq(List.of(taskId)), any(LocalDateTime.class));
+        verify(taskRepository, never()).save(any());
+        verify(taskAnalyticsService).upsertTasks(userId);
+        verify(summaryCache).recordOverdue(userId, dueDate, 1);
+    }
 
-        ArgumentCaptor<TaskOverdueEvent> eventCaptor = ArgumentCaptor.forClass(TaskOverdueEvent.class);
+    @Test
+    void whenCheckForOverdueTasks_thenScannedAndChangedRowsAreRecorded() {
+        List<UUID> due = List.of(UUID.randomUUID(), UUID.randomUUID());
+        Map<UUID, LocalDateTime> polled = new LinkedHashMap<>();
+        due.forEach(id -> polled.put(id, LocalDateTime.now().minusMinutes(1)));
 
-        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        when(taskDeadlineQueue.pollDue(any(LocalDateTime.class))).thenReturn(polled);
+        when(taskRepository.findOverdueToNotify(eq(due), any(LocalDateTime.class))).thenReturn(List.of());
+        when(taskRepository.markOverdue(eq(due), any(LocalDateTime.class))).thenReturn(1);
 
-        verify(taskRepository).save(task);
+        taskService.checkForOverdueTasks();
+
+        assertEquals(1, meterRegistry.get("scheduler.run.latency").tag("scheduler", "tasks-overdue").timer().count());
+        assertEquals(2, meterRegistry.get("scheduler.rows").tag("scheduler", "tasks-overdue").tag("rows", "scanned").counter().count());
+        assertEquals(1, meterRegistry.get("scheduler.rows").tag("scheduler", "tasks-overdue").tag("rows", "changed").counter().count());
     }
 
     @Test
-    void whenTaskIsNotOverdue_thenDoNothing() {
-        UUID taskId = UUID.randomUUID();
+    void whenCreateTaskFails_thenOperationIsTimedWithErrorOutcome() {
+        CreateTaskRequest request = CreateTaskRequest.builder().title("title").build();
+        when(taskRepository.findByTitleAndProjectNullAndDeletedFalse("title")).thenReturn(Optional.of(new Task()));
 
-        User user = User.builder()
-                .id(UUID.randomUUID())
-                .build();
+        assertThrows(TaskAlreadyExistException.class, () -> taskService.createTask(request, null, null));
 
-        Task task = Task.builder()
-                .id(taskId)
-                .user(user)
-                .dueDate(LocalDateTime.now().plusDays(1))
-                .status(TaskStatus.TODO)
-                .deleted(false)
-                .notifiedOverdue(false)
-                .build();
+        assertEquals(1, meterRegistry.get("tasks.operation.latency").tag("operation", "create").tag("outcome", "error").timer().count());
+    }
 
-        taskService.processTask(task);
+    @Test
+    void whenCheckForOverdueTasks_andTaskAlreadyNotified_thenMarkOverdueWithoutEvent() {
+        UUID taskId = UUID.randomUUID();
 
-        assertEquals(TaskStatus.TODO, task.getStatus());
-        assertFalse(task.isNotifiedOverdue());
+        when(taskDeadlineQueue.pollDue(any(LocalDateTime.class))).thenReturn(Map.of(taskId, LocalDateTime.now().minusMinutes(1)));
+        when(taskRepository.findOverdueToNotify(eq(List.of(taskId)), any(LocalDateTime.class))).thenReturn(List.of());
+
+        taskService.checkForOverdueTasks();
 
+        verify(taskRepository).markOverdue(eq(List.of(taskId)), any(LocalDateTime.class));
         verify(eventPublisher, never()).publishEvent(any());
-        verify(taskRepository, never()).save(any());
     }
 
     @Test
-    void whenTaskIsCompletedAndOverdue_thenDoNothing() {
-        UUID taskId = UUID.randomUUID();
+    void whenCheckForOverdueTasks_andNothingIsDue_thenDoNotTouchTheDatabase() {
+        when(taskDeadlineQueue.pollDue(any(LocalDateTime.class))).thenReturn(Map.of());
 
-        User user = User.builder()
-                .id(UUID.randomUUID())
-                .build();
+        taskService.checkForOverdueTasks();
 
-        Task task = Task.builder()
-                .id(taskId)
-                .user(user)
-                .dueDate(LocalDateTime.now().minusDays(1))
-                .status(TaskStatus.COMPLETED)
-                .deleted(false)
-                .notifiedOverdue(false)
-                .build();
+        verifyNoInteractions(taskRepository);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void whenCheckForOverdueTasks_thenRegisterRequeueBeforeUpdating() {
+        UUID taskId = UUID.randomUUID();
+        Map<UUID, LocalDateTime> polled = Map.of(taskId, LocalDateTime.now().minusMinutes(1));
 
-        taskService.processTask(task);
+        when(taskDeadlineQueue.pollDue(any(LocalDateTime.class))).thenReturn(polled);
+        when(taskRepository.markOverdue(eq(List.of(taskId)), any(LocalDateTime.class))).thenThrow(RuntimeException.class);
 
-        assertEquals(TaskStatus.COMPLETED, task.getStatus());
-        assertFalse(task.isNotifiedOverdue());
+        assertThrows(RuntimeException.class, () -> taskService.checkForOverdueTasks());
 
+        InOrder inOrder = inOrder(taskDeadlineQueue, taskRepository);
+        inOrder.verify(taskDeadlineQueue).requeueOnRollback(polled);
+        inOrder.verify(taskRepository).markOverdue(eq(List.of(taskId)), any(LocalDateTime.class));
         verify(eventPublisher, never()).publishEvent(any());
-        verify(taskRepository, never()).save(any());
     }
 
     @Test
-    void whenTaskIsOverdueButDeleted_thenDoNothing() {
+    void whenCheckForOverdueTasks_andTransactionRollsBackAfterTheUpdate_thenTasksStayQueued() {
+        TaskDeadlineQueue queue = new TaskDeadlineQueue(taskRepository);
+        TaskService service = new TaskService(taskRepository, userService, activityService, taskAnalyticsService, eventPublisher,
+                queue, summaryCache, projectCounterService, userTaskStatsService, meterRegistry);
         UUID taskId = UUID.randomUUID();
+        LocalDateTime dueDate = LocalDateTime.now().minusMinutes(5);
+        queue.track(taskId, dueDate);
 
-        User user = User.builder()
-                .id(UUID.randomUUID())
-                .build();
+        when(taskRepository.markOverdue(eq(List.of(taskId)), any(LocalDateTime.class))).thenReturn(1);
 
-        Task task = Task.builder()
-                .id(taskId)
-                .user(user)
-                .dueDate(LocalDateTime.now().minusDays(1))
-                .status(TaskStatus.TODO)
-                .deleted(true)
-                .notifiedOverdue(false)
-                .build();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.checkForOverdueTasks();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
 
-        taskService.processTask(task);
+        assertEquals(Map.of(taskId, dueDate), queue.pollDue(LocalDateTime.now()));
+    }
 
-        assertEquals(TaskStatus.TODO, task.getStatus());
-        assertFalse(task.isNotifiedOverdue());
+    @Test
+    void whenCheckForOverdueTasks_andTransactionCommits_thenTasksAreNotRequeued() {
+        TaskDeadlineQueue queue = new TaskDeadlineQueue(taskRepository);
+        TaskService service = new TaskService(taskRepository, userService, activityService, taskAnalyticsService, eventPublisher,
+                queue, summaryCache, projectCounterService, userTaskStatsService, meterRegistry);
+        UUID taskId = UUID.randomUUID();
+        queue.track(taskId, LocalDateTime.now().minusMinutes(5));
 
-        verify(eventPublisher, never()).publishEvent(any());
-        verify(taskRepository, never()).save(any());
+        when(taskRepository.markOverdue(eq(List.of(taskId)), any(LocalDateTime.class))).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.checkForOverdueTasks();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, queue.size());
     }
 
     @Test
-    void whenProcessUpcomingDeadline_andWhenBeforeDeadline_thenSendEventAndSaveAndSetNotifiedUpcomingTrue() {
+    void whenPublishUpcomingDeadlines_thenClaimPageAndSendEventForEachClaimedTask() {
         UUID taskId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
+        LocalDateTime from = LocalDateTime.now().plusHours(23);
+        LocalDateTime to = LocalDateTime.now().plusHours(24);
+        LocalDateTime dueDate = from.plusMinutes(30);
 
-        User user = User.builder()
-                .id(userId)
-                .build();
+        when(taskRepository.findUpcomingDeadlineIds(eq(from), eq(to), any(Pageable.class))).thenReturn(List.of(taskId));
+        when(taskRepository.claimUpcomingDeadlines(eq(List.of(taskId)), any(UUID.class))).thenReturn(1);
+        when(taskRepository.findByUpcomingClaimId(any(UUID.class)))
+                .thenReturn(List.of(new TaskDeadlineView(taskId, userId, "test", dueDate)));
 
-        LocalDateTime dueDate = LocalDateTime.now().plusHours(24);
-
-        Task task = Task.builder()
-                .id(taskId)
-                .user(user)
-                .dueDate(dueDate)
-                .notifiedUpcoming(false)
-                .title("test")
-                .build();
+        int claimed = taskService.publishUpcomingDeadlines(from, to, 100);
 
-        taskService.processUpcomingDeadline(task);
+        ArgumentCaptor<UUID> claimCaptor = ArgumentCaptor.forClass(UUID.class);
+        verify(taskRepository).claimUpcomingDeadlines(eq(List.of(taskId)), claimCaptor.capture());
+        verify(taskRepository).findByUpcomingClaimId(claimCaptor.getValue());
 
         ArgumentCaptor<TaskUpcomingDeadlineEvent> captor =
                 ArgumentCaptor.forClass(TaskUpcomingDeadlineEvent.class);
@@ -593,44 +656,39 @@ public class TaskServiceUTest {
         verify(eventPublisher).publishEvent(captor.capture());
         TaskUpcomingDeadlineEvent event = captor.getValue();
 
+        assertEquals(1, claimed);
         assertEquals(taskId, event.getTaskId());
         assertEquals(userId, event.getUserId());
         assertEquals("test", event.getTitle());
-
-        assertTrue(task.isNotifiedUpcoming());
-        verify(taskRepository).save(task);
     }
 
     @Test
-    void whenDeadlineNotIn23To24HoursWindow_thenDoNothing() {
-        Task task = Task.builder()
-                .id(UUID.randomUUID())
-                .user(User.builder().id(UUID.randomUUID()).build())
-                .dueDate(LocalDateTime.now().plusHours(5))
-                .notifiedUpcoming(false)
-                .build();
+    void whenPublishUpcomingDeadlines_andNoTasksInWindow_thenDoNothing() {
+        LocalDateTime from = LocalDateTime.now().plusHours(23);
+        LocalDateTime to = LocalDateTime.now().plusHours(24);
+
+        when(taskRepository.findUpcomingDeadlineIds(eq(from), eq(to), any(Pageable.class))).thenReturn(List.of());
 
-        taskService.processUpcomingDeadline(task);
+        int claimed = taskService.publishUpcomingDeadlines(from, to, 100);
 
+        assertEquals(0, claimed);
+        verify(taskRepository, never()).claimUpcomingDeadlines(any(), any());
         verify(eventPublisher, never()).publishEvent(any());
-        verify(taskRepository, never()).save(any());
-        assertFalse(task.isNotifiedUpcoming());
     }
 
     @Test
-    void whenAlreadyNotifiedUpcoming_thenDoNothing() {
-        Task task = Task.builder()
-                .id(UUID.randomUUID())
-                .user(User.builder().id(UUID.randomUUID()).build())
-                .dueDate(LocalDateTime.now().plusHours(24))
-                .notifiedUpcoming(true)
-                .build();
+    void whenPublishUpcomingDeadlines_andAllRowsClaimedElsewhere_thenNoEventIsSent() {
+        UUID taskId = UUID.randomUUID();
+        LocalDateTime from = LocalDateTime.now().plusHours(23);
+        LocalDateTime to = LocalDateTime.now().plusHours(24);
 
-        taskService.processUpcomingDeadline(task);
+        when(taskRepository.findUpcomingDeadlineIds(eq(from), eq(to), any(Pageable.class))).thenReturn(List.of(taskId));
+        when(taskRepository.findByUpcomingClaimId(any(UUID.class))).thenReturn(List.of());
 
+        int claimed = taskService.publishUpcomingDeadlines(from, to, 100);
+
+        assertEquals(0, claimed);
         verify(eventPublisher, never()).publishEvent(any());
-        verify(taskRepository, never()).save(any());
-        assertTrue(task.isNotifiedUpcoming());
     }
 
     @Test
@@ -678,112 +736,8 @@ public class TaskServiceUTest {
     }
 
     @Test
-    void whenGetOverdueTasksByUser() {
-        User user = User.builder()
-                .id(UUID.randomUUID())
-                .build();
-
-        List<Task> tasks = List.of(randomTask(), randomTask(), randomTask());
-        tasks.get(0).setStatus(TaskStatus.OVERDUE);
-        tasks.get(1).setStatus(TaskStatus.OVERDUE);
-        tasks.get(2).setStatus(TaskStatus.COMPLETED);
-
-        tasks.get(0).setUser(user);
-        tasks.get(1).setUser(user);
-        tasks.get(2).setUser(user);
-
-        when(taskService.getAllTasksByUserIdAndProjectNull(user.getId())).thenReturn(tasks);
-
-        List<Task> result = taskService.getOverDueTasksByUser(user);
-
-        assertEquals(2, result.size());
-    }
-
-    @Test
-    void whenGetRecentTasksByUser() {
-        User user = User.builder()
-                .id(UUID.randomUUID())
-                .build();
-
-        List<Task> tasks = List.of(randomTask(), randomTask(), randomTask());
-        tasks.get(0).setStatus(TaskStatus.IN_PROGRESS);
-        tasks.get(1).setStatus(TaskStatus.TODO);
-        tasks.get(2).setStatus(TaskStatus.TODO);
-
-        tasks.get(0).setUser(user);
-        tasks.get(1).setUser(user);
-        tasks.get(2).setUser(user);
-
-        when(taskRepository.findAllByUserIdAndStatusNotAndStatusNotAndDeletedFalseAndProjectNullOrderByDueDateAsc(user.getId(), TaskStatus.OVERDUE, TaskStatus.COMPLETED)).thenReturn(tasks);
-
-        List<Task> recentTasksGiven = tasks.stream().sorted(Comparator.comparing(Task::getCreatedOn).reversed()).limit(2).collect(Collectors.toList());
-
-        List<Task> result = taskService.getRecentTasks(user);
-        assertEquals(2, result.size());
-        assertEquals(recentTasksGiven, result);
-    }
-
-    @Test
-    void whenGetTaskCompletionRateLast24Hours_andCreatedTasksAre0_thenReturn0() {
-        UUID userId = UUID.randomUUID();
-        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
-        LocalDateTime now = LocalDateTime.now();
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_CREATED, yesterday, now))
-                .thenReturn(0L);
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_COMPLETED, yesterday, now))
-                .thenReturn(10L);
-
-        double result = taskService.getTaskCompletionRateLast24Hours(userId, yesterday, now);
-
-        assertEquals(0.0, result);
-    }
-
-    @Test
-    void whenGetTaskCompletionRateLast24Hours_calculatesCorrectPercentage() {
-        UUID userId = UUID.randomUUID();
-        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
-        LocalDateTime now = LocalDateTime.now();
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_CREATED, yesterday, now))
-                .thenReturn(20L);
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_COMPLETED, yesterday, now))
-                .thenReturn(5L);
-
-        double result = taskService.getTaskCompletionRateLast24Hours(userId, yesterday, now);
-
-        assertEquals(25.00, result);
-    }
-
-    @Test
-    void whenGetTaskCompletionRateLast24Hours_thenRoundsToTwoDecimals() {
-        UUID userId = UUID.randomUUID();
-        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
-        LocalDateTime now = LocalDateTime.now();
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_CREATED, yesterday, now))
-                .thenReturn(3L);
-
-        when(activityRepository.countByUserIdAndDeletedFalseAndTypeAndCreatedOnBetween(
-                userId, ActivityType.TASK_COMPLETED, yesterday, now))
-                .thenReturn(2L);
-
-        double result = taskService.getTaskCompletionRateLast24Hours(userId, yesterday, now);
-
-        assertEquals(66.67, result);
-    }
-
-    @Test
-    void getTasksDueThisWeek_shouldReturnCorrectCount() {
+    void getDashboard_shouldMapAggregateAndRowsFromProjectionQueries() {
         UUID userId = UUID.randomUUID();
-
         LocalDateTime now = LocalDateTime.now();
 
         LocalDateTime startOfWeek = now
@@ -794,85 +748,95 @@ public class TaskServiceUTest {
                 .with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY))
                 .withHour(23).withMinute(59).withSecond(59).withNano(999_000_000);
 
-        when(taskRepository.findAllByUserIdAndProjectNullAndDeletedFalseAndDueDateBetweenAndStatusNotAndStatusNot(
-                userId,
-                startOfWeek,
-                endOfWeek,
-                TaskStatus.OVERDUE,
-                TaskStatus.COMPLETED
-        )).thenReturn(List.of(new Task(), new Task()));
+        TaskDashboardRow recent = new TaskDashboardRow(UUID.randomUUID(), "Recent", TaskPriority.LOW, now.plusDays(2), now);
+        TaskDashboardRow upcoming = new TaskDashboardRow(UUID.randomUUID(), "Upcoming", TaskPriority.HIGH, now.plusHours(2), now.minusDays(1));
+
+        when(userTaskStatsService.getTotals(userId)).thenReturn(UserTaskTotals.of(List.of(
+                stats(userId, true, false, TaskStatus.TODO, 3),
+                stats(userId, true, false, TaskStatus.COMPLETED, 1),
+                stats(userId, true, false, TaskStatus.OVERDUE, 1),
+                stats(userId, true, true, TaskStatus.COMPLETED, 1),
+                stats(userId, false, false, TaskStatus.COMPLETED, 5)
+        )));
+        when(taskRepository.countPersonalOpenDueBetween(userId, startOfWeek, endOfWeek)).thenReturn(2L);
+        when(taskRepository.findRecentDashboardRows(eq(userId), any(Pageable.class))).thenReturn(List.of(recent));
+        when(taskRepository.findUpcomingDashboardRows(eq(userId), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(upcoming));
 
-        int result = taskService.getTasksDueThisWeek(userId);
+        TaskDashboard dashboard = taskService.getDashboard(userId);
 
-        assertEquals(2, result);
+        assertEquals(4, dashboard.getActiveTasksCount());
+        assertEquals(1, dashboard.getCompletedTasks());
+        assertEquals(1, dashboard.getOverdueTasks());
+        assertEquals(2, dashboard.getDueThisWeek());
+        assertEquals(33, dashboard.getCompletionRate());
+        assertEquals(List.of(recent), dashboard.getRecentTasks());
+        assertEquals(List.of(upcoming), dashboard.getUpcomingTasks());
     }
 
     @Test
-    void getAllTimeCompletionRate_shouldReturnCorrectPercentage() {
+    void getDashboard_shouldReturnZeroCompletionRate_whenUserHasNoTasks() {
         UUID userId = UUID.randomUUID();
 
-        Task t1 = new Task();
-        t1.setStatus(TaskStatus.COMPLETED);
-
-        Task t2 = new Task();
-        t2.setStatus(TaskStatus.COMPLETED);
-
-        Task t3 = new Task();
-        t3.setStatus(TaskStatus.OVERDUE);
-
-        List<Task> tasks = List.of(t1, t2, t3);
-
-        when(taskRepository.findAllByUserIdAndProjectNull(userId)).thenReturn(tasks);
+        when(userTaskStatsService.getTotals(userId)).thenReturn(UserTaskTotals.of(List.of()));
 
-        int result = taskService.getAllTimeCompletionRate(userId);
+        TaskDashboard dashboard = taskService.getDashboard(userId);
 
-        assertEquals(67, result);
+        assertEquals(0, dashboard.getCompletionRate());
+        assertTrue(dashboard.getRecentTasks().isEmpty());
+        assertTrue(dashboard.getUpcomingTasks().isEmpty());
     }
 
     @Test
     void whenCalculatePercentage_shouldReturn67() {
-        Task t1 = new Task(); t1.setStatus(TaskStatus.COMPLETED);
-        Task t2 = new Task(); t2.setStatus(TaskStatus.COMPLETED);
-        Task t3 = new Task(); t3.setStatus(TaskStatus.OVERDUE);
-
-        List<Task> tasks = List.of(t1, t2, t3);
-
-        int result = taskService.calculateByStatusTasksPercentageNonDeleted(TaskStatus.COMPLETED, tasks);
+        UUID userId = UUID.randomUUID();
+        UserTaskTotals totals = UserTaskTotals.of(List.of(
+                stats(userId, true, false, TaskStatus.COMPLETED, 2),
+                stats(userId, true, false, TaskStatus.OVERDUE, 1)
+        ));
 
-        assertEquals(67, result);
+        assertEquals(67, totals.percentage(TaskStatus.COMPLETED));
     }
 
     @Test
     void whenAllMatch_andCalculatePercentage_thenShouldReturn100() {
-        Task t1 = new Task(); t1.setStatus(TaskStatus.COMPLETED);
-        Task t2 = new Task(); t2.setStatus(TaskStatus.COMPLETED);
-
-        List<Task> tasks = List.of(t1, t2);
-
-        int result = taskService.calculateByStatusTasksPercentageNonDeleted(TaskStatus.COMPLETED, tasks);
+        UUID userId = UUID.randomUUID();
+        UserTaskTotals totals = UserTaskTotals.of(List.of(stats(userId, true, false, TaskStatus.COMPLETED, 2)));
 
-        assertEquals(100, result);
+        assertEquals(100, totals.percentage(TaskStatus.COMPLETED));
     }
 
     @Test
     void whenListIsEmpty_thenCalculatePercentageShouldReturn0() {
-        List<Task> tasks = List.of();
-
-        int result = taskService.calculateByStatusTasksPercentageNonDeleted(TaskStatus.COMPLETED, tasks);
+        UserTaskTotals totals = UserTaskTotals.of(List.of());
 
-        assertEquals(0, result);
+        assertEquals(0, totals.percentage(TaskStatus.COMPLETED));
     }
 
     @Test
     void whenNoTasksMatchStatus_thenCalculatePercentageAndShouldReturn0() {
-        Task t1 = new Task(); t1.setStatus(TaskStatus.IN_PROGRESS);
-        Task t2 = new Task(); t2.setStatus(TaskStatus.OVERDUE);
+        UUID userId = UUID.randomUUID();
+        UserTaskTotals totals = UserTaskTotals.of(List.of(
+                stats(userId, true, false, TaskStatus.IN_PROGRESS, 1),
+                stats(userId, true, false, TaskStatus.OVERDUE, 1)
+        ));
 
-        List<Task> tasks = List.of(t1, t2);
+        assertEquals(0, totals.percentage(TaskStatus.COMPLETED));
+    }
 
-        int result = taskService.calculateByStatusTasksPercentageNonDeleted(TaskStatus.COMPLETED, tasks);
+    @Test
+    void whenTotalsIncludeDeletedAndProjectTasks_thenOnlyCurrentPersonalTasksAreCounted() {
+        UUID userId = UUID.randomUUID();
+        UserTaskTotals totals = UserTaskTotals.of(List.of(
+                stats(userId, true, false, TaskStatus.COMPLETED, 1),
+                stats(userId, true, false, TaskStatus.TODO, 1),
+                stats(userId, true, true, TaskStatus.COMPLETED, 2),
+                stats(userId, false, false, TaskStatus.TODO, 4)
+        ));
 
-        assertEquals(0, result);
+        assertEquals(2, totals.total());
+        assertEquals(50, totals.percentage(TaskStatus.COMPLETED));
+        assertEquals(4, totals.allTimeTotal());
+        assertEquals(75, totals.allTimePercentage(TaskStatus.COMPLETED));
     }
 
     @Test
@@ -887,25 +851,30 @@ public class TaskServiceUTest {
 
         List<Task> tasks = List.of(t1, t2, t3);
 
-        when(taskRepository.findAllByUserIdAndDeletedFalseOrderByCreatedOnDesc(userId))
+        when(taskRepository.findAllByUserIdAndProjectNullAndDeletedFalseOrderByCreatedOnDesc(userId))
                 .thenReturn(tasks);
 
         Activity a1 = new Activity(); a1.setType(ActivityType.TASK_CREATED);
         Activity a2 = new Activity(); a2.setType(ActivityType.TASK_COMPLETED);
 
-        when(activityService.getActivityByTypeAndUserId(userId, "TASK"))
+        when(activityService.getRecentActivity(userId, ActivityCategory.TASK, 3))
                 .thenReturn(List.of(a1, a2));
+        when(userTaskStatsService.getTotals(userId)).thenReturn(UserTaskTotals.of(List.of(
+                stats(userId, true, false, TaskStatus.COMPLETED, 1),
+                stats(userId, true, false, TaskStatus.IN_PROGRESS, 1),
+                stats(userId, true, false, TaskStatus.TODO, 1)
+        )));
 
 
-        ModelAndView mv = taskService.buildTasksPageView(user);
+        ModelAndView mv = taskService.buildTasksPageView(UserView.of(user));
 
         assertEquals("tasks", mv.getViewName());
-        assertEquals(user, mv.getModel().get("user"));
+        assertEquals(UserView.of(user), mv.getModel().get("user"));
         assertEquals(tasks, mv.getModel().get("tasks"));
 
-        assertEquals(1, mv.getModel().get("countCompletedTasks"));
-        assertEquals(1, mv.getModel().get("countInProgressTasks"));
-        assertEquals(1, mv.getModel().get("countTodoTasks"));
+        assertEquals(1L, mv.getModel().get("countCompletedTasks"));
+        assertEquals(1L, mv.getModel().get("countInProgressTasks"));
+        assertEquals(1L, mv.getModel().get("countTodoTasks"));
 
         assertEquals(33, mv.getModel().get("completedTasksPercentage"));
         assertEquals(33, mv.getModel().get("inProgressTasksPercentage"));
@@ -915,37 +884,6 @@ public class TaskServiceUTest {
         assertEquals(2, recent.size());
     }
 
-    @Test
-    void whenGetUpcomingTasks_shouldReturnNonCompletedNonOverdueSortedTasks() {
-        UUID userId = UUID.randomUUID();
-        LocalDateTime now = LocalDateTime.now();
-
-        Task task1 = new Task();
-        task1.setStatus(TaskStatus.TODO);
-        task1.setDueDate(now.plusDays(3));
-
-        Task task2 = new Task();
-        task2.setStatus(TaskStatus.IN_PROGRESS);
-        task2.setDueDate(now.plusDays(1));
-
-        Task task3 = new Task();
-        task3.setStatus(TaskStatus.COMPLETED);
-        task3.setDueDate(now.plusDays(5));
-
-        Task t4 = new Task();
-        t4.setStatus(TaskStatus.OVERDUE);
-        t4.setDueDate(now.plusHours(5));
-
-        when(taskRepository.findAllByUserIdAndProjectNullAndDeletedFalse(userId))
-                .thenReturn(List.of(task1, task2, task3, t4));
-
-        List<Task> result = taskService.getUpcomingTasks(userId);
-
-        assertEquals(2, result.size());
-        assertEquals(task2, result.get(0));
-        assertEquals(task1, result.get(1));
-    }
-
     @Test
     void whenGetTasksByProjectIdNotDeleted_shouldReturnTasksFromRepository() {
         UUID projectId = UUID.randomUUID();
@@ -963,47 +901,8 @@ public class TaskServiceUTest {
         assertTrue(result.contains(task2));
     }
 
-    @Test
-    void whenInvokeUpcomingDeadlineChecker_shouldCallProcessUpcomingDeadlineForEachTask() {
-        Task task1 = mock(Task.class);
-        Task task2 = mock(Task.class);
-
-        when(taskRepository.findByStatusNotAndDeletedFalse(TaskStatus.COMPLETED))
-                .thenReturn(List.of(task1, task2));
-
-        TaskService spyService = Mockito.spy(taskService);
-
-        doNothing().when(spyService).processUpcomingDeadline(any(Task.class));
-
-        spyService.upcomingDeadlineChecker();
-
-        verify(taskRepository)
-                .findByStatusNotAndDeletedFalse(TaskStatus.COMPLETED);
-
-        verify(spyService).processUpcomingDeadline(task1);
-        verify(spyService).processUpcomingDeadline(task2);
-    }
-
-    @Test
-    void checkForOverdueTasks_shouldCallProcessTaskForEachTask() {
-        Task t1 = mock(Task.class);
-        Task t2 = mock(Task.class);
-
-        when(taskRepository.findByDueDateBeforeAndStatusNotAndDeletedFalse(
-                any(LocalDateTime.class),
-                eq(TaskStatus.COMPLETED)))
-                .thenReturn(List.of(t1, t2));
-
-        TaskService spyService = Mockito.spy(taskService);
-        doNothing().when(spyService).processTask(any(Task.class));
-
-        spyService.checkForOverdueTasks();
-
-        verify(taskRepository).findByDueDateBeforeAndStatusNotAndDeletedFalse(
-                any(LocalDateTime.class), eq(TaskStatus.COMPLETED));
-
-        verify(spyService).processTask(t1);
-        verify(spyService).processTask(t2);
+    private UserTaskStats stats(UUID userId, boolean personal, boolean deleted, TaskStatus status, long count) {
+        return new UserTaskStats(new UserTaskStatsKey(userId, personal, deleted, status, TaskPriority.MEDIUM), count);
     }
 
     public Task randomTask() {
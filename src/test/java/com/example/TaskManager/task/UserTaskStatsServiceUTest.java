@@ -0,0 +1,109 @@
+package com.example.TaskManager.task;
+
+import com.example.TaskManager.task.model.Task;
+import com.example.TaskManager.task.model.TaskPriority;
+import com.example.TaskManager.task.model.TaskStatus;
+import com.example.TaskManager.task.model.UserTaskStatsKey;
+import com.example.TaskManager.task.repository.UserTaskStatsRepository;
+import com.example.TaskManager.task.service.UserTaskStatsService;
+import com.example.TaskManager.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserTaskStatsServiceUTest {
+
+    @Mock
+    private UserTaskStatsRepository userTaskStatsRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserTaskStatsService userTaskStatsService;
+
+    @BeforeEach
+    void setUp() {
+        userTaskStatsService = new UserTaskStatsService(userTaskStatsRepository, transactionManager, 500, 10);
+    }
+
+    @Test
+    void whenTaskIsRecordedForNewKey_thenStatsRowIsInserted() {
+        Task task = task(TaskStatus.TODO);
+        UserTaskStatsKey key = UserTaskStatsKey.of(task);
+
+        when(userTaskStatsRepository.increment(key, 1)).thenReturn(0);
+
+        userTaskStatsService.record(task);
+
+        verify(userTaskStatsRepository).upsert(key, 1);
+    }
+
+    @Test
+    void whenTaskIsRecordedForExistingKey_thenCountIsIncremented() {
+        Task task = task(TaskStatus.TODO);
+
+        when(userTaskStatsRepository.increment(UserTaskStatsKey.of(task), 1)).thenReturn(1);
+
+        userTaskStatsService.record(task);
+
+        verify(userTaskStatsRepository, never()).upsert(any(), anyLong());
+    }
+
+    @Test
+    void whenTaskChangesStatus_thenCountMovesBetweenKeys() {
+        Task task = task(TaskStatus.TODO);
+        UserTaskStatsKey before = UserTaskStatsKey.of(task);
+        task.setStatus(TaskStatus.COMPLETED);
+
+        when(userTaskStatsRepository.increment(any(), anyLong())).thenReturn(1);
+
+        userTaskStatsService.move(before, task);
+
+        verify(userTaskStatsRepository).increment(before, -1);
+        verify(userTaskStatsRepository).increment(before.toBuilder().status(TaskStatus.COMPLETED).build(), 1);
+    }
+
+    @Test
+    void whenKeyIsUnchanged_thenMoveDoesNothing() {
+        Task task = task(TaskStatus.TODO);
+
+        userTaskStatsService.move(UserTaskStatsKey.of(task), task);
+
+        verify(userTaskStatsRepository, never()).increment(any(), anyLong());
+    }
+
+    @Test
+    void whenSourceRowIsMissing_thenOnlyTheTargetRowIsInserted() {
+        Task task = task(TaskStatus.TODO);
+        UserTaskStatsKey before = UserTaskStatsKey.of(task);
+        task.setDeleted(true);
+
+        when(userTaskStatsRepository.increment(any(), anyLong())).thenReturn(0);
+
+        userTaskStatsService.move(before, task);
+
+        verify(userTaskStatsRepository).increment(before, -1);
+        verify(userTaskStatsRepository).upsert(UserTaskStatsKey.of(task), 1);
+    }
+
+    private Task task(TaskStatus status) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .user(User.builder().id(UUID.randomUUID()).build())
+                .status(status)
+                .priority(TaskPriority.HIGH)
+                .build();
+    }
+}
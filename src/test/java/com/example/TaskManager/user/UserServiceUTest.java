@@ -1,25 +1,35 @@
 package com.example.TaskManager.user;
 
+import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.exception.user.EmailAlreadyExistException;
 import com.example.TaskManager.exception.user.UserNotFoundException;
 import com.example.TaskManager.exception.user.UsernameAlreadyExistException;
+import com.example.TaskManager.job.model.JobProgress;
+import com.example.TaskManager.job.service.JobRegistry;
 import com.example.TaskManager.notification.NotificationMessages;
 import com.example.TaskManager.notification.NotificationType;
 import com.example.TaskManager.notification.service.NotificationService;
+import com.example.TaskManager.project.repository.ProjectRepository;
+import com.example.TaskManager.tag.repository.TagRepository;
+import com.example.TaskManager.task.repository.TaskRepository;
+import com.example.TaskManager.task.service.TaskDeadlineQueue;
+import com.example.TaskManager.task.service.UserTaskStatsService;
 import com.example.TaskManager.user.model.User;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.repository.UserRepository;
 import com.example.TaskManager.user.service.UserService;
+import com.example.TaskManager.user.service.UserViewCache;
 import com.example.TaskManager.web.dto.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -32,6 +42,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.BDDAssertions.within;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,13 +52,36 @@ public class UserServiceUTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserViewCache userViewCache;
+    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private ActivityService activityService;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private UserTaskStatsService userTaskStatsService;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private JobRegistry jobRegistry;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TaskDeadlineQueue taskDeadlineQueue;
 
-    @InjectMocks
     private UserService userService;
 
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, userViewCache, passwordEncoder, notificationService, activityService, taskRepository,
+                userTaskStatsService, taskDeadlineQueue, projectRepository, tagRepository, jobRegistry, transactionManager, 5000);
+    }
+
 
     @Test
     void whenRegisterNewUser_andRepositoryReturnsOptionalPresentWithExistingUsername_thenThrowsException() {
@@ -133,7 +167,7 @@ public class UserServiceUTest {
         assertThat(user.getCreatedOn()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
         assertEquals(registerRequest.getLastName(), user.getLastName());
         assertEquals(UserRole.USER, user.getRole());
-        assertNull(user.getImage());
+        assertNull(user.getAvatarHash());
         assertThat(user.getModifiedOn()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
         assertTrue(user.isActive());
         assertTrue(user.isEmailNotificationEnabled());
@@ -301,6 +335,7 @@ public class UserServiceUTest {
         userService.blockAccount(userId);
 
         assertFalse(user.isActive());
+        verify(userViewCache).evict(userId);
     }
 
     @Test
@@ -363,7 +398,7 @@ public class UserServiceUTest {
         assertEquals("Ivan", user.getFirstName());
         assertEquals("Petrov", user.getLastName());
         assertEquals(UserRole.USER, user.getRole());
-        assertNull(user.getImage());
+        assertNull(user.getAvatarHash());
         assertThat(user.getModifiedOn()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
         assertTrue(user.isActive());
         assertTrue(user.isEmailNotificationEnabled());
@@ -425,10 +460,38 @@ public class UserServiceUTest {
                 .id(userId)
                 .build();
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(activityService.countByUserId(userId)).thenReturn(10L);
+        List<UUID> openTaskIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(taskRepository.findIdsByUserOrProjectOwnerIdAndStatusNotIn(userId, TaskDeadlineQueue.SETTLED_STATUSES)).thenReturn(openTaskIds);
+
+        Optional<JobProgress> job = userService.deleteUser(userId);
+
+        assertTrue(job.isEmpty());
+        verify(activityService).purgeActivity(eq(userId), any());
+        verify(userTaskStatsService).removeUser(userId);
+        verify(taskDeadlineQueue).untrackAll(openTaskIds);
+        verify(tagRepository).deleteInBulkByProjectOwnerId(userId);
+        verify(taskRepository).deleteInBulkByUserOrProjectOwnerId(userId);
+        verify(projectRepository).deleteMembershipsByUserId(userId);
+        verify(projectRepository).deleteInBulkByOwnerId(userId);
+        verify(userRepository).deleteById(userId);
+    }
+
+    @Test
+    void whenDeleteUser_withLargeActivityHistory_thenTeardownRunsAsBackgroundJob() {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .id(userId)
+                .build();
+        JobProgress progress = new JobProgress(UUID.randomUUID(), "user-delete", 100_000, LocalDateTime.now());
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(activityService.countByUserId(userId)).thenReturn(100_000L);
+        when(jobRegistry.submit(eq("user-delete"), eq(100_000L), any())).thenReturn(progress);
 
-        userService.deleteUser(userId);
+        Optional<JobProgress> job = userService.deleteUser(userId);
 
-        verify(userRepository).delete(user);
+        assertEquals(Optional.of(progress), job);
+        verify(userRepository, never()).deleteById(any());
     }
 
     @Test
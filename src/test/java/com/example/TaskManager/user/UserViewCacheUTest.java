@@ -0,0 +1,84 @@
+package com.example.TaskManager.user;
+
+import com.example.TaskManager.user.model.UserView;
+import com.example.TaskManager.user.service.UserViewCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class UserViewCacheUTest {
+
+    private CaffeineCacheManager cacheManager;
+    private UserViewCache userViewCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(UserViewCache.CACHE_NAME, Caffeine.newBuilder().maximumSize(10).build());
+        userViewCache = new UserViewCache(cacheManager);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void whenSameUserIsReadTwiceInOneRequest_thenTheSameViewIsReturned() {
+        UUID userId = UUID.randomUUID();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        UserView first = userViewCache.get(userId, loader());
+        cacheManager.getCache(UserViewCache.CACHE_NAME).clear();
+        UserView second = userViewCache.get(userId, loader());
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void whenViewIsCached_thenLaterRequestsDoNotReload() {
+        UUID userId = UUID.randomUUID();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        userViewCache.get(userId, loader());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        userViewCache.get(userId, loader());
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void whenEvicted_thenNextReadInTheSameRequestReloads() {
+        UUID userId = UUID.randomUUID();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        userViewCache.get(userId, loader());
+        userViewCache.evict(userId);
+        UserView reloaded = userViewCache.get(userId, loader());
+
+        assertEquals(2, loads.get());
+        assertEquals("user-2", reloaded.getUsername());
+    }
+
+    private Function<UUID, UserView> loader() {
+        return id -> UserView.builder()
+                .id(id)
+                .username("user-" + loads.incrementAndGet())
+                .build();
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.TaskManager.web;
 
 import com.example.TaskManager.activity.model.Activity;
+import com.example.TaskManager.activity.model.ActivityCounts;
+import com.example.TaskManager.activity.model.ActivityCursor;
+import com.example.TaskManager.activity.model.ActivityFeedPage;
 import com.example.TaskManager.activity.model.ActivityType;
 import com.example.TaskManager.activity.service.ActivityService;
+import com.example.TaskManager.job.model.JobProgress;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.utils.UserUtils;
@@ -21,8 +26,16 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
+import java.time.LocalDateTime;
 import java.util.List;
-
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -50,8 +63,9 @@ public class ActivityControllerApiTest {
                 Activity.builder().type(ActivityType.PROJECT_TASK_CREATED).user(user).build()
         );
 
-        when(userService.getById(user.getId())).thenReturn(user);
-        when(activityService.getByUserId(user.getId())).thenReturn(activities);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(activityService.getFeed(user.getId(), null)).thenReturn(new ActivityFeedPage(activities, null));
+        when(activityService.getCounts(user.getId())).thenReturn(new ActivityCounts(1, 2));
 
         MockHttpServletRequestBuilder httpRequest = get("/activity")
                 .with(authentication(authentication))
@@ -59,7 +73,39 @@ public class ActivityControllerApiTest {
 
         mockMvc.perform(httpRequest)
                 .andExpect(status().isOk())
-                .andExpect(model().attributeExists("user", "activities", "taskCount", "projectCount"));
+                .andExpect(model().attributeExists("user", "feed", "totalCount", "taskCount", "projectCount"))
+                .andExpect(model().attribute("projectCount", 2L))
+                .andExpect(model().attribute("totalCount", 3L));
+
+        verify(activityService, never()).countByUserId(any());
+    }
+
+    @Test
+    void whenGetActivityFeed_shouldRenderNextPageFragment() throws Exception {
+        User user = UserUtils.randomUser();
+        Authentication authentication = UserUtils.generateAuthentication(user, UserRole.USER);
+        LocalDateTime createdOn = LocalDateTime.now().withNano(0);
+        UUID id = UUID.randomUUID();
+
+        List<Activity> activities = List.of(
+                Activity.builder().id(UUID.randomUUID()).type(ActivityType.TASK_CREATED).message("Older").createdOn(createdOn.minusHours(1)).user(user).build()
+        );
+        ActivityCursor next = ActivityCursor.of(activities.get(0));
+
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(activityService.getFeed(eq(user.getId()), eq(new ActivityCursor(createdOn, id))))
+                .thenReturn(new ActivityFeedPage(activities, next));
+
+        MockHttpServletRequestBuilder httpRequest = get("/activity/feed")
+                .param("createdOn", createdOn.toString())
+                .param("id", id.toString())
+                .with(authentication(authentication));
+
+        mockMvc.perform(httpRequest)
+                .andExpect(status().isOk())
+                .andExpect(view().name("activity :: feed"))
+                .andExpect(content().string(containsString("Older")))
+                .andExpect(content().string(containsString("feed-next")));
     }
 
     @Test
@@ -67,7 +113,7 @@ public class ActivityControllerApiTest {
         User user = UserUtils.randomUser();
         Authentication authentication = UserUtils.generateAuthentication(user, UserRole.USER);
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         MockHttpServletRequestBuilder httpRequest = delete("/activity/{id}", user.getId())
                 .with(authentication(authentication))
@@ -78,4 +124,22 @@ public class ActivityControllerApiTest {
                 .andExpect(redirectedUrl("/activity"));
     }
 
+
+    @Test
+    void whenDeleteClearActivity_withLargeHistory_shouldRedirectWithJobProgress() throws Exception {
+        User user = UserUtils.randomUser();
+        Authentication authentication = UserUtils.generateAuthentication(user, UserRole.USER);
+        JobProgress job = new JobProgress(UUID.randomUUID(), "activity-delete", 100_000, LocalDateTime.now());
+
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(activityService.deleteActivity(user.getId())).thenReturn(Optional.of(job));
+
+        MockHttpServletRequestBuilder httpRequest = delete("/activity/{id}", user.getId())
+                .with(authentication(authentication))
+                .with(csrf());
+
+        mockMvc.perform(httpRequest)
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/activity?job=" + job.getId()));
+    }
 }
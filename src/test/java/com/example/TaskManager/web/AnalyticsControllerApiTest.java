@@ -4,6 +4,7 @@ import com.example.TaskManager.analytics.client.AnalyticsClient;
 import com.example.TaskManager.analytics.client.dto.ProjectAnalyticsResponse;
 import com.example.TaskManager.analytics.client.dto.TaskAnalyticsResponse;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.utils.UserUtils;
@@ -51,7 +52,7 @@ public class AnalyticsControllerApiTest {
                 .totalProjects(1)
                 .build();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
         when(analyticsClient.getTaskAnalytics(user.getId())).thenReturn(taskAnalyticsResponse);
         when(analyticsClient.getProjectAnalytics(user.getId())).thenReturn(projectAnalyticsResponse);
 
@@ -78,7 +79,7 @@ public class AnalyticsControllerApiTest {
                 .totalProjects(1)
                 .build();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
         when(analyticsClient.getTaskAnalytics(user.getId())).thenReturn(taskAnalyticsResponse);
         when(analyticsClient.getProjectAnalytics(user.getId())).thenReturn(projectAnalyticsResponse);
 
@@ -0,0 +1,85 @@
+package com.example.TaskManager.web;
+
+import com.example.TaskManager.avatar.model.AvatarSize;
+import com.example.TaskManager.avatar.service.AvatarService;
+import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
+import com.example.TaskManager.user.model.UserRole;
+import com.example.TaskManager.user.service.UserService;
+import com.example.TaskManager.utils.UserUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AvatarController.class)
+public class AvatarControllerApiTest {
+
+    @MockitoBean
+    private AvatarService avatarService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenGetAvatar_shouldStreamPngWithEtagAndCacheControl() throws Exception {
+        Authentication authentication = auth();
+        when(avatarService.load("abc", AvatarSize.MEDIUM)).thenReturn(Optional.of(new byte[]{1, 2, 3}));
+
+        mockMvc.perform(get("/avatars/abc").param("size", "medium").with(authentication(authentication)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-medium\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")));
+    }
+
+    @Test
+    void whenGetAvatar_withMatchingEtag_shouldReturn304WithoutLoading() throws Exception {
+        mockMvc.perform(get("/avatars/abc")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc-small\"")
+                        .with(authentication(auth())))
+                .andExpect(status().isNotModified());
+
+        verify(avatarService, never()).load(any(), any());
+    }
+
+    @Test
+    void whenGetAvatar_withUnknownSize_shouldReturn400WithoutLoading() throws Exception {
+        mockMvc.perform(get("/avatars/abc").param("size", "huge").with(authentication(auth())))
+                .andExpect(status().isBadRequest());
+
+        verify(avatarService, never()).load(any(), any());
+    }
+
+    @Test
+    void whenGetAvatar_withUnknownHash_shouldReturn404() throws Exception {
+        when(avatarService.load("missing", AvatarSize.SMALL)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/avatars/missing").with(authentication(auth())))
+                .andExpect(status().isNotFound());
+    }
+
+    private Authentication auth() {
+        User user = UserUtils.randomUser();
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        return UserUtils.generateAuthentication(user, UserRole.USER);
+    }
+}
@@ -3,8 +3,10 @@ package com.example.TaskManager.web;
 import com.example.TaskManager.activity.service.ActivityService;
 import com.example.TaskManager.project.service.ProjectService;
 import com.example.TaskManager.security.UserData;
+import com.example.TaskManager.task.model.TaskDashboard;
 import com.example.TaskManager.task.service.TaskService;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.service.UserService;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -42,7 +45,11 @@ public class DashboardControllerApiTest {
     @Test
     void getDashboardPage_shouldReturnHomeViewWithUserModelAttributeAndStatusCodeIs200() throws Exception {
         User user = randomUser();
-        when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
+        when(taskService.getDashboard(any())).thenReturn(TaskDashboard.builder()
+                .recentTasks(List.of())
+                .upcomingTasks(List.of())
+                .build());
 
         UserData authentication = new UserData(user.getId(), user.getEmail(), user.getPassword(), user.isActive() ,user.getRole(), null);
         MockHttpServletRequestBuilder httpRequest = get("/dashboard")
@@ -57,7 +64,7 @@ public class DashboardControllerApiTest {
     @Test
     void getHomePageSomethingWentWrongInTheServiceLayer_shouldReturnInternalServerErrorView() throws Exception {
         User user = randomUser();
-        when(userService.getById(any())).thenThrow(RuntimeException.class);
+        when(userService.getView(any())).thenThrow(RuntimeException.class);
 
         UserData authentication = new UserData(user.getId(), user.getEmail(), user.getPassword(), user.isActive() ,user.getRole(), null);
         MockHttpServletRequestBuilder httpRequest = get("/dashboard")
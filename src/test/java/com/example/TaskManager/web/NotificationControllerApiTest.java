@@ -2,9 +2,11 @@ package com.example.TaskManager.web;
 
 import com.example.TaskManager.config.MethodSecurityTestConfig;
 import com.example.TaskManager.config.WebConfiguration;
+import com.example.TaskManager.job.model.JobProgress;
 import com.example.TaskManager.notification.service.NotificationService;
 import com.example.TaskManager.security.UserData;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.utils.UserUtils;
@@ -21,9 +23,11 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -44,7 +48,7 @@ public class NotificationControllerApiTest {
     @Test
     void getNotificationPage_shouldReturnStatus200OkAndNotificationsView() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 new UserData(user.getId(), user.getEmail(), user.getPassword(), true, user.getRole(), null),
@@ -64,7 +68,7 @@ public class NotificationControllerApiTest {
     @Test
     void patchUpdatePreference_WithoutErrors_shouldRedirectToNotificationsPageAndUpdatePreference() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
 
@@ -80,14 +84,14 @@ public class NotificationControllerApiTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/notifications"));
 
-        verify(notificationService).updatePreferences(eq(user), any());
+        verify(notificationService).updatePreferences(eq(UserView.of(user)), any());
         verify(userService).editPreferences(any(), eq(user.getId()));
     }
 
     @Test
     void patchUpdatePreference_withErrors_shouldRedirectToNotificationsPageAndUpdatePreference() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
 
@@ -110,7 +114,7 @@ public class NotificationControllerApiTest {
     @Test
     void deleteClearHistory_shouldRedirectToNotificationsPageAndClearHistory() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
 
@@ -128,7 +132,7 @@ public class NotificationControllerApiTest {
     @Test
     void getNotificationSenderPage_withAdminUser_shouldReturnNotificationSenderPageAndOk200Status() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = createAuthentication(user, UserRole.ADMIN);
 
@@ -141,10 +145,28 @@ public class NotificationControllerApiTest {
                         .andExpect(model().attributeExists("user"));
     }
 
+    @Test
+    void getNotificationSenderPage_withJob_shouldShowBroadcastProgress() throws Exception {
+        User user = UserUtils.randomUser();
+        JobProgress job = new JobProgress(UUID.randomUUID(), "broadcast", 1000, LocalDateTime.now());
+        job.advance(500);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(notificationService.getBroadcastProgress(job.getId())).thenReturn(job);
+
+        Authentication auth = createAuthentication(user, UserRole.ADMIN);
+
+        mockMvc.perform(get("/notifications/sender").param("job", job.getId().toString())
+                        .with(authentication(auth)))
+                .andExpect(status().isOk())
+                .andExpect(view().name("notification-sender"))
+                .andExpect(model().attribute("job", job))
+                .andExpect(content().string(containsString("500 / 1000 users")));
+    }
+
     @Test
     void getNotificationSenderPage_withModeratorUser_shouldReturnNotificationSenderPageAndOk200Status() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = createAuthentication(user, UserRole.MODERATOR);
 
@@ -160,7 +182,7 @@ public class NotificationControllerApiTest {
     @Test
     void getNotificationSenderPage_withNormalUser_shouldReturnNotificationSenderPageAndOk200Status() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = createAuthentication(user, UserRole.USER);
 
@@ -177,8 +199,9 @@ public class NotificationControllerApiTest {
     void sendGlobalNotification_withValidData_shouldRedirect() throws Exception {
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
-        when(userService.getAllUsers()).thenReturn(List.of(user));
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        JobProgress job = new JobProgress(UUID.randomUUID(), "broadcast", 1, LocalDateTime.now());
+        when(notificationService.sendGlobalNotification(any())).thenReturn(job);
 
         Authentication auth = createAuthentication(user, UserRole.ADMIN);
 
@@ -189,10 +212,11 @@ public class NotificationControllerApiTest {
                         .with(csrf())
                         .with(authentication(auth)))
                 .andExpect(status().is3xxRedirection())
-                .andExpect(redirectedUrl("/notifications"));
+                .andExpect(redirectedUrl("/notifications/sender?job=" + job.getId()));
 
         verify(notificationService)
-                .sendGlobalNotification(any(), any());
+                .sendGlobalNotification(any());
+        verify(userService, never()).getAllUsers();
     }
 
     @Test
@@ -200,7 +224,7 @@ public class NotificationControllerApiTest {
     void sendGlobalNotification_withInvalidData_shouldReturnSenderView() throws Exception {
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = createAuthentication(user, UserRole.ADMIN);
 
@@ -214,7 +238,7 @@ public class NotificationControllerApiTest {
                 .andExpect(model().attributeExists("user", "globalNotificationRequest"));
 
         verify(notificationService, never())
-                .sendGlobalNotification(any(), any());
+                .sendGlobalNotification(any());
     }
 
     public Authentication createAuthentication(User user, UserRole role) {
@@ -1,13 +1,16 @@
 package com.example.TaskManager.web;
 
+import com.example.TaskManager.config.MethodSecurityTestConfiguration;
 import com.example.TaskManager.exception.user.UserNotFoundException;
 import com.example.TaskManager.project.model.Project;
+import com.example.TaskManager.project.model.ProjectListItem;
 import com.example.TaskManager.project.model.ProjectStatus;
 import com.example.TaskManager.project.security.ProjectSecurity;
 import com.example.TaskManager.project.service.ProjectService;
 import com.example.TaskManager.security.UserData;
 import com.example.TaskManager.task.model.Task;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.utils.ProjectUtils;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -41,7 +45,7 @@ import java.util.UUID;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@Import(GlobalUserController.class)
+@Import({GlobalUserController.class, MethodSecurityTestConfiguration.class})
 @WebMvcTest(ProjectController.class)
 public class ProjectControllerApiTest {
 
@@ -55,7 +59,7 @@ public class ProjectControllerApiTest {
     @MockitoBean
     private UserService userService;
 
-    @MockitoBean
+    @MockitoBean(name = "projectSecurity")
     private ProjectSecurity projectSecurity;
 
     private Authentication auth(User user) {
@@ -69,17 +73,12 @@ public class ProjectControllerApiTest {
     @Test
     void getProjects_withoutStatus_shouldReturnProjectsIncludedIn() throws Exception {
         User user = UserUtils.randomUser();
-        List<Project> projects = List.of(ProjectUtils.generateProject(user), ProjectUtils.generateProject(user));
-
-        when(userService.getById(user.getId())).thenReturn(user);
-        when(projectService.getProjectsIncludedIn(user)).thenReturn(projects);
+        List<ProjectListItem> projects = List.of(
+                new ProjectListItem(ProjectUtils.generateProject(user), 2),
+                new ProjectListItem(ProjectUtils.generateProject(user), 0));
 
-        when(projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.ACTIVE))
-                .thenReturn(List.of());
-        when(projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.IN_PROGRESS))
-                .thenReturn(List.of());
-        when(projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.COMPLETED))
-                .thenReturn(List.of());
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(projectService.getProjectsIncludedIn(user.getId(), null, 0)).thenReturn(new PageImpl<>(projects));
 
         mockMvc.perform(get("/projects")
                         .with(authentication(auth(user)))
@@ -88,22 +87,18 @@ public class ProjectControllerApiTest {
                 .andExpect(view().name("projects"))
                 .andExpect(model().attributeExists("projects"))
                 .andExpect(model().attributeExists("user"))
-                .andExpect(model().attribute("projects", projects));
+                .andExpect(model().attribute("projects", projects))
+                .andExpect(model().attribute("totalProjects", 2L));
     }
 
     @Test
     void getProjects_withStatus_shouldReturnFilteredProjects() throws Exception {
         User user = UserUtils.randomUser();
-        List<Project> active = List.of(ProjectUtils.generateProject(user));
+        List<ProjectListItem> active = List.of(new ProjectListItem(ProjectUtils.generateProject(user), 1));
 
-        when(userService.getById(user.getId())).thenReturn(user);
-        when(projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.ACTIVE))
-                .thenReturn(active);
-
-        when(projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.IN_PROGRESS))
-                .thenReturn(List.of());
-        when(projectService.getAllByUserIdAndDeletedFalseAndStatus(user.getId(), ProjectStatus.COMPLETED))
-                .thenReturn(List.of());
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(projectService.getProjectsIncludedIn(user.getId(), ProjectStatus.ACTIVE, 0)).thenReturn(new PageImpl<>(active));
+        when(projectService.countByUserIdAndStatus(user.getId(), ProjectStatus.ACTIVE)).thenReturn(1L);
 
         mockMvc.perform(get("/projects")
                         .param("status", "ACTIVE")
@@ -112,6 +107,7 @@ public class ProjectControllerApiTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("projects"))
                 .andExpect(model().attribute("projects", active))
+                .andExpect(model().attribute("activeProjectsCount", 1L))
                 .andExpect(model().attribute("status", "ACTIVE"));
     }
 
@@ -128,8 +124,9 @@ public class ProjectControllerApiTest {
                 .sorted(Comparator.comparing(Task::getCreatedOn))
                 .toList();
 
-        when(userService.getById(user.getId())).thenReturn(user);
-        when(projectService.getByIdNotDeleted(projectId)).thenReturn(project);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(projectSecurity.isMember(eq(projectId), any())).thenReturn(true);
+        when(projectService.getByIdWithTasks(projectId)).thenReturn(project);
         when(projectService.getMembersToString(projectId)).thenReturn("Maxim, Ivan");
 
         Authentication authentication = auth(user);
@@ -139,7 +136,7 @@ public class ProjectControllerApiTest {
                         .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(view().name("project"))
-                .andExpect(model().attribute("user", user))
+                .andExpect(model().attribute("user", UserView.of(user)))
                 .andExpect(model().attribute("project", project))
                 .andExpect(model().attribute("members", "Maxim, Ivan"))
                 .andExpect(model().attribute("tasks", sortedTasks))
@@ -149,7 +146,7 @@ public class ProjectControllerApiTest {
     @Test
     void addProjectPage_shouldReturnAddProjectViewAndModel() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = auth(user);
 
@@ -158,7 +155,7 @@ public class ProjectControllerApiTest {
                         .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(view().name("add-project"))
-                .andExpect(model().attribute("user", user))
+                .andExpect(model().attribute("user", UserView.of(user)))
                 .andExpect(model().attributeExists("createProjectRequest"));
     }
 
@@ -167,6 +164,7 @@ public class ProjectControllerApiTest {
         User user = UserUtils.randomUser();
 
         when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
 
@@ -185,7 +183,7 @@ public class ProjectControllerApiTest {
     @Test
     void postCreateProject_withErrors_shouldReturnAddProjectView() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
 
@@ -205,7 +203,7 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Project project = ProjectUtils.generateProject(user);
 
@@ -231,12 +229,13 @@ public class ProjectControllerApiTest {
     @Test
     void putEditProject_withErrors_shouldReturnEditProjectView() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Project project = ProjectUtils.generateProject(user);
         when(projectService.getByIdNotDeleted(project.getId())).thenReturn(project);
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(project.getId()), any())).thenReturn(true);
 
         mockMvc.perform(put("/projects/{id}/project", project.getId())
                         .with(authentication(auth))
@@ -255,9 +254,10 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(put("/projects/{id}/project", projectId)
                         .with(authentication(auth))
@@ -272,13 +272,31 @@ public class ProjectControllerApiTest {
         verify(projectService).editProject(any(EditProjectRequest.class), eq(projectId));
     }
 
+    @Test
+    void putEditProject_byNonOwner_shouldReturn404WithoutEditing() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        User user = UserUtils.randomUser();
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+
+        mockMvc.perform(put("/projects/{id}/project", projectId)
+                        .with(authentication(auth(user)))
+                        .with(csrf())
+                        .param("title", "Updated Title")
+                        .param("description", "Updated Desc")
+                        .param("tags", "test,spring"))
+                .andExpect(status().isNotFound());
+
+        verify(projectService, never()).editProject(any(), any());
+    }
+
     @Test
     void patchCompleteProject_shouldCallServiceAndRedirect() throws Exception {
         UUID projectId = UUID.randomUUID();
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(patch("/projects/{id}/project", projectId)
                         .with(authentication(auth))
@@ -294,9 +312,10 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
         User user = UserUtils.randomUser();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(post("/projects/{id}/member", projectId)
                 .with(authentication(auth))
@@ -312,9 +331,10 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
         User user = UserUtils.randomUser();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(post("/projects/{id}/member", projectId)
                         .with(authentication(auth))
@@ -323,7 +343,7 @@ public class ProjectControllerApiTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/projects/%s".formatted(projectId)));
 
-        verify(projectService).removeMember(eq(projectId), eq(user), any(RemoveMemberRequest.class));
+        verify(projectService).removeMember(eq(projectId), eq(UserView.of(user)), any(RemoveMemberRequest.class));
     }
 
     @Test
@@ -331,9 +351,10 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(get("/projects/{id}/member", projectId)
                         .with(authentication(auth)))
@@ -348,9 +369,10 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(post("/projects/{id}/invitation", projectId)
                         .with(authentication(auth))
@@ -366,9 +388,10 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(post("/projects/{id}/invitation", projectId)
                         .with(authentication(auth))
@@ -377,7 +400,22 @@ public class ProjectControllerApiTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/projects/" + projectId));
 
-        verify(projectService).inviteMember(any(InviteMemberRequest.class), eq(projectId), eq(user));
+        verify(projectService).inviteMember(any(InviteMemberRequest.class), eq(projectId), eq(UserView.of(user)));
+    }
+
+    @Test
+    void postAddMember_byNonOwner_shouldReturn404WithoutInviting() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        User user = UserUtils.randomUser();
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+
+        mockMvc.perform(post("/projects/{id}/invitation", projectId)
+                        .with(authentication(auth(user)))
+                        .with(csrf())
+                        .param("username", "Maxim12"))
+                .andExpect(status().isNotFound());
+
+        verify(projectService, never()).inviteMember(any(), any(), any());
     }
 
     @Test
@@ -385,9 +423,10 @@ public class ProjectControllerApiTest {
         UUID projectId = UUID.randomUUID();
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication auth = auth(user);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
         mockMvc.perform(get("/projects/{id}/invitation", projectId)
                         .with(authentication(auth)))
@@ -1,5 +1,6 @@
 package com.example.TaskManager.web;
 
+import com.example.TaskManager.config.MethodSecurityTestConfiguration;
 import com.example.TaskManager.project.model.Project;
 import com.example.TaskManager.project.security.ProjectSecurity;
 import com.example.TaskManager.project.service.ProjectService;
@@ -8,6 +9,7 @@ import com.example.TaskManager.task.model.Task;
 import com.example.TaskManager.task.model.TaskPriority;
 import com.example.TaskManager.task.service.TaskService;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.utils.ProjectUtils;
@@ -36,7 +38,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@Import(GlobalUserController.class)
+@Import({GlobalUserController.class, MethodSecurityTestConfiguration.class})
 @WebMvcTest(TaskController.class)
 public class TaskControllerApiTest {
 
@@ -46,7 +48,7 @@ public class TaskControllerApiTest {
     private UserService userService;
     @MockitoBean
     private ProjectService projectService;
-    @MockitoBean
+    @MockitoBean(name = "projectSecurity")
     private ProjectSecurity projectSecurity;
 
     @Autowired
@@ -55,7 +57,7 @@ public class TaskControllerApiTest {
     @Test
     void getCreateTaskPage_shouldReturnCreateTaskPageAndStatus200Ok() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
         MockHttpServletRequestBuilder request = get("/tasks/new-task")
@@ -73,7 +75,7 @@ public class TaskControllerApiTest {
         UUID projectId = UUID.randomUUID();
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
 
@@ -106,11 +108,12 @@ public class TaskControllerApiTest {
                 .project(project)
                 .build();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
         when(projectService.getByIdNotDeleted(projectId)).thenReturn(project);
         when(taskService.createTask(any(), eq(user.getId()), eq(project))).thenReturn(task);
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
         MockHttpServletRequestBuilder request = post("/tasks/new-task/{projectId}", projectId)
                 .formField("title", "title")
                 .formField("description", "desc")
@@ -130,9 +133,10 @@ public class TaskControllerApiTest {
         UUID projectId = UUID.randomUUID();
         User user = UserUtils.randomUser();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
+        when(projectSecurity.isOwner(eq(projectId), any())).thenReturn(true);
         MockHttpServletRequestBuilder request = post("/tasks/new-task/{projectId}", projectId)
                 .formField("title", "ti")
                 .formField("description", "d")
@@ -147,6 +151,26 @@ public class TaskControllerApiTest {
                 .andExpect(model().attributeExists("user" ,"createTaskRequest"));
     }
 
+    @Test
+    void postCreateTaskWithProject_byNonOwner_shouldReturn404WithoutCreating() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        User user = UserUtils.randomUser();
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+
+        MockHttpServletRequestBuilder request = post("/tasks/new-task/{projectId}", projectId)
+                .formField("title", "title")
+                .formField("description", "desc")
+                .formField("priority", TaskPriority.LOW.name())
+                .formField("dueDate", LocalDateTime.now().plusDays(1).toString())
+                .with(csrf())
+                .with(authentication(createAuthentication(user, UserRole.USER)));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNotFound());
+
+        verify(taskService, never()).createTask(any(), any(), any());
+    }
+
     @Test
     void postCreateTaskWithoutProject_withNoErrors() throws  Exception {
         UUID projectId = UUID.randomUUID();
@@ -158,7 +182,7 @@ public class TaskControllerApiTest {
                 .project(null)
                 .build();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
         when(taskService.createTask(any(), eq(user.getId()), eq(null))).thenReturn(task);
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
@@ -186,7 +210,7 @@ public class TaskControllerApiTest {
                 .project(null)
                 .build();
 
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
         when(taskService.createTask(any(), eq(user.getId()), eq(null))).thenReturn(task);
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
@@ -213,7 +237,7 @@ public class TaskControllerApiTest {
         when(taskService.getByIdNotDeleted(task.getId())).thenReturn(task);
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         MockHttpServletRequestBuilder request = get("/tasks/{id}/task", task.getId())
                 .with(authentication(authentication))
@@ -232,7 +256,7 @@ public class TaskControllerApiTest {
         task.setId(UUID.randomUUID());
 
         when(taskService.getByIdNotDeleted(task.getId())).thenReturn(task);
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
         when(taskService.checkIfTaskHasProjectRedirect(task.getId())).thenReturn("redirect:/tasks");
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
@@ -257,7 +281,7 @@ public class TaskControllerApiTest {
         task.setId(UUID.randomUUID());
 
         when(taskService.getByIdNotDeleted(task.getId())).thenReturn(task);
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = createAuthentication(user, UserRole.USER);
 
@@ -284,7 +308,7 @@ public class TaskControllerApiTest {
         Project project = ProjectUtils.generateProject(user);
 
         when(taskService.getByIdNotDeleted(task.getId())).thenReturn(task);
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
         when(projectService.getByIdNotDeleted(project.getId())).thenReturn(project);
 
         when(taskService.checkIfTaskHasProjectRedirect(task.getId())).thenReturn("redirect:/projects/%s".formatted(project.getId()));
@@ -1,7 +1,9 @@
 package com.example.TaskManager.web;
 
+import com.example.TaskManager.avatar.service.AvatarService;
 import com.example.TaskManager.security.UserData;
 import com.example.TaskManager.user.model.User;
+import com.example.TaskManager.user.model.UserView;
 import com.example.TaskManager.user.model.UserRole;
 import com.example.TaskManager.user.service.UserService;
 import com.example.TaskManager.utils.UserUtils;
@@ -21,8 +23,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -37,6 +41,9 @@ public class UsersControllerApiTest {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private AvatarService avatarService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -48,7 +55,7 @@ public class UsersControllerApiTest {
 
         Authentication auth = generateAuthentication(user);
 
-        when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
         when(userService.getSortedUsers()).thenReturn(List.of(user));
 
         mockMvc.perform(get("/users").with(authentication(auth)))
@@ -61,7 +68,7 @@ public class UsersControllerApiTest {
     @Test
     void getProfilePage_shouldReturnSettingsView() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
 
         UserDetails userDetails = normalUserAuthentication();
         MockHttpServletRequestBuilder httpRequest = get("/users/" + user.getId() + "/profile")
@@ -77,7 +84,7 @@ public class UsersControllerApiTest {
     @Test
     void deleteUser_shouldRedirectLogout() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
 
         UserDetails userDetails = normalUserAuthentication();
         MockHttpServletRequestBuilder httpRequest = delete("/users/" + user.getId() + "/user")
@@ -92,7 +99,7 @@ public class UsersControllerApiTest {
     @Test
     void patchChangeRole_shouldChangeRoleAndRedirectToUsers() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
 
         UserDetails userDetails = adminAuthentication();
         MockHttpServletRequestBuilder httpRequest = patch("/users/" + UUID.randomUUID() + "/role")
@@ -109,7 +116,7 @@ public class UsersControllerApiTest {
     @Test
     void blockUserAccount_fromAdminUser_shouldRedirectToUsers() throws Exception {
         User user = UserUtils.randomUser();
-        when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
 
         UserDetails userDetails = adminAuthentication();
 
@@ -127,6 +134,7 @@ public class UsersControllerApiTest {
     void putChangePassword_shouldChangePasswordAndRedirectToDashboard() throws Exception {
         User user = UserUtils.randomUser();
         when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
 
         UserDetails userDetails = normalUserAuthentication();
         MockHttpServletRequestBuilder httpRequest = put("/users/" + user.getId() + "/password")
@@ -156,6 +164,7 @@ public class UsersControllerApiTest {
     void putChangePassword_shouldReturnSettingsPage() throws Exception {
         User user = UserUtils.randomUser();
         when(userService.getById(any())).thenReturn(user);
+        when(userService.getView(any())).thenReturn(UserView.of(user));
 
         UserDetails userDetails = normalUserAuthentication();
 
@@ -178,6 +187,7 @@ public class UsersControllerApiTest {
 
         User user = UserUtils.randomUser();
         when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = generateAuthentication(user);
 
@@ -202,7 +212,7 @@ public class UsersControllerApiTest {
     void editProfile_withErrors_shouldReturnSettingsView() throws Exception {
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         MockMultipartFile image = new MockMultipartFile(
                 "image",
@@ -233,7 +243,7 @@ public class UsersControllerApiTest {
     void editProfile_shouldReturnSettingsView() throws Exception {
 
         User user = UserUtils.randomUser();
-        when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         MockMultipartFile image = new MockMultipartFile(
                 "image",
@@ -265,7 +275,9 @@ public class UsersControllerApiTest {
     void editProfile_withRemovedImage_shouldEditProfileAndRedirectToDashboard() throws Exception {
 
         User user = UserUtils.randomUser();
+        user.setAvatarHash("hash");
         when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         MockMultipartFile image = new MockMultipartFile(
                 "image",
@@ -289,7 +301,8 @@ public class UsersControllerApiTest {
 
         verify(userService).update(user);
         verify(userService).updateProfile(eq(user.getId()) ,any());
-        assertNull(user.getImage());
+        assertNull(user.getAvatarHash());
+        verify(avatarService, never()).store(any());
     }
 
     @Test
@@ -297,6 +310,8 @@ public class UsersControllerApiTest {
 
         User user = UserUtils.randomUser();
         when(userService.getById(user.getId())).thenReturn(user);
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
+        when(avatarService.store(any())).thenReturn(Optional.of("hash"));
 
         MockMultipartFile image = new MockMultipartFile(
                 "image",
@@ -320,14 +335,14 @@ public class UsersControllerApiTest {
 
         verify(userService).update(user);
         verify(userService).updateProfile(eq(user.getId()) ,any());
-        assertNotNull(user.getImage());
+        assertEquals("hash", user.getAvatarHash());
     }
 
     @Test
     void getProfilePage_shouldReturnIsOk200AndSettingsView() throws Exception {
         User user = UserUtils.randomUser();
-        user.setImage(new byte[]{1, 2, 3});
-        when(userService.getById(user.getId())).thenReturn(user);
+        user.setAvatarHash("hash");
+        when(userService.getView(user.getId())).thenReturn(UserView.of(user));
 
         Authentication authentication = generateAuthentication(user);
         MockHttpServletRequestBuilder httpRequest = get("/users/" + user.getId() + "/profile")
@@ -337,9 +352,9 @@ public class UsersControllerApiTest {
         mockMvc.perform(httpRequest)
                 .andExpect(status().isOk())
                 .andExpect(view().name("settings"))
-                .andExpect(model().attributeExists("user", "base64Image", "editProfileRequest", "changePasswordRequest"));
-
-        assertNotNull(user.getImage());
+                .andExpect(model().attributeExists("user", "editProfileRequest", "changePasswordRequest"))
+                .andExpect(model().attribute("avatarUrl", "/avatars/hash?size=small"))
+                .andExpect(content().string(containsString("/avatars/hash?size=medium")));
     }
 
     private Authentication generateAuthentication(User user) {